@@ -38,6 +38,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import org.controlsfx.ControlsFXSample;
+import org.controlsfx.control.table.IndexedSearchStrategy;
 import org.controlsfx.control.table.TableFilter;
 
 public class HelloTableFilter extends ControlsFXSample {
@@ -140,7 +141,7 @@ public class HelloTableFilter extends ControlsFXSample {
                 });
             } else {
                 // fallback to normal
-                tableFilter.setSearchStrategy((inputString, subjectString) -> subjectString.toLowerCase().contains(inputString.toLowerCase()));
+                tableFilter.setSearchStrategy(IndexedSearchStrategy.CONTAINS_IGNORE_CASE);
             }
         });
 
@@ -34,6 +34,7 @@ import javafx.scene.control.TextField;
 import javafx.util.Callback;
 import javafx.util.StringConverter;
 
+import org.controlsfx.control.textfield.AsyncSuggestionProvider;
 import org.controlsfx.control.textfield.AutoCompletionBinding;
 
 /**
@@ -111,6 +112,39 @@ public class AutoCompletionTextFieldBinding<T>  extends AutoCompletionBinding<T>
         getCompletionTarget().focusedProperty().addListener(focusChangedListener);
     }
 
+    /**
+     * Creates a new auto-completion binding between the given textField 
+     * and the given asynchronous suggestion provider.
+     * 
+     * @param textField
+     * @param asyncSuggestionProvider
+     */
+    public AutoCompletionTextFieldBinding(final TextField textField,
+            AsyncSuggestionProvider<T> asyncSuggestionProvider) {
+
+        this(textField, asyncSuggestionProvider, AutoCompletionTextFieldBinding
+                .<T>defaultStringConverter());
+    }
+
+    /**
+     * Creates a new auto-completion binding between the given textField 
+     * and the given asynchronous suggestion provider.
+     * 
+     * @param textField
+     * @param asyncSuggestionProvider
+     * @param converter
+     */
+    public AutoCompletionTextFieldBinding(final TextField textField,
+            AsyncSuggestionProvider<T> asyncSuggestionProvider,
+            final StringConverter<T> converter) {
+
+        super(textField, asyncSuggestionProvider, converter);
+        this.converter = converter; 
+
+        getCompletionTarget().textProperty().addListener(textChangeListener);
+        getCompletionTarget().focusedProperty().addListener(focusChangedListener);
+    }
+
 
     /***************************************************************************
      *                                                                         *
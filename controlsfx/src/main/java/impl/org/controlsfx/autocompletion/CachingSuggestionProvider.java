@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import javafx.util.Duration;
+
+import org.controlsfx.control.textfield.AsyncSuggestionProvider;
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+
+/**
+ * An {@link AsyncSuggestionProvider} that keeps the suggestions published by another
+ * one in a LRU cache, for a limited time. The cache is keyed by the normalized user
+ * text (trimmed and lower cased). Only results that have been completely published
+ * are cached: cancelled or failed requests aren't.
+ *
+ * @param <T> Type of suggestions
+ */
+public class CachingSuggestionProvider<T> implements AsyncSuggestionProvider<T> {
+
+    private final AsyncSuggestionProvider<T> provider;
+    private final long timeToLive;
+    private final Map<String, Entry<T>> cache;
+
+    /**
+     * Creates a new CachingSuggestionProvider
+     * @param provider The provider of the suggestions
+     * @param maxSize The maximum number of cached results
+     * @param timeToLive How long the results are cached
+     */
+    public CachingSuggestionProvider(AsyncSuggestionProvider<T> provider, final int maxSize, Duration timeToLive) {
+        this.provider = provider;
+        this.timeToLive = (long) (timeToLive.toMillis() * 1_000_000);
+        this.cache = new LinkedHashMap<String, Entry<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Flow.Publisher<Collection<T>> fetch(ISuggestionRequest request) {
+        final String key = normalize(request.getUserText());
+        List<T> cached = get(key);
+        if (cached != null) {
+            return new CompletionStagePublisher<>(CompletableFuture.completedFuture(cached));
+        }
+        final Flow.Publisher<Collection<T>> publisher = provider.fetch(request);
+        if (publisher == null) {
+            return null;
+        }
+        // records the batches while forwarding them, and caches them on completion
+        return subscriber -> publisher.subscribe(new Flow.Subscriber<Collection<T>>() {
+            private final List<T> suggestions = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(Collection<T> batch) {
+                suggestions.addAll(batch);
+                subscriber.onNext(batch);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                if (!request.isCancelled()) {
+                    put(key, suggestions);
+                }
+                subscriber.onComplete();
+            }
+        });
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    private synchronized List<T> get(String key) {
+        Entry<T> entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.time > timeToLive) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.suggestions;
+    }
+
+    private synchronized void put(String key, List<T> suggestions) {
+        cache.put(key, new Entry<>(Collections.unmodifiableList(suggestions), System.nanoTime()));
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase();
+    }
+
+    private static final class Entry<T> {
+        private final List<T> suggestions;
+        private final long time;
+
+        Entry(List<T> suggestions, long time) {
+            this.suggestions = suggestions;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * A publisher of a single batch of suggestions, the result of a {@link CompletionStage}. 
+ * Each subscriber receives it once it has requested it and the stage has completed.
+ * Cancelling a subscription before then also cancels the stage, if it supports
+ * {@link CompletionStage#toCompletableFuture()}, so the provider can stop early.
+ *
+ * @param <T> Type of suggestions
+ */
+public class CompletionStagePublisher<T> implements Flow.Publisher<Collection<T>> {
+
+    private final CompletionStage<? extends Collection<T>> stage;
+
+    public CompletionStagePublisher(CompletionStage<? extends Collection<T>> stage) {
+        this.stage = stage;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Collection<T>> subscriber) {
+        new StageSubscription<>(subscriber, stage).subscribe();
+    }
+
+    private static final class StageSubscription<T> implements Flow.Subscription {
+        private final Flow.Subscriber<? super Collection<T>> subscriber;
+        private final CompletionStage<? extends Collection<T>> stage;
+        private boolean requested;
+        private boolean completed;
+        private boolean done;
+        private Collection<T> result;
+        private Throwable failure;
+
+        StageSubscription(Flow.Subscriber<? super Collection<T>> subscriber, CompletionStage<? extends Collection<T>> stage) {
+            this.subscriber = subscriber;
+            this.stage = stage;
+        }
+
+        void subscribe() {
+            subscriber.onSubscribe(this);
+            stage.whenComplete((value, throwable) -> {
+                synchronized (this) {
+                    completed = true;
+                    result = value;
+                    failure = throwable;
+                }
+                deliver();
+            });
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                synchronized (this) {
+                    failure = new IllegalArgumentException("Non positive request: " + n); //$NON-NLS-1$
+                    completed = true;
+                }
+            } else {
+                synchronized (this) {
+                    requested = true;
+                }
+            }
+            deliver();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            try {
+                stage.toCompletableFuture().cancel(true);
+            } catch (UnsupportedOperationException e) {
+                // the stage can't be cancelled, its result is ignored
+            }
+        }
+
+        private void deliver() {
+            Collection<T> value;
+            Throwable throwable;
+            synchronized (this) {
+                if (done || !completed || (!requested && failure == null)) {
+                    return;
+                }
+                done = true;
+                value = result;
+                throwable = failure;
+            }
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                if (value != null) {
+                    subscriber.onNext(value);
+                }
+                subscriber.onComplete();
+            }
+        }
+    }
+}
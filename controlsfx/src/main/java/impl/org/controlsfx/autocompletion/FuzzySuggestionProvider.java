@@ -0,0 +1,452 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.util.Callback;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+
+/**
+ * A typo tolerant suggestion provider: a suggestion matches if it contains the 
+ * user text with at most {@link #maxErrorsProperty() maxErrors} inserted, deleted
+ * or substituted characters, ignoring case. A user text allows at most one 
+ * error for every three of its characters, so texts shorter than three
+ * characters allow zero errors and match only the suggestions containing them. 
+ * The matches are ranked by number of errors, then by how early the user text 
+ * is found, then by length and alphabetically, and only the best 
+ * {@link #limitProperty() limit} are returned.
+ *
+ * The approximate matching uses the bitap algorithm with k errors (Wu-Manber),
+ * for user texts of up to 63 characters, longer ones are matched exactly.
+ * Since scoring is costly, each suggestion keeps a bitmask of the characters it 
+ * contains, which rejects most of the non matching suggestions at once: a match
+ * can't miss more than maxErrors distinct characters of the user text. The 
+ * suggestions are scored in parallel, in the given {@link ForkJoinPool}, and
+ * the scoring stops as soon as the request is cancelled.
+ *
+ * @param <T> Type of suggestions
+ */
+public class FuzzySuggestionProvider<T> extends SuggestionProvider<T> {
+
+    private static final int SPLIT_THRESHOLD = 4096;
+    private static final int CANCEL_CHECK_INTERVAL = 512;
+    private static final int MAX_PATTERN_LENGTH = 63;
+
+    private final Callback<T, String> stringConverter;
+    private final ForkJoinPool pool;
+    private final List<T> suggestions = new ArrayList<>();
+    private final Object suggestionsLock = new Object();
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * The maximum number of errors allowed for a suggestion to match. A user
+     * text allows at most one error for every three of its characters, so 
+     * texts shorter than three characters allow zero errors and a single 
+     * character isn't matched by everything.
+     *
+     * @defaultValue 1
+     */
+    private final IntegerProperty maxErrors = new SimpleIntegerProperty(this, "maxErrors", 1); //$NON-NLS-1$
+
+    /**
+     * The maximum number of suggestions returned for a request. If it is 
+     * zero or less, all the matching suggestions are returned.
+     *
+     * @defaultValue 100
+     */
+    private final IntegerProperty limit = new SimpleIntegerProperty(this, "limit", 100); //$NON-NLS-1$
+
+    /**
+     * Creates a new FuzzySuggestionProvider, based on the toString() method 
+     * of the suggestions, that uses the common pool.
+     */
+    public FuzzySuggestionProvider() {
+        this(null);
+    }
+
+    /**
+     * Creates a new FuzzySuggestionProvider that uses the common pool.
+     * @param stringConverter A stringConverter which converts generic T into a string
+     */
+    public FuzzySuggestionProvider(Callback<T, String> stringConverter) {
+        this(stringConverter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new FuzzySuggestionProvider
+     * @param stringConverter A stringConverter which converts generic T into a string
+     * @param pool The pool in which the suggestions are scored
+     */
+    public FuzzySuggestionProvider(Callback<T, String> stringConverter, ForkJoinPool pool) {
+        this.stringConverter = stringConverter != null ? stringConverter : 
+                obj -> obj != null ? obj.toString() : ""; //$NON-NLS-1$
+        this.pool = pool != null ? pool : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Gets maxErrorsProperty
+     *
+     * @return the property
+     */
+    public final IntegerProperty maxErrorsProperty() {
+        return maxErrors;
+    }
+
+    /**
+     * Gets the value of the property maxErrors
+     *
+     * @return the value of the property
+     */
+    public final int getMaxErrors() {
+        return maxErrors.get();
+    }
+
+    /**
+     * Sets the value of the property maxErrors
+     *
+     * @param value the maximum number of errors allowed for a suggestion to match
+     */
+    public final void setMaxErrors(int value) {
+        maxErrors.set(value);
+    }
+
+    /**
+     * Gets limitProperty
+     *
+     * @return the property
+     */
+    public final IntegerProperty limitProperty() {
+        return limit;
+    }
+
+    /**
+     * Gets the value of the property limit
+     *
+     * @return the value of the property
+     */
+    public final int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Sets the value of the property limit
+     *
+     * @param value the maximum number of suggestions returned for a request
+     */
+    public final void setLimit(int value) {
+        limit.set(value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addPossibleSuggestions(Collection<T> newPossible) {
+        synchronized (suggestionsLock) {
+            suggestions.addAll(newPossible);
+            snapshot = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearSuggestions() {
+        synchronized (suggestionsLock) {
+            suggestions.clear();
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public Collection<T> call(final ISuggestionRequest request) {
+        Snapshot<T> current = getSnapshot();
+        String userText = request.getUserText();
+        if (userText.isEmpty()) {
+            return isShowAllIfEmpty() ? new ArrayList<>(current.items) : new ArrayList<>();
+        }
+        Query query = new Query(userText.toLowerCase(), Math.max(0, Math.min(getMaxErrors(), userText.length() / 3)));
+        int max = getLimit() > 0 ? getLimit() : Integer.MAX_VALUE;
+
+        List<Match> matches = pool.invoke(new ScoreTask<>(current, query, max, request, 0, current.keys.length));
+        List<T> result = new ArrayList<>(matches.size());
+        if (!request.isCancelled()) {
+            for (Match match : matches) {
+                result.add(current.items.get(match.index));
+            }
+        }
+        return result;
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    protected Comparator<T> getComparator() {
+        return Comparator.comparing(t -> stringConverter.call(t).toLowerCase());
+    }
+
+    /**{@inheritDoc}*/
+    @Override
+    protected boolean isMatch(T suggestion, ISuggestionRequest request) {
+        String userText = request.getUserText().toLowerCase();
+        Query query = new Query(userText, Math.max(0, Math.min(getMaxErrors(), userText.length() / 3)));
+        return query.errors(stringConverter.call(suggestion).toLowerCase()) != null;
+    }
+
+    private Snapshot<T> getSnapshot() {
+        Snapshot<T> current = snapshot;
+        if (current == null) {
+            synchronized (suggestionsLock) {
+                current = snapshot;
+                if (current == null) {
+                    current = new Snapshot<>(suggestions, stringConverter);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the bit of the given character in the character masks: one bit
+     * for each lower case letter and digit, the other characters share the 
+     * remaining bits.
+     */
+    private static int bit(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        } else if (c >= '0' && c <= '9') {
+            return 26 + c - '0';
+        }
+        return 36 + c % 28;
+    }
+
+    private static long mask(String text) {
+        long mask = 0;
+        for (int i = 0; i < text.length(); i++) {
+            mask |= 1L << bit(text.charAt(i));
+        }
+        return mask;
+    }
+
+    /**
+     * Immutable copy of the suggestions, with their lower cased strings and
+     * character masks.
+     */
+    private static final class Snapshot<T> {
+        private final List<T> items;
+        private final String[] keys;
+        private final long[] masks;
+
+        Snapshot(List<T> suggestions, Callback<T, String> stringConverter) {
+            items = new ArrayList<>(suggestions);
+            keys = new String[items.size()];
+            masks = new long[items.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = stringConverter.call(items.get(i)).toLowerCase();
+                masks[i] = mask(keys[i]);
+            }
+        }
+    }
+
+    /**
+     * The lower cased user text, with the bitap masks of its characters.
+     */
+    private static final class Query {
+        private final String text;
+        private final int maxErrors;
+        private final long mask;
+        private final long[] asciiMasks = new long[128];
+        private final Map<Character, Long> otherMasks = new HashMap<>();
+
+        Query(String text, int maxErrors) {
+            this.text = text;
+            this.maxErrors = maxErrors;
+            this.mask = mask(text);
+            for (int i = 0; i < text.length() && i < MAX_PATTERN_LENGTH; i++) {
+                char c = text.charAt(i);
+                if (c < 128) {
+                    asciiMasks[c] |= 1L << i;
+                } else {
+                    otherMasks.merge(c, 1L << i, (m1, m2) -> m1 | m2);
+                }
+            }
+        }
+
+        /**
+         * Checks whether the characters of the key can contain the text
+         * with at most maxErrors errors.
+         */
+        boolean mayMatch(long keyMask) {
+            return Long.bitCount(mask & ~keyMask) <= maxErrors;
+        }
+
+        /**
+         * Returns the errors and the end position of the best occurrence of the
+         * text in the key, or null if there is none with at most maxErrors errors.
+         */
+        int[] errors(String key) {
+            int m = text.length();
+            if (m > MAX_PATTERN_LENGTH || maxErrors == 0) {
+                int position = key.indexOf(text);
+                return position < 0 ? null : new int[] {0, position + m - 1};
+            }
+            long found = 1L << (m - 1);
+            long[] states = new long[maxErrors + 1];
+            for (int d = 0; d <= maxErrors; d++) {
+                // the first d characters of the text can be deleted
+                states[d] = (1L << d) - 1;
+            }
+            int bestErrors = Integer.MAX_VALUE;
+            int bestEnd = -1;
+            for (int j = 0; j < key.length(); j++) {
+                char c = key.charAt(j);
+                long charMask = c < 128 ? asciiMasks[c] : otherMasks.getOrDefault(c, 0L);
+                long previous = states[0];
+                states[0] = ((states[0] << 1) | 1) & charMask;
+                for (int d = 1; d <= maxErrors; d++) {
+                    long current = states[d];
+                    states[d] = (((current << 1) | 1) & charMask)  // match
+                            | previous                             // insertion
+                            | (previous << 1) | 1                  // substitution
+                            | (states[d - 1] << 1) | 1;            // deletion
+                    previous = current;
+                }
+                for (int d = 0; d < bestErrors && d <= maxErrors; d++) {
+                    if ((states[d] & found) != 0) {
+                        bestErrors = d;
+                        bestEnd = j;
+                        break;
+                    }
+                }
+                if (bestErrors == 0) {
+                    break;
+                }
+            }
+            return bestErrors == Integer.MAX_VALUE ? null : new int[] {bestErrors, bestEnd};
+        }
+    }
+
+    private static final class Match {
+        private final int index;
+        private final int errors;
+        private final int end;
+        private final String key;
+
+        Match(int index, int errors, int end, String key) {
+            this.index = index;
+            this.errors = errors;
+            this.end = end;
+            this.key = key;
+        }
+    }
+
+    private static final Comparator<Match> RANKING = Comparator.<Match>comparingInt(m -> m.errors)
+            .thenComparingInt(m -> m.end)
+            .thenComparingInt(m -> m.key.length())
+            .thenComparing(m -> m.key);
+
+    /**
+     * Scores a range of the suggestions, splitting it while it is large, and 
+     * returns its best matches in ranking order.
+     */
+    @SuppressWarnings("serial")
+    private static final class ScoreTask<T> extends RecursiveTask<List<Match>> {
+        private final Snapshot<T> snapshot;
+        private final Query query;
+        private final int max;
+        private final ISuggestionRequest request;
+        private final int from;
+        private final int to;
+
+        ScoreTask(Snapshot<T> snapshot, Query query, int max, ISuggestionRequest request, int from, int to) {
+            this.snapshot = snapshot;
+            this.query = query;
+            this.max = max;
+            this.request = request;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Match> compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                ScoreTask<T> left = new ScoreTask<>(snapshot, query, max, request, from, middle);
+                left.fork();
+                List<Match> right = new ScoreTask<>(snapshot, query, max, request, middle, to).compute();
+                return merge(left.join(), right);
+            }
+            // keeps the best matches, with the worst of them on top
+            PriorityQueue<Match> best = new PriorityQueue<>(RANKING.reversed());
+            for (int i = from; i < to; i++) {
+                if ((i - from) % CANCEL_CHECK_INTERVAL == 0 && request.isCancelled()) {
+                    return Collections.emptyList();
+                }
+                if (!query.mayMatch(snapshot.masks[i])) {
+                    continue;
+                }
+                int[] score = query.errors(snapshot.keys[i]);
+                if (score != null) {
+                    Match match = new Match(i, score[0], score[1], snapshot.keys[i]);
+                    if (best.size() < max) {
+                        best.add(match);
+                    } else if (RANKING.compare(match, best.peek()) < 0) {
+                        best.poll();
+                        best.add(match);
+                    }
+                }
+            }
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(RANKING);
+            return matches;
+        }
+
+        private List<Match> merge(List<Match> left, List<Match> right) {
+            List<Match> merged = new ArrayList<>(Math.min(max, left.size() + right.size()));
+            int l = 0;
+            int r = 0;
+            while (merged.size() < max && (l < left.size() || r < right.size())) {
+                if (r == right.size() || (l < left.size() && RANKING.compare(left.get(l), right.get(r)) <= 0)) {
+                    merged.add(left.get(l++));
+                } else {
+                    merged.add(right.get(r++));
+                }
+            }
+            return merged;
+        }
+    }
+}
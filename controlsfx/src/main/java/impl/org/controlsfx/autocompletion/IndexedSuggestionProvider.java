@@ -0,0 +1,450 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.util.Callback;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+
+/**
+ * A string based suggestion provider meant for large sets of possible suggestions.
+ * It matches the same suggestions as the default provider (the lower cased user
+ * text is contained in the lower cased suggestion), but instead of scanning and
+ * sorting all of them on every request, it keeps an index:
+ * <ul>
+ * <li>the suggestions are converted and lower cased once, and kept sorted, so the
+ * suggestions starting with the user text are found by a binary search;</li>
+ * <li>a trigram index, in sorted order, gives the candidates that contain the user
+ * text, so only those are checked.</li>
+ * </ul>
+ * Suggestions starting with the user text are returned first, then the ones that
+ * contain it, each in alphabetical order. Since both the sorted suggestions and the
+ * trigram index are already ordered, the search stops as soon as {@link #limitProperty() limit}
+ * suggestions are found.
+ *
+ * The index is immutable: adding or clearing suggestions discards it, and it is built
+ * again by the next request. Requests only read the current index, so they don't
+ * wait for each other. Since they run in a background thread, the values of the
+ * properties are copied to volatile fields when they change.
+ *
+ * @param <T> Type of suggestions
+ */
+public class IndexedSuggestionProvider<T> implements Callback<ISuggestionRequest, Collection<T>> {
+
+    private static final int GRAM = 3;
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    private final Callback<T, String> stringConverter;
+    private final List<T> suggestions = new ArrayList<>();
+    private final Object suggestionsLock = new Object();
+    private volatile Index<T> index;
+    private volatile int limitValue = 100;
+    private volatile boolean showAllIfEmptyValue;
+
+    /**
+     * The maximum number of suggestions returned for a request. If it is 
+     * zero or less, all the matching suggestions are returned.
+     *
+     * @defaultValue 100
+     */
+    private final IntegerProperty limit = new SimpleIntegerProperty(this, "limit", 100) { //$NON-NLS-1$
+        @Override
+        protected void invalidated() {
+            limitValue = get();
+        }
+    };
+
+    /**
+     * Tell the provider to show all suggestions if empty text given
+     *
+     * @defaultValue false
+     */
+    private final BooleanProperty showAllIfEmpty = new SimpleBooleanProperty(this, "showAllIfEmpty", false) { //$NON-NLS-1$
+        @Override
+        protected void invalidated() {
+            showAllIfEmptyValue = get();
+        }
+    };
+
+    /**
+     * Creates a new IndexedSuggestionProvider, based on the toString() method 
+     * of the suggestions
+     */
+    public IndexedSuggestionProvider() {
+        this(null);
+    }
+
+    /**
+     * Creates a new IndexedSuggestionProvider
+     * @param stringConverter A stringConverter which converts generic T into a string
+     */
+    public IndexedSuggestionProvider(Callback<T, String> stringConverter) {
+        this.stringConverter = stringConverter != null ? stringConverter : 
+                obj -> obj != null ? obj.toString() : ""; //$NON-NLS-1$
+    }
+
+    /**
+     * Gets limitProperty
+     *
+     * @return the property
+     */
+    public final IntegerProperty limitProperty() {
+        return limit;
+    }
+
+    /**
+     * Gets the value of the property limit
+     *
+     * @return the value of the property
+     */
+    public final int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Sets the value of the property limit
+     *
+     * @param value the maximum number of suggestions returned for a request
+     */
+    public final void setLimit(int value) {
+        limit.set(value);
+    }
+
+    /**
+     * Gets showAllIfEmptyProperty
+     *
+     * @return the property
+     */
+    public final BooleanProperty showAllIfEmptyProperty() {
+        return showAllIfEmpty;
+    }
+
+    /**
+     * Gets the value of the property showAllIfEmpty
+     *
+     * @return the value of the property
+     */
+    public final boolean isShowAllIfEmpty() {
+        return showAllIfEmpty.get();
+    }
+
+    /**
+     * Sets the value of the property showAllIfEmpty
+     *
+     * @param value if true, the provider will show all suggestions if
+     * empty text given
+     */
+    public final void setShowAllIfEmpty(boolean value) {
+        showAllIfEmpty.set(value);
+    }
+
+    /**
+     * Add the given new possible suggestions to this provider
+     * @param newPossible
+     */
+    @SafeVarargs
+    public final void addPossibleSuggestions(T... newPossible) {
+        addPossibleSuggestions(Arrays.asList(newPossible));
+    }
+
+    /**
+     * Add the given new possible suggestions to this provider
+     * @param newPossible
+     */
+    public void addPossibleSuggestions(Collection<T> newPossible) {
+        synchronized (suggestionsLock) {
+            suggestions.addAll(newPossible);
+            index = null;
+        }
+    }
+
+    /**
+     * Remove all current possible suggestions
+     */
+    public void clearSuggestions() {
+        synchronized (suggestionsLock) {
+            suggestions.clear();
+            index = null;
+        }
+    }
+
+    @Override
+    public Collection<T> call(final ISuggestionRequest request) {
+        Index<T> current = getIndex();
+        String userText = request.getUserText();
+        if (userText.isEmpty()) {
+            return showAllIfEmptyValue ? new ArrayList<>(Arrays.asList(current.items)) : new ArrayList<>();
+        }
+        int max = limitValue > 0 ? limitValue : Integer.MAX_VALUE;
+        List<T> result = current.search(userText.toLowerCase(), max, request);
+        return request.isCancelled() ? new ArrayList<>() : result;
+    }
+
+    private Index<T> getIndex() {
+        Index<T> current = index;
+        if (current == null) {
+            synchronized (suggestionsLock) {
+                current = index;
+                if (current == null) {
+                    current = new Index<>(suggestions, stringConverter);
+                    index = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static long gram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    /**
+     * Immutable snapshot of the suggestions, with their lower cased keys sorted
+     * alphabetically, and the positions in that order of the keys containing 
+     * each trigram.
+     */
+    private static final class Index<T> {
+
+        private final T[] items;
+        private final T[] sortedItems;
+        private final String[] sortedKeys;
+
+        // postings of the trigram with id i are postings[offsets[i]..offsets[i + 1]]
+        private final GramTable grams = new GramTable();
+        private final int[] offsets;
+        private final int[] postings;
+
+        @SuppressWarnings("unchecked")
+        Index(List<T> suggestions, Callback<T, String> stringConverter) {
+            int size = suggestions.size();
+            items = (T[]) suggestions.toArray();
+            Entry[] entries = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = new Entry(stringConverter.call(items[i]).toLowerCase(), i);
+            }
+            Arrays.parallelSort(entries);
+
+            sortedItems = (T[]) new Object[size];
+            sortedKeys = new String[size];
+            for (int position = 0; position < size; position++) {
+                sortedItems[position] = items[entries[position].index];
+                sortedKeys[position] = entries[position].key;
+            }
+
+            // first count the keys containing each trigram, then fill the postings
+            int[] counts = new int[16];
+            int[] last = new int[16];
+            for (int position = 0; position < size; position++) {
+                String key = sortedKeys[position];
+                for (int i = 0; i + GRAM <= key.length(); i++) {
+                    int id = grams.add(gram(key, i));
+                    if (id == counts.length) {
+                        counts = Arrays.copyOf(counts, id * 2);
+                        last = Arrays.copyOf(last, id * 2);
+                    }
+                    if (counts[id] == 0 || last[id] != position) {
+                        counts[id]++;
+                        last[id] = position;
+                    }
+                }
+            }
+            offsets = new int[grams.size() + 1];
+            for (int id = 0; id < grams.size(); id++) {
+                offsets[id + 1] = offsets[id] + counts[id];
+            }
+            postings = new int[offsets[grams.size()]];
+            int[] fill = Arrays.copyOf(offsets, grams.size());
+            for (int position = 0; position < size; position++) {
+                String key = sortedKeys[position];
+                for (int i = 0; i + GRAM <= key.length(); i++) {
+                    int id = grams.get(gram(key, i));
+                    if (fill[id] == offsets[id] || postings[fill[id] - 1] != position) {
+                        postings[fill[id]++] = position;
+                    }
+                }
+            }
+        }
+
+        List<T> search(String text, int max, ISuggestionRequest request) {
+            List<T> result = new ArrayList<>();
+
+            // suggestions starting with the text are a contiguous range of the sorted keys
+            int from = lowerBound(text);
+            int position = from;
+            while (position < sortedKeys.length && result.size() < max
+                    && sortedKeys[position].startsWith(text)) {
+                result.add(sortedItems[position++]);
+            }
+            if (result.size() >= max) {
+                return result;
+            }
+            int to = position;
+
+            // then the ones containing it
+            boolean indexed = text.length() >= GRAM;
+            int id = indexed ? rarestGram(text) : -1;
+            int start = indexed ? (id < 0 ? 0 : offsets[id]) : 0;
+            int end = indexed ? (id < 0 ? 0 : offsets[id + 1]) : sortedKeys.length;
+            for (int i = start; i < end && result.size() < max; i++) {
+                if ((i - start) % CANCEL_CHECK_INTERVAL == 0 && request.isCancelled()) {
+                    break;
+                }
+                int candidate = indexed ? postings[i] : i;
+                if ((candidate < from || candidate >= to) && sortedKeys[candidate].contains(text)) {
+                    result.add(sortedItems[candidate]);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the id of the rarest trigram of the given text, or -1 if one
+         * of them isn't in any key.
+         */
+        private int rarestGram(String text) {
+            int rarest = -1;
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                int id = grams.get(gram(text, i));
+                if (id < 0) {
+                    return -1;
+                }
+                if (rarest < 0 || offsets[id + 1] - offsets[id] < offsets[rarest + 1] - offsets[rarest]) {
+                    rarest = id;
+                }
+            }
+            return rarest;
+        }
+
+        private int lowerBound(String text) {
+            int low = 0;
+            int high = sortedKeys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sortedKeys[mid].compareTo(text) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final String key;
+        private final int index;
+
+        Entry(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return key.compareTo(other.key);
+        }
+    }
+
+    /**
+     * Open addressing table that gives dense ids to the trigrams, without 
+     * boxing them.
+     */
+    private static final class GramTable {
+        private long[] keys = new long[1024];
+        private int[] ids = new int[1024];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the id of the given trigram, or -1 if it isn't in the table.
+         */
+        int get(long gram) {
+            int mask = keys.length - 1;
+            for (int slot = hash(gram) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == gram + 1) {
+                    return ids[slot];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the id of the given trigram, adding it to the table if needed.
+         */
+        int add(long gram) {
+            int mask = keys.length - 1;
+            int slot = hash(gram) & mask;
+            for (; keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == gram + 1) {
+                    return ids[slot];
+                }
+            }
+            // keys are stored plus one, so zero marks an empty slot
+            keys[slot] = gram + 1;
+            ids[slot] = size;
+            if (++size * 2 > keys.length) {
+                rehash();
+            }
+            return size - 1;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldIds = ids;
+            keys = new long[oldKeys.length * 2];
+            ids = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = hash(oldKeys[i] - 1) & mask;
+                    while (keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    ids[slot] = oldIds[i];
+                }
+            }
+        }
+
+        private static int hash(long gram) {
+            long h = gram * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A small LRU cache of the suggestions that matched the recent user texts,
+ * stored as their indices in the list of possible suggestions, in the order 
+ * they are returned.
+ *
+ * It is meant for providers where a suggestion matching a text also matches any
+ * text contained in it, so when the user refines the text ("jo", "joh", "john")
+ * the matches of a previous text are a superset of the new matches, and only
+ * those need to be checked again.
+ *
+ * Not thread safe: the owning provider guards it with its own lock.
+ */
+final class RefinementCache {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<String, int[]> entries;
+
+    RefinementCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    RefinementCache(final int capacity) {
+        entries = new LinkedHashMap<String, int[]>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached matches of the given text, if any.
+     */
+    int[] get(String text) {
+        return entries.get(text);
+    }
+
+    /**
+     * Returns the smallest cached matches of a text contained in the given
+     * text, or null if there is none, in which case a full search is required.
+     */
+    int[] getSuperset(String text) {
+        String best = null;
+        int[] bestMatches = null;
+        for (Iterator<Map.Entry<String, int[]>> it = entries.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, int[]> entry = it.next();
+            int[] matches = entry.getValue();
+            if (text.contains(entry.getKey()) && (bestMatches == null || matches.length < bestMatches.length)) {
+                best = entry.getKey();
+                bestMatches = matches;
+            }
+        }
+        if (best != null) {
+            // refresh its access order
+            entries.get(best);
+        }
+        return bestMatches;
+    }
+
+    void put(String text, int[] matches) {
+        entries.put(text, matches);
+    }
+
+    void clear() {
+        entries.clear();
+    }
+}
@@ -49,6 +49,7 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
 
     private final List<T> possibleSuggestions = new ArrayList<>();
     private final Object possibleSuggestionsLock = new Object();
+    private final RefinementCache refinementCache = new RefinementCache();
 
     /**
      * Tell the provider to show all suggestions if empty text given
@@ -100,6 +101,7 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
     public void addPossibleSuggestions(Collection<T> newPossible){
         synchronized (possibleSuggestionsLock) {
             possibleSuggestions.addAll(newPossible);
+            refinementCache.clear();
         }
     }
 
@@ -109,6 +111,7 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
     public void clearSuggestions(){
         synchronized (possibleSuggestionsLock) {
             possibleSuggestions.clear();
+            refinementCache.clear();
         }
     }
 
@@ -116,6 +119,14 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
     public Collection<T> call(final ISuggestionRequest request) {
         List<T> suggestions = new ArrayList<>();
         if(!request.getUserText().isEmpty()){
+            if (isRefinementSupported()) {
+                synchronized (possibleSuggestionsLock) {
+                    for (int index : getRefinedMatches(request)) {
+                        suggestions.add(possibleSuggestions.get(index));
+                    }
+                }
+                return suggestions;
+            }
             synchronized (possibleSuggestionsLock) {
                 for (T possibleSuggestion : possibleSuggestions) {
                     if(isMatch(possibleSuggestion, request)){
@@ -134,6 +145,56 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
         return suggestions;
     }
 
+    /**
+     * Returns whether a suggestion matching a user text also matches any text
+     * contained in it. In that case, the matches of the recent user texts are
+     * cached, and when the user refines the text, only the matches of a previous
+     * text contained in the new one are checked again.
+     *
+     * @return false by default
+     */
+    protected boolean isRefinementSupported() {
+        return false;
+    }
+
+    /**
+     * Returns the indices of the suggestions matching the request, in order.
+     * Filtering the sorted matches of a previous text keeps them sorted, so only
+     * a full search needs to sort them. Must be called holding the lock.
+     */
+    private int[] getRefinedMatches(ISuggestionRequest request) {
+        String userText = request.getUserText();
+        int[] matches = refinementCache.get(userText);
+        if (matches != null) {
+            return matches;
+        }
+        int[] superset = refinementCache.getSuperset(userText);
+        if (superset != null) {
+            int count = 0;
+            matches = new int[superset.length];
+            for (int index : superset) {
+                if (isMatch(possibleSuggestions.get(index), request)) {
+                    matches[count++] = index;
+                }
+            }
+            matches = Arrays.copyOf(matches, count);
+        } else {
+            List<Integer> indices = new ArrayList<>();
+            for (int index = 0; index < possibleSuggestions.size(); index++) {
+                if (isMatch(possibleSuggestions.get(index), request)) {
+                    indices.add(index);
+                }
+            }
+            Comparator<T> comparator = getComparator();
+            indices.sort((i1, i2) -> comparator.compare(possibleSuggestions.get(i1), possibleSuggestions.get(i2)));
+            matches = indices.stream().mapToInt(Integer::intValue).toArray();
+        }
+        if (!request.isCancelled()) {
+            refinementCache.put(userText, matches);
+        }
+        return matches;
+    }
+
     /**
      * Get the comparator to order the suggestions
      * @return
@@ -230,6 +291,12 @@ public abstract class SuggestionProvider<T> implements Callback<ISuggestionReque
             return stringComparator;
         }
 
+        /**{@inheritDoc}*/
+        @Override
+        protected boolean isRefinementSupported() {
+            return true;
+        }
+
         /**{@inheritDoc}*/
         @Override
         protected boolean isMatch(T suggestion, ISuggestionRequest request) {
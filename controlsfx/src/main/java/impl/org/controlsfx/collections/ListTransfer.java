@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.collections;
+
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves items from one {@link ObservableList} to another in linear time, with a
+ * single change event on each list.
+ *
+ * {@link ObservableList#removeAll(Collection)} tests every item of the list
+ * against the collection to remove, which is quadratic for lists, and it fires
+ * one sub change per removed range, that bound lists and list views replay one
+ * by one. Instead, the items to move are counted in an identity map, and then in
+ * a hash map for the ones not found by identity, the list is split into the moved
+ * and the kept items, and both lists are updated at once.
+ */
+public final class ListTransfer {
+
+    private ListTransfer() {
+        // no-op
+    }
+
+    /**
+     * Moves the given items from one list to the other. The items are found by
+     * identity, and the ones that are not found that way are then matched by
+     * {@link Object#equals(Object) equals}, as {@link ObservableList#removeAll(Collection)}
+     * does. They are added to the target list in the order they had in the
+     * source list. Items that are not in the source list are ignored.
+     *
+     * @param from the list the items are removed from
+     * @param to the list the items are added to
+     * @param items the items to move
+     * @param comparator if not null, the moved items are merged into the target
+     *            list, that is expected to be sorted with this comparator,
+     *            else they are appended
+     * @return the moved items
+     */
+    public static <T> List<T> move(ObservableList<T> from, ObservableList<T> to,
+            Collection<? extends T> items, Comparator<? super T> comparator) {
+        if (from == to || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<T, int[]> counts = new IdentityHashMap<>(items.size());
+        for (T item : items) {
+            counts.computeIfAbsent(item, i -> new int[1])[0]++;
+        }
+
+        boolean[] selected = new boolean[from.size()];
+        int index = 0;
+        for (T item : from) {
+            int[] count = counts.get(item);
+            if (count != null && count[0] > 0) {
+                count[0]--;
+                selected[index] = true;
+            }
+            index++;
+        }
+
+        // equal items that are not the same instance, such as boxed numbers
+        Map<Object, int[]> equalCounts = new HashMap<>();
+        for (Map.Entry<T, int[]> entry : counts.entrySet()) {
+            if (entry.getValue()[0] > 0) {
+                equalCounts.computeIfAbsent(entry.getKey(), i -> new int[1])[0] += entry.getValue()[0];
+            }
+        }
+        if (!equalCounts.isEmpty()) {
+            index = 0;
+            for (T item : from) {
+                int[] count = selected[index] ? null : equalCounts.get(item);
+                if (count != null && count[0] > 0) {
+                    count[0]--;
+                    selected[index] = true;
+                }
+                index++;
+            }
+        }
+
+        List<T> moved = new ArrayList<>(items.size());
+        List<T> kept = new ArrayList<>(Math.max(0, from.size() - items.size()));
+        index = 0;
+        for (T item : from) {
+            (selected[index++] ? moved : kept).add(item);
+        }
+        if (moved.isEmpty()) {
+            return moved;
+        }
+
+        if (kept.isEmpty()) {
+            from.clear();
+        } else {
+            from.setAll(kept);
+        }
+        insert(to, moved, comparator);
+        return moved;
+    }
+
+    /**
+     * Moves all the items from one list to the other.
+     *
+     * @param from the list the items are removed from
+     * @param to the list the items are added to
+     * @param comparator if not null, the moved items are merged into the target
+     *            list, that is expected to be sorted with this comparator,
+     *            else they are appended
+     * @return the moved items
+     */
+    public static <T> List<T> moveAll(ObservableList<T> from, ObservableList<T> to, Comparator<? super T> comparator) {
+        if (from == to || from.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> moved = new ArrayList<>(from);
+        from.clear();
+        insert(to, moved, comparator);
+        return moved;
+    }
+
+    private static <T> void insert(ObservableList<T> to, List<T> moved, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            to.addAll(moved);
+            return;
+        }
+
+        // stable sort, then stable merge: equal items keep the target ones first
+        List<T> sorted = new ArrayList<>(moved);
+        sorted.sort(comparator);
+        if (to.isEmpty()) {
+            to.setAll(sorted);
+            return;
+        }
+
+        List<T> merged = new ArrayList<>(to.size() + sorted.size());
+        int i = 0;
+        int j = 0;
+        while (i < to.size() && j < sorted.size()) {
+            if (comparator.compare(sorted.get(j), to.get(i)) < 0) {
+                merged.add(sorted.get(j++));
+            } else {
+                merged.add(to.get(i++));
+            }
+        }
+        merged.addAll(to.subList(i, to.size()));
+        merged.addAll(sorted.subList(j, sorted.size()));
+        to.setAll(merged);
+    }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.collections;
+
+import java.util.Arrays;
+
+/**
+ * A growable set of bits that, besides the usual operations of {@link java.util.BitSet},
+ * answers rank (how many bits are set before an index) and select (which index is
+ * the n-th set bit) queries in O(log n), instead of walking the bits.
+ *
+ * The number of set bits of each 64 bits word is kept in a Fenwick tree, which is
+ * updated whenever a bit changes.
+ */
+public final class RankedBitSet {
+
+    private long[] words;
+    // Fenwick tree of the bit counts of the words, 1-based
+    private int[] tree;
+    private int cardinality;
+
+    public RankedBitSet() {
+        this(64);
+    }
+
+    public RankedBitSet(int bits) {
+        int size = Math.max(1, (bits + 63) >>> 6);
+        words = new long[size];
+        tree = new int[size + 1];
+    }
+
+    public RankedBitSet copy() {
+        RankedBitSet copy = new RankedBitSet(0);
+        copy.words = words.clone();
+        copy.tree = tree.clone();
+        copy.cardinality = cardinality;
+        return copy;
+    }
+
+    public boolean get(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit at the given index.
+     * @return true if it wasn't set before
+     */
+    public boolean set(int index) {
+        int word = index >>> 6;
+        ensureCapacity(word + 1);
+        long mask = 1L << index;
+        if ((words[word] & mask) != 0) {
+            return false;
+        }
+        words[word] |= mask;
+        add(word, 1);
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Clears the bit at the given index.
+     * @return true if it was set before
+     */
+    public boolean clear(int index) {
+        if (!get(index)) {
+            return false;
+        }
+        int word = index >>> 6;
+        words[word] &= ~(1L << index);
+        add(word, -1);
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Sets the bits from the given index (inclusive) to the given index (exclusive).
+     * @return the number of bits that weren't set before
+     */
+    public int set(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return 0;
+        }
+        ensureCapacity(((toIndex - 1) >>> 6) + 1);
+        int added = 0;
+        for (int word = fromIndex >>> 6; word <= (toIndex - 1) >>> 6; word++) {
+            long mask = rangeMask(word, fromIndex, toIndex);
+            int count = Long.bitCount(mask & ~words[word]);
+            if (count > 0) {
+                words[word] |= mask;
+                add(word, count);
+                added += count;
+            }
+        }
+        cardinality += added;
+        return added;
+    }
+
+    /**
+     * Clears the bits from the given index (inclusive) to the given index (exclusive).
+     * @return the number of bits that were set before
+     */
+    public int clear(int fromIndex, int toIndex) {
+        toIndex = Math.min(toIndex, words.length << 6);
+        if (fromIndex >= toIndex) {
+            return 0;
+        }
+        int removed = 0;
+        for (int word = fromIndex >>> 6; word <= (toIndex - 1) >>> 6; word++) {
+            long mask = rangeMask(word, fromIndex, toIndex);
+            int count = Long.bitCount(mask & words[word]);
+            if (count > 0) {
+                words[word] &= ~mask;
+                add(word, -count);
+                removed += count;
+            }
+        }
+        cardinality -= removed;
+        return removed;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0);
+        Arrays.fill(tree, 0);
+        cardinality = 0;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns the index of the highest set bit plus one, or zero if no bit is set.
+     */
+    public int length() {
+        for (int word = words.length - 1; word >= 0; word--) {
+            if (words[word] != 0) {
+                return (word << 6) + 64 - Long.numberOfLeadingZeros(words[word]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of set bits before the given index.
+     */
+    public int rank(int index) {
+        if (index <= 0) {
+            return 0;
+        }
+        int word = index >>> 6;
+        if (word >= words.length) {
+            return cardinality;
+        }
+        int count = 0;
+        for (int i = word; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count + Long.bitCount(words[word] & ((1L << index) - 1));
+    }
+
+    /**
+     * Returns the index of the set bit with the given rank (the first set bit
+     * has rank 0), or -1 if there are not enough set bits.
+     */
+    public int select(int rank) {
+        if (rank < 0 || rank >= cardinality) {
+            return -1;
+        }
+        int word = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(words.length); step > 0; step >>>= 1) {
+            int next = word + step;
+            if (next <= words.length && tree[next] <= remaining) {
+                word = next;
+                remaining -= tree[next];
+            }
+        }
+        long bits = words[word];
+        for (int i = 0; i < remaining; i++) {
+            bits &= bits - 1;
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public int nextSetBit(int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (fromIndex < 0 || word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << fromIndex);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    public int previousSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int word = fromIndex >>> 6;
+        if (word >= words.length) {
+            return length() - 1;
+        }
+        long bits = words[word] & (-1L >>> -(fromIndex + 1));
+        while (bits == 0) {
+            if (word-- == 0) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    private static long rangeMask(int word, int fromIndex, int toIndex) {
+        long mask = -1L;
+        if (word == fromIndex >>> 6) {
+            mask &= -1L << fromIndex;
+        }
+        if (word == (toIndex - 1) >>> 6) {
+            mask &= -1L >>> -toIndex;
+        }
+        return mask;
+    }
+
+    private void add(int word, int delta) {
+        for (int i = word + 1; i <= words.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= words.length) {
+            return;
+        }
+        words = Arrays.copyOf(words, Math.max(size, words.length * 2));
+        // rebuild the tree in O(n)
+        tree = new int[words.length + 1];
+        for (int i = 1; i <= words.length; i++) {
+            tree[i] += Long.bitCount(words[i - 1]);
+            int parent = i + (i & -i);
+            if (parent <= words.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
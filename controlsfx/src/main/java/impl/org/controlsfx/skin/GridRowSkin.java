@@ -32,6 +32,8 @@ import javafx.scene.control.skin.CellSkinBase;
 import org.controlsfx.control.GridCell;
 import org.controlsfx.control.GridView;
 
+import java.util.List;
+
 public class GridRowSkin<T> extends CellSkinBase<GridRow<T>> {
 
     public GridRowSkin(GridRow<T> control) {
@@ -65,13 +67,27 @@ public class GridRowSkin<T> extends CellSkinBase<GridRow<T>> {
      *  <p>Cells are only created when needed and re-used when possible.</p>
      */
     public void updateCells() {
+        updateCells(-1, -1);
+    }
+
+    /**
+     *  Update all cells, forcing the ones within the given range of item indices
+     *  to reload their item.
+     *  <p>Cells that keep their index and whose item is still the same instance
+     *  are left untouched, so the cells of a row are only updated when the items
+     *  they show have changed.</p>
+     *  @param updatedFrom The index of the first item to reload
+     *  @param updatedTo The index after the last item to reload
+     */
+    void updateCells(int updatedFrom, int updatedTo) {
         int rowIndex = getSkinnable().getIndex();
         if (rowIndex >= 0) {
             GridView<T> gridView = getSkinnable().getGridView();
             GridViewSkin<?> gridViewSkin = (GridViewSkin<?>) gridView.getSkin();
             if (gridViewSkin == null) return;
             int maxCellsInRow = gridViewSkin.computeMaxCellsInRow();
-            int totalCellsInGrid = gridView.getItems().size();
+            List<T> items = gridView.getItems();
+            int totalCellsInGrid = items.size();
             int startCellIndex = rowIndex * maxCellsInRow;
             int endCellIndex = startCellIndex + maxCellsInRow - 1;
             int cacheIndex = 0;
@@ -84,8 +100,14 @@ public class GridRowSkin<T> extends CellSkinBase<GridRow<T>> {
                         cell = createCell();
                         getChildren().add(cell);
                     }
-                    cell.updateIndex(-1);
-                    cell.updateIndex(cellIndex);
+                    if (cell.getIndex() != cellIndex) {
+                        cell.updateIndex(cellIndex);
+                    } else if ((cellIndex >= updatedFrom && cellIndex < updatedTo) 
+                            || cell.getItem() != items.get(cellIndex)) {
+                        // the index didn't change, force the cell to reload its item
+                        cell.updateIndex(-1);
+                        cell.updateIndex(cellIndex);
+                    }
                 }
                 // we are going out of bounds -> exist the loop
                 else { break; }
@@ -37,9 +37,23 @@ public class GridViewSkin<T> extends VirtualContainerBase<GridView<T>, GridRow<T
 
     private VirtualFlow<GridRow<T>> flow;
 
+    // Items from this index on have been added, removed or moved since the last layout
+    private int changedFrom = Integer.MAX_VALUE;
+    // Items in this range have been updated or replaced in place since the last layout
+    private int updatedFrom = Integer.MAX_VALUE;
+    private int updatedTo = -1;
+
     private final ListChangeListener<T> gridViewItemsListener = change -> {
-        updateItemCount();
-        getSkinnable().requestLayout();
+        while (change.next()) {
+            if (change.wasUpdated() || (change.wasReplaced() && change.getAddedSize() == change.getRemovedSize())) {
+                // the items keep their indices, but set(i, item) may put back the same instance
+                updatedFrom = Math.min(updatedFrom, change.getFrom());
+                updatedTo = Math.max(updatedTo, change.getTo());
+            } else {
+                changedFrom = Math.min(changedFrom, change.getFrom());
+            }
+        }
+        updateRowCount(getItemCount());
     };
 
     private final WeakListChangeListener<T> weakGridViewItemsListener = new WeakListChangeListener<>(gridViewItemsListener);
@@ -101,6 +115,8 @@ public class GridViewSkin<T> extends VirtualContainerBase<GridView<T>, GridRow<T
     }
 
     @Override protected void layoutChildren(double x, double y, double w, double h) {
+        updateChangedRows();
+
         double x1 = getSkinnable().getInsets().getLeft();
         double y1 = getSkinnable().getInsets().getTop();
         double w1 = getSkinnable().getWidth() - (getSkinnable().getInsets().getLeft() + getSkinnable().getInsets().getRight());
@@ -139,6 +155,53 @@ public class GridViewSkin<T> extends VirtualContainerBase<GridView<T>, GridRow<T
         getSkinnable().requestLayout();
     }
 
+    /**
+     *  Updates the row count after a change of the items. The rows are updated
+     *  on the next layout, see {@link #updateChangedRows()}.
+     */
+    private void updateRowCount(int newCount) {
+        if (flow == null)
+            return;
+
+        if (newCount != flow.getCellCount()) {
+            // the flow lays out its rows again, which only updates the cells
+            // whose item changed
+            flow.setCellCount(newCount);
+        }
+        getSkinnable().requestLayout();
+    }
+
+    /**
+     *  Updates the rows after changes of the items: only the visible rows
+     *  showing items from the changed indices are updated, and within them
+     *  only the cells whose item changed.
+     */
+    private void updateChangedRows() {
+        if (changedFrom == Integer.MAX_VALUE && updatedTo < 0) {
+            return;
+        }
+        GridRow<T> first = flow.getFirstVisibleCell();
+        GridRow<T> last = flow.getLastVisibleCell();
+        if (first != null && last != null) {
+            int maxCellsInRow = computeMaxCellsInRow();
+            int rowCount = flow.getCellCount();
+            for (int i = Math.max(first.getIndex(), 0); i <= last.getIndex() && i < rowCount; i++) {
+                GridRow<T> row = flow.getVisibleCell(i);
+                if (row == null || !(row.getSkin() instanceof GridRowSkin)) {
+                    continue;
+                }
+                int rowFrom = i * maxCellsInRow;
+                int rowTo = rowFrom + maxCellsInRow;
+                if (rowTo > changedFrom || (rowTo > updatedFrom && rowFrom < updatedTo)) {
+                    ((GridRowSkin<?>) row.getSkin()).updateCells(updatedFrom, updatedTo);
+                }
+            }
+        }
+        changedFrom = Integer.MAX_VALUE;
+        updatedFrom = Integer.MAX_VALUE;
+        updatedTo = -1;
+    }
+
     /**
      *  Returns the max number of cell per row
      *  @return Max cell number per row 
@@ -170,7 +233,12 @@ public class GridViewSkin<T> extends VirtualContainerBase<GridView<T>, GridRow<T
     }
 
     protected void updateRows(int rowCount) {
-        for (int i = 0; i < rowCount; i++) {
+        GridRow<T> first = flow.getFirstVisibleCell();
+        GridRow<T> last = flow.getLastVisibleCell();
+        if (first == null || last == null) {
+            return;
+        }
+        for (int i = Math.max(first.getIndex(), 0); i <= last.getIndex() && i < rowCount; i++) {
             GridRow<T> row = flow.getVisibleCell(i);
             if (row != null) {
                 // We do not have to force a change of the index by setting the index to -1
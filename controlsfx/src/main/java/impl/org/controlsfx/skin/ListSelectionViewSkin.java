@@ -26,6 +26,7 @@
  */
 package impl.org.controlsfx.skin;
 
+import impl.org.controlsfx.collections.ListTransfer;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.collections.FXCollections;
@@ -303,23 +304,17 @@ public class ListSelectionViewSkin<T> extends SkinBase<ListSelectionView<T>> {
 
     private void moveToTarget() {
         move(getSourceListView(), getTargetListView());
-        getSourceListView().getSelectionModel().clearSelection();
     }
 
     private void moveToSource() {
         move(getTargetListView(), getSourceListView());
-        getTargetListView().getSelectionModel().clearSelection();
     }
 
     private void move(ListView<T> viewA, ListView<T> viewB) {
         List<T> selectedItems = new ArrayList<>(viewA.getSelectionModel()
                 .getSelectedItems());
-        move(viewA, viewB, selectedItems);
-    }
-
-    private void move(ListView<T> viewA, ListView<T> viewB, List<T> items) {
-        viewA.getItems().removeAll(items);
-        viewB.getItems().addAll(items);
+        viewA.getSelectionModel().clearSelection();
+        ListTransfer.move(viewA.getItems(), viewB.getItems(), selectedItems, getSkinnable().getComparator());
     }
 
     private ObservableList<Node> createButtonsFromActions() {
@@ -26,7 +26,12 @@
  */
 package impl.org.controlsfx.skin;
 
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import javafx.collections.transformation.FilteredList;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ListView;
@@ -43,7 +48,9 @@ import org.controlsfx.control.textfield.CustomTextField;
 import org.controlsfx.control.textfield.TextFields;
 
 import java.util.Arrays;
-import java.util.function.Predicate;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static impl.org.controlsfx.i18n.Localization.getString;
 
@@ -112,6 +119,22 @@ public class SearchableComboBoxSkin<T> extends SkinBase<ComboBox<T>> {
 
     private static final Image filterIcon = new Image(SearchableComboBoxSkin.class.getResource("/impl/org/controlsfx/table/filter.png").toExternalForm());
 
+    /**
+     * The number of items from which the popup list is filtered in the background,
+     * unless the skinnable is a {@link SearchableComboBox} with another
+     * {@link SearchableComboBox#asyncFilterThresholdProperty() asyncFilterThreshold}.
+     */
+    public static final int DEFAULT_ASYNC_FILTER_THRESHOLD = 100_000;
+
+    /**
+     * Filters the items of large lists in the background.
+     */
+    private static final Executor FILTER_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "SearchableComboBox-Filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * A "normal" combobox used internally as a delegate to get the default combo box behavior.
      * This combo box contains the filtered items and handles the popup.
@@ -128,6 +151,24 @@ public class SearchableComboBoxSkin<T> extends SkinBase<ComboBox<T>> {
      */
     private T previousValue;
 
+    /**
+     * The normalized display texts of the items, and the matches of the last search.
+     */
+    private final SearchableItemsIndex<T> searchIndex = new SearchableItemsIndex<>(this::getDisplayText);
+
+    /**
+     * All the items, shown while the search field is empty.
+     */
+    private FilteredList<T> unfilteredItems;
+
+    /**
+     * Incremented on every filter update, so outdated background searches are ignored.
+     */
+    private int filterGeneration;
+
+    private final ListChangeListener<T> itemsListener = c -> sourceItemsChanged();
+    private final WeakListChangeListener<T> weakItemsListener = new WeakListChangeListener<>(itemsListener);
+
     public SearchableComboBoxSkin(ComboBox<T> comboBox) {
         super(comboBox);
 
@@ -196,10 +237,15 @@ public class SearchableComboBoxSkin<T> extends SkinBase<ComboBox<T>> {
 
     private void bindSearchFieldAndFilteredComboBox() {
         // set the items of the filtered combo box
-        filteredComboBox.setItems(createFilteredList());
+        setSourceItems(null, getSkinnable().getItems());
         // and keep it up to date, even if the original list changes
         getSkinnable().itemsProperty()
-                .addListener((obs, oldVal, newVal) -> filteredComboBox.setItems(createFilteredList()));
+                .addListener((obs, oldVal, newVal) -> setSourceItems(oldVal, newVal));
+        // the display texts change with the converter
+        filteredComboBox.converterProperty().addListener(o -> {
+            searchIndex.invalidate();
+            updateFilter();
+        });
         // and update the filter, when the text in the search field changes
         searchField.textProperty().addListener(o -> updateFilter());
 
@@ -234,45 +280,63 @@ public class SearchableComboBoxSkin<T> extends SkinBase<ComboBox<T>> {
         });
     }
 
-    private FilteredList<T> createFilteredList() {
-        return new FilteredList<T>(getSkinnable().getItems(), predicate());
+    private void setSourceItems(ObservableList<T> oldItems, ObservableList<T> newItems) {
+        if (oldItems != null) {
+            oldItems.removeListener(weakItemsListener);
+        }
+        if (newItems != null) {
+            newItems.addListener(weakItemsListener);
+        }
+        unfilteredItems = new FilteredList<>(newItems != null ? newItems : FXCollections.observableArrayList());
+        searchIndex.invalidate();
+        updateFilter();
     }
 
-    /**
-     * Called every time the filter text changes.
-     */
-    private void updateFilter() {
-        // does not work, because of Bug https://bugs.openjdk.java.net/browse/JDK-8174176
-        // ((FilteredList<T>)filteredComboBox.getItems()).setPredicate(predicate());
-
-        // therefore we need to do this
-        filteredComboBox.setItems(createFilteredList());
+    private void sourceItemsChanged() {
+        searchIndex.invalidate();
+        if (!searchField.getText().trim().isEmpty()) {
+            updateFilter();
+        }
     }
 
     /**
-     * Return the Predicate to filter the popup items based on the search field.
+     * Called every time the filter text or the items change.
      */
-    private Predicate<T> predicate() {
+    private void updateFilter() {
+        // FilteredList.setPredicate does not work, because of Bug https://bugs.openjdk.java.net/browse/JDK-8174176
+        // therefore we need to set a new list for every search
+        final int generation = ++filterGeneration;
         String searchText = searchField.getText().trim();
         if (searchText.isEmpty()) {
             // don't filter
-            return null;
+            filteredComboBox.setItems(unfilteredItems);
+            return;
         }
 
-        return predicate(searchText);
+        // OK, if the display text contains all words, ignoring case
+        String[] lowerCaseSearchWords = Arrays.stream(searchText.toLowerCase().split(" "))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+        SearchableItemsIndex.Search<T> search = searchIndex.prepare(unfilteredItems, lowerCaseSearchWords);
+        int threshold = getSkinnable() instanceof SearchableComboBox ?
+                ((SearchableComboBox<T>) getSkinnable()).getAsyncFilterThreshold() : DEFAULT_ASYNC_FILTER_THRESHOLD;
+        if (threshold > 0 && search.size() >= threshold) {
+            FILTER_EXECUTOR.execute(() -> {
+                List<T> matches = search.run();
+                Platform.runLater(() -> {
+                    if (generation == filterGeneration) {
+                        applyFilter(search, matches);
+                    }
+                });
+            });
+        } else {
+            applyFilter(search, search.run());
+        }
     }
 
-    /**
-     * Return the Predicate to filter the popup items based on the given search text.
-     */
-    private Predicate<T> predicate(String searchText) {
-        // OK, if the display text contains all words, ignoring case
-        String[] lowerCaseSearchWords = searchText.toLowerCase().split(" ");
-        return value ->
-        {
-            String lowerCaseDisplayText = getDisplayText(value).toLowerCase();
-            return Arrays.stream(lowerCaseSearchWords).allMatch(word -> lowerCaseDisplayText.contains(word));
-        };
+    private void applyFilter(SearchableItemsIndex.Search<T> search, List<T> matches) {
+        search.complete();
+        filteredComboBox.setItems(FXCollections.observableList(matches));
     }
 
     /**
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.skin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Filtering support for {@link SearchableComboBoxSkin}: the display texts of the
+ * items are converted and lower cased once, and kept until the items or the 
+ * converter change. The matches of the last search are kept too, so when the
+ * user types more text, only those are tested again.
+ *
+ * A {@link Search} is prepared on the JavaFX Application Thread, but it only uses
+ * an immutable snapshot of the items, so it can run on any thread.
+ *
+ * @param <T> Type of the items
+ */
+final class SearchableItemsIndex<T> {
+
+    private final Function<T, String> displayText;
+
+    private Snapshot<T> snapshot;
+    private String[] lastWords;
+    private int[] lastMatches;
+
+    SearchableItemsIndex(Function<T, String> displayText) {
+        this.displayText = displayText;
+    }
+
+    /**
+     * Discards the display texts and the last matches, after the items or their
+     * display texts changed.
+     */
+    void invalidate() {
+        snapshot = null;
+        lastWords = null;
+        lastMatches = null;
+    }
+
+    /**
+     * Prepares the search of the items whose display text contains all the given
+     * words, which must be lower case.
+     */
+    Search<T> prepare(List<T> items, String[] words) {
+        if (snapshot == null) {
+            snapshot = new Snapshot<>(items, displayText);
+        }
+        int[] candidates = lastWords != null && refines(words, lastWords) ? lastMatches : null;
+        return new Search<>(this, snapshot, words, candidates);
+    }
+
+    /**
+     * Returns true if all the items matching the new words also match the old
+     * ones, that is if each old word is contained in one of the new words.
+     */
+    private static boolean refines(String[] newWords, String[] oldWords) {
+        for (String oldWord : oldWords) {
+            boolean contained = false;
+            for (String newWord : newWords) {
+                if (newWord.contains(oldWord)) {
+                    contained = true;
+                    break;
+                }
+            }
+            if (!contained) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Snapshot<T> {
+        private final List<T> items;
+        private final String[] texts;
+
+        Snapshot(List<T> items, Function<T, String> displayText) {
+            this.items = new ArrayList<>(items);
+            this.texts = new String[items.size()];
+            for (int i = 0; i < texts.length; i++) {
+                String text = displayText.apply(this.items.get(i));
+                texts[i] = text == null ? "" : text.toLowerCase();
+            }
+        }
+    }
+
+    static final class Search<T> {
+        private final SearchableItemsIndex<T> index;
+        private final Snapshot<T> snapshot;
+        private final String[] words;
+        private final int[] candidates;
+        private int[] matches;
+
+        private Search(SearchableItemsIndex<T> index, Snapshot<T> snapshot, String[] words, int[] candidates) {
+            this.index = index;
+            this.snapshot = snapshot;
+            this.words = words;
+            this.candidates = candidates;
+        }
+
+        /**
+         * Returns the number of items this search has to test.
+         */
+        int size() {
+            return candidates != null ? candidates.length : snapshot.texts.length;
+        }
+
+        /**
+         * Runs the search, and returns the matching items, in order.
+         */
+        List<T> run() {
+            String[] texts = snapshot.texts;
+            int count = size();
+            int[] found = new int[count];
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                int item = candidates != null ? candidates[i] : i;
+                if (containsAll(texts[item], words)) {
+                    found[size++] = item;
+                }
+            }
+            matches = Arrays.copyOf(found, size);
+
+            List<T> result = new ArrayList<>(size);
+            for (int item : matches) {
+                result.add(snapshot.items.get(item));
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        /**
+         * Keeps the matches of this search, so the next one can refine them,
+         * unless the items changed since it was prepared. Must be called on the
+         * JavaFX Application Thread, after {@link #run()}.
+         */
+        void complete() {
+            if (index.snapshot == snapshot && matches != null) {
+                index.lastWords = words;
+                index.lastMatches = matches;
+            }
+        }
+
+        private static boolean containsAll(String text, String[] words) {
+            for (String word : words) {
+                if (!text.contains(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -28,6 +28,9 @@ package impl.org.controlsfx.skin;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.control.SkinBase;
@@ -39,12 +42,19 @@ import java.util.*;
 
 public class SegmentedBarSkin<T extends SegmentedBar.Segment> extends SkinBase<SegmentedBar<T>> {
 
+    private static final List<String> POSITION_STYLE_CLASSES =
+            Arrays.asList("only-segment", "first-segment", "middle-segment", "last-segment");
+
     private Map<T, Node> segmentNodes = new HashMap<>();
 
     private InvalidationListener buildListener = it -> buildSegments();
 
     private WeakInvalidationListener weakBuildListener = new WeakInvalidationListener(buildListener);
 
+    private ListChangeListener<T> segmentsListener = this::segmentsChanged;
+
+    private WeakListChangeListener<T> weakSegmentsListener = new WeakListChangeListener<>(segmentsListener);
+
     private InvalidationListener layoutListener = it -> getSkinnable().requestLayout();
 
     private WeakInvalidationListener weakLayoutListener = new WeakInvalidationListener(layoutListener);
@@ -55,9 +65,9 @@ public class SegmentedBarSkin<T extends SegmentedBar.Segment> extends SkinBase<S
         super(bar);
 
         bar.segmentViewFactoryProperty().addListener(weakBuildListener);
-        bar.getSegments().addListener(weakBuildListener);
+        bar.segmentsProperty().addListener(weakSegmentsListener);
         bar.orientationProperty().addListener(weakLayoutListener);
-        bar.totalProperty().addListener(weakBuildListener);
+        bar.totalProperty().addListener(weakLayoutListener);
 
         bar.orientationProperty().addListener(it -> {
             if (popOver == null) {
@@ -138,40 +148,107 @@ public class SegmentedBarSkin<T extends SegmentedBar.Segment> extends SkinBase<S
 
     private void buildSegments() {
         segmentNodes.clear();
-        getChildren().clear();
 
         List<T> segments = getSkinnable().getSegments();
         int size = segments.size();
 
         Callback<T, Node> cellFactory = getSkinnable().getSegmentViewFactory();
 
+        List<Node> nodes = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            T segment = segments.get(i);
-            Node segmentNode = cellFactory.call(segment);
-            segmentNodes.put(segment, segmentNode);
-            getChildren().add(segmentNode);
-
-            segmentNode.getStyleClass().add("segment");
-
-            if (i == 0) {
-                if (size == 1) {
-                    segmentNode.getStyleClass().add("only-segment");
-                } else {
-                    segmentNode.getStyleClass().add("first-segment");
+            Node segmentNode = createSegmentNode(segments.get(i), cellFactory);
+            updatePositionStyle(segmentNode, i, size);
+            nodes.add(segmentNode);
+        }
+        getChildren().setAll(nodes);
+
+        getSkinnable().requestLayout();
+    }
+
+    /**
+     * Applies the changes of the segments to the segment nodes: the nodes of
+     * the segments that are still shown are kept, and only the nodes of the
+     * added segments are created. The children are kept in the order of the
+     * segments.
+     */
+    private void segmentsChanged(ListChangeListener.Change<? extends T> change) {
+        ObservableList<Node> children = getChildren();
+        Node oldFirst = children.isEmpty() ? null : children.get(0);
+        Node oldLast = children.isEmpty() ? null : children.get(children.size() - 1);
+        List<Node> added = new ArrayList<>();
+
+        Callback<T, Node> cellFactory = getSkinnable().getSegmentViewFactory();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Node> permutated = new ArrayList<>(children);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutated.set(change.getPermutation(i), children.get(i));
                 }
-            } else if (i == size - 1) {
-                segmentNode.getStyleClass().add("last-segment");
-            } else {
-                segmentNode.getStyleClass().add("middle-segment");
+                children.setAll(permutated);
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                int from = change.getFrom();
+                children.remove(from, from + change.getRemovedSize());
+                for (T segment : change.getRemoved()) {
+                    segmentNodes.remove(segment);
+                }
+
+                List<Node> nodes = new ArrayList<>(change.getAddedSize());
+                for (T segment : change.getAddedSubList()) {
+                    nodes.add(createSegmentNode(segment, cellFactory));
+                }
+                children.addAll(from, nodes);
+                added.addAll(nodes);
             }
+        }
 
-            segmentNode.setOnMouseEntered(evt -> showPopOver(segmentNode, segment));
-            segmentNode.setOnMouseExited(evt -> hidePopOver());
+        // the position of the nodes kept only changes at the edges of the bar
+        int size = children.size();
+        if (size > 0) {
+            Node first = children.get(0);
+            Node last = children.get(size - 1);
+            added.add(oldFirst);
+            added.add(oldLast);
+            for (Node node : added) {
+                if (node != null && node != first && node != last && node.getParent() != null) {
+                    setPositionStyle(node, "middle-segment");
+                }
+            }
+            updatePositionStyle(first, 0, size);
+            updatePositionStyle(last, size - 1, size);
         }
 
         getSkinnable().requestLayout();
     }
 
+    private Node createSegmentNode(T segment, Callback<T, Node> cellFactory) {
+        Node segmentNode = cellFactory.call(segment);
+        segmentNodes.put(segment, segmentNode);
+        segmentNode.getStyleClass().add("segment");
+        segmentNode.setOnMouseEntered(evt -> showPopOver(segmentNode, segment));
+        segmentNode.setOnMouseExited(evt -> hidePopOver());
+        return segmentNode;
+    }
+
+    private static void updatePositionStyle(Node segmentNode, int index, int size) {
+        String styleClass;
+        if (index == 0) {
+            styleClass = size == 1 ? "only-segment" : "first-segment";
+        } else if (index == size - 1) {
+            styleClass = "last-segment";
+        } else {
+            styleClass = "middle-segment";
+        }
+        setPositionStyle(segmentNode, styleClass);
+    }
+
+    private static void setPositionStyle(Node segmentNode, String styleClass) {
+        List<String> styleClasses = segmentNode.getStyleClass();
+        if (!styleClasses.contains(styleClass)) {
+            styleClasses.removeAll(POSITION_STYLE_CLASSES);
+            styleClasses.add(styleClass);
+        }
+    }
+
     private void showPopOver(Node owner, T segment) {
         Callback<T, Node> infoNodeFactory = getSkinnable().getInfoNodeFactory();
 
@@ -26,6 +26,9 @@
  */
 package impl.org.controlsfx.skin;
 
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.concurrent.Task;
 import javafx.geometry.Insets;
@@ -42,12 +45,60 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 import javafx.util.Callback;
+import javafx.util.Duration;
 
 import org.controlsfx.control.TaskProgressView;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 public class TaskProgressViewSkin<T extends Task<?>> extends
         SkinBase<TaskProgressView<T>> {
 
+    private final ListView<T> listView;
+
+    /*
+     * The cells created by the list view, to sample their task when the
+     * updates are coalesced. The list view only keeps about as many cells
+     * as there are visible rows.
+     */
+    private final Set<TaskCell> cells = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private boolean tasksChanged;
+
+    private boolean cellsChanged;
+
+    private long lastUpdate;
+
+    private final InvalidationListener tasksListener = it -> {
+        tasksChanged = true;
+        updateTimer();
+    };
+
+    /*
+     * Listens to the tasks sampled by the cells, so the timer only runs
+     * while they change.
+     */
+    private final InvalidationListener sampledTaskListener = it -> {
+        cellsChanged = true;
+        updateTimer();
+    };
+
+    private final WeakInvalidationListener weakSampledTaskListener = new WeakInvalidationListener(sampledTaskListener);
+
+    private final InvalidationListener updateIntervalListener = it -> updateMode();
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (now - lastUpdate >= getUpdateIntervalNanos()) {
+                lastUpdate = now;
+                update();
+            }
+        }
+    };
+
     public TaskProgressViewSkin(TaskProgressView<T> monitor) {
         super(monitor);
 
@@ -55,16 +106,84 @@ public class TaskProgressViewSkin<T extends Task<?>> extends
         borderPane.getStyleClass().add("box");
 
         // list view
-        ListView<T> listView = new ListView<>();
+        listView = new ListView<>();
         listView.setPrefSize(500, 400);
         listView.setPlaceholder(new Label("No tasks running"));
         listView.setCellFactory(param -> new TaskCell());
         listView.setFocusTraversable(false);
 
-        Bindings.bindContent(listView.getItems(), monitor.getTasks());
         borderPane.setCenter(listView);
 
         getChildren().add(listView);
+
+        monitor.updateIntervalProperty().addListener(updateIntervalListener);
+        updateMode();
+    }
+
+    @Override
+    public void dispose() {
+        timer.stop();
+        getSkinnable().updateIntervalProperty().removeListener(updateIntervalListener);
+        getSkinnable().getTasks().removeListener(tasksListener);
+        Bindings.unbindContent(listView.getItems(), getSkinnable().getTasks());
+        super.dispose();
+    }
+
+    private boolean isCoalescing() {
+        return getUpdateIntervalNanos() > 0;
+    }
+
+    private long getUpdateIntervalNanos() {
+        Duration interval = getSkinnable().getUpdateInterval();
+        if (interval == null || interval.isIndefinite() || interval.isUnknown()) {
+            // the view would never be updated
+            return 0;
+        }
+        return (long) (interval.toMillis() * 1_000_000);
+    }
+
+    /**
+     * Binds the list view and the cells to the tasks, or samples them with
+     * the timer when the updates are coalesced.
+     */
+    private void updateMode() {
+        TaskProgressView<T> monitor = getSkinnable();
+        Bindings.unbindContent(listView.getItems(), monitor.getTasks());
+        monitor.getTasks().removeListener(tasksListener);
+        if (isCoalescing()) {
+            monitor.getTasks().addListener(tasksListener);
+            tasksChanged = true;
+        } else {
+            Bindings.bindContent(listView.getItems(), monitor.getTasks());
+        }
+        for (TaskCell cell : cells) {
+            cell.updateBindings();
+        }
+        updateTimer();
+    }
+
+    /**
+     * Keeps the timer running while the tasks list or the sampled tasks have
+     * changed since the last update.
+     */
+    private void updateTimer() {
+        if (isCoalescing() && (tasksChanged || cellsChanged)) {
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    private void update() {
+        if (tasksChanged) {
+            tasksChanged = false;
+            listView.getItems().setAll(getSkinnable().getTasks());
+        }
+        cellsChanged = false;
+        for (TaskCell cell : cells) {
+            cell.sample();
+        }
+        updateTimer();
     }
 
     class TaskCell extends ListCell<T> {
@@ -74,6 +193,7 @@ public class TaskProgressViewSkin<T extends Task<?>> extends
         private Button cancelButton;
 
         private T task;
+        private T sampledTask;
         private BorderPane borderPane;
 
         public TaskCell() {
@@ -110,6 +230,47 @@ public class TaskProgressViewSkin<T extends Task<?>> extends
             borderPane.setCenter(vbox);
             borderPane.setRight(cancelButton);
             setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+
+            cells.add(this);
+        }
+
+        /*
+         * Binds the progress, title and message to the task, or sets their
+         * current value when the updates are coalesced.
+         */
+        void updateBindings() {
+            progressBar.progressProperty().unbind();
+            titleText.textProperty().unbind();
+            messageText.textProperty().unbind();
+            if (sampledTask != null) {
+                sampledTask.progressProperty().removeListener(weakSampledTaskListener);
+                sampledTask.titleProperty().removeListener(weakSampledTaskListener);
+                sampledTask.messageProperty().removeListener(weakSampledTaskListener);
+                sampledTask = null;
+            }
+
+            if (task == null) {
+                return;
+            }
+            if (isCoalescing()) {
+                sampledTask = task;
+                sampledTask.progressProperty().addListener(weakSampledTaskListener);
+                sampledTask.titleProperty().addListener(weakSampledTaskListener);
+                sampledTask.messageProperty().addListener(weakSampledTaskListener);
+                sample();
+            } else {
+                progressBar.progressProperty().bind(task.progressProperty());
+                titleText.textProperty().bind(task.titleProperty());
+                messageText.textProperty().bind(task.messageProperty());
+            }
+        }
+
+        void sample() {
+            if (task != null && isCoalescing()) {
+                progressBar.setProgress(task.getProgress());
+                titleText.setText(task.getTitle());
+                messageText.setText(task.getMessage());
+            }
         }
 
         @Override
@@ -130,16 +291,14 @@ public class TaskProgressViewSkin<T extends Task<?>> extends
         protected void updateItem(T task, boolean empty) {
             super.updateItem(task, empty);
 
-            this.task = task;
+            this.task = empty ? null : task;
+            updateBindings();
 
             if (empty || task == null) {
                 getStyleClass().setAll("task-list-cell-empty");
                 setGraphic(null);
             } else if (task != null) {
                 getStyleClass().setAll("task-list-cell");
-                progressBar.progressProperty().bind(task.progressProperty());
-                titleText.textProperty().bind(task.titleProperty());
-                messageText.textProperty().bind(task.messageProperty());
                 cancelButton.disableProperty().bind(
                         Bindings.not(task.runningProperty()));
 
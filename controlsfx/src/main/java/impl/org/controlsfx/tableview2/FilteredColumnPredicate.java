@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2013, 2018 ControlsFX
+ * Copyright (c) 2013, 2026 ControlsFX
  * All rights reserved.
  *
  * Redistribution and use in source and binary forms, with or without
@@ -26,12 +26,17 @@
  */
 package impl.org.controlsfx.tableview2;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
 import javafx.scene.control.TableColumnBase;
 import org.controlsfx.control.tableview2.FilteredTableColumn;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -39,41 +44,121 @@ import java.util.function.Predicate;
  * that is used when the {@link org.controlsfx.control.tableview2.FilteredTableView#filter() } 
  * method is called.
  *
+ * <p>The column predicates are combined with an and operation, bailing with the first
+ * column that fails. To fail as early and as cheaply as possible, a sample of the tests
+ * evaluates every column predicate, measuring its average cost and rejection rate, and
+ * the columns are then evaluated by increasing cost per rejection. The statistics of
+ * a column are reset when its predicate changes, and the whole plan is rebuilt when
+ * an observable list of columns changes. The current
+ * evaluation order and statistics are available through {@link #getEvaluationOrder()},
+ * {@link #getStatistics(TableColumnBase)} and {@link #toString()}.
+ *
+ * <p>Once all the items have been {@link #setFiltered() filtered}, the predicate is only
+ * tested again for items that were added or updated. Their cell values may have changed
+ * in place, so they are passed first to the {@link #CELL_VALUE_INVALIDATOR} of each column,
+ * that drops whatever the column predicate has cached for them.
+ *
  * @param <S> the type of the input to the predicate
  * @param <T> The type of the content in all cells in the related FilteredTableColumn
  */
 public class FilteredColumnPredicate<S, T> implements Predicate<S> {
 
+    /**
+     * The key of the {@link TableColumnBase#getProperties() column property} that holds
+     * a {@code Consumer} of the cell values to invalidate, if any.
+     */
+    public static final String CELL_VALUE_INVALIDATOR = "FilteredColumnPredicate.cellValueInvalidator";
+
+    // every test is sampled until WARMUP_SAMPLES, then one out of SAMPLE_INTERVAL
+    private static final int WARMUP_SAMPLES = 64;
+    private static final int SAMPLE_INTERVAL = 32;
+    // the evaluation order is revised every REORDER_INTERVAL samples
+    private static final int REORDER_INTERVAL = 32;
+
     private final List<? extends TableColumnBase> columns;
 
+    // the filtered columns the evaluation plan was built for, null when invalid
+    private List<FilteredTableColumn<S, T>> planColumns;
+    private ColumnStatistics[] statistics;
+    private int[] evaluationOrder;
+    private long tests;
+    private long samples;
+    private boolean filtered;
+
+    private final InvalidationListener columnsListener = o -> invalidatePlan();
+    private final InvalidationListener predicateListener = this::predicateChanged;
+    private final WeakInvalidationListener weakPredicateListener = new WeakInvalidationListener(predicateListener);
+
     public FilteredColumnPredicate(TableColumnBase<S,T>... columns) {
         this(Arrays.asList(columns));
     }
 
     public FilteredColumnPredicate(List<? extends TableColumnBase> columns) {
         this.columns = Collections.unmodifiableList(columns);
+        if (columns instanceof Observable) {
+            ((Observable) columns).addListener(new WeakInvalidationListener(columnsListener));
+        }
     }
 
     /** {@inheritDoc} */
     @Override public boolean test(S s) {
-        for (TableColumnBase<S,T> tc : columns) {
-            if (tc instanceof FilteredTableColumn) {
-                FilteredTableColumn<S, T> ftc = (FilteredTableColumn) tc;
-                if (ftc.getPredicate() == null || ! ftc.isFilterable()) {
-                    continue;
-                }
-                T value = tc.getCellData(s);
-                boolean result = doFilter(ftc, value);
-
-                // this is an and operation: bails with the first column that fails
-                if (! result) {
-                    return false;
-                }
+        checkPlan();
+        if (filtered) {
+            invalidateCellValues(s);
+        }
+        if (samples < WARMUP_SAMPLES || tests++ % SAMPLE_INTERVAL == 0) {
+            return sampledTest(s);
+        }
+        for (int index : evaluationOrder) {
+            FilteredTableColumn<S, T> ftc = planColumns.get(index);
+            if (ftc.getPredicate() == null || ! ftc.isFilterable()) {
+                continue;
+            }
+            T value = ftc.getCellData(s);
+            boolean result = doFilter(ftc, value);
+
+            // this is an and operation: bails with the first column that fails
+            if (! result) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Marks the end of the pass that filtered all the items with this predicate: it
+     * is tested afterwards only for added or updated items, which cell values are
+     * invalidated before.
+     */
+    public void setFiltered() {
+        filtered = true;
+    }
+
+    /**
+     * Returns the filtered columns in the order their predicates are currently evaluated.
+     * @return an unmodifiable list of columns
+     */
+    public List<TableColumnBase<S, T>> getEvaluationOrder() {
+        checkPlan();
+        List<TableColumnBase<S, T>> order = new ArrayList<>(evaluationOrder.length);
+        for (int index : evaluationOrder) {
+            order.add(planColumns.get(index));
+        }
+        return Collections.unmodifiableList(order);
+    }
+
+    /**
+     * Returns the statistics collected for the predicate of the given column, or null
+     * if the column is not filtered by this predicate.
+     * @param column a column of the table
+     * @return the statistics of the column, or null
+     */
+    public ColumnStatistics getStatistics(TableColumnBase<S, ?> column) {
+        checkPlan();
+        int index = planColumns.indexOf(column);
+        return index < 0 ? null : statistics[index];
+    }
+
     /** {@inheritDoc} */
     @Override public int hashCode() {
         int hash = 7;
@@ -100,10 +185,175 @@ public class FilteredColumnPredicate<S, T> implements Predicate<S> {
         Predicate<? super T> p = filter.getPredicate();
         return p == null || p.test(value);
     }
+
+    /**
+     * Invalidates the cell values of the given item for all the columns, and not only
+     * for the ones evaluated before bailing, as any of them can be evaluated later on.
+     */
+    private void invalidateCellValues(S s) {
+        for (FilteredTableColumn<S, T> ftc : planColumns) {
+            Consumer<T> invalidator = getCellValueInvalidator(ftc);
+            if (invalidator != null) {
+                invalidator.accept(ftc.getCellData(s));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Consumer<T> getCellValueInvalidator(TableColumnBase<?, T> column) {
+        Object invalidator = column.hasProperties() ? column.getProperties().get(CELL_VALUE_INVALIDATOR) : null;
+        return invalidator instanceof Consumer ? (Consumer<T>) invalidator : null;
+    }
+
+    /**
+     * Evaluates all the column predicates, without bailing, to collect unbiased
+     * cost and rejection statistics for each of them.
+     */
+    private boolean sampledTest(S s) {
+        boolean accepted = true;
+        for (int index : evaluationOrder) {
+            FilteredTableColumn<S, T> ftc = planColumns.get(index);
+            if (ftc.getPredicate() == null || ! ftc.isFilterable()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            boolean result = doFilter(ftc, ftc.getCellData(s));
+            statistics[index].add(System.nanoTime() - start, result);
+            accepted &= result;
+        }
+        if (++samples % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return accepted;
+    }
+
+    /**
+     * Insertion sort of the evaluation order by cost per rejection: there are
+     * only a few columns, and the order is mostly sorted already.
+     */
+    private void reorder() {
+        for (int i = 1; i < evaluationOrder.length; i++) {
+            int index = evaluationOrder[i];
+            double cost = statistics[index].getCostPerRejection();
+            int j = i - 1;
+            for (; j >= 0 && statistics[evaluationOrder[j]].getCostPerRejection() > cost; j--) {
+                evaluationOrder[j + 1] = evaluationOrder[j];
+            }
+            evaluationOrder[j + 1] = index;
+        }
+    }
+
+    private void checkPlan() {
+        if (planColumns != null) {
+            return;
+        }
+        planColumns = new ArrayList<>();
+        for (TableColumnBase<?, ?> column : columns) {
+            if (column instanceof FilteredTableColumn) {
+                FilteredTableColumn<S, T> ftc = asFilteredColumn(column);
+                ftc.predicateProperty().addListener(weakPredicateListener);
+                planColumns.add(ftc);
+            }
+        }
+        statistics = new ColumnStatistics[planColumns.size()];
+        evaluationOrder = new int[planColumns.size()];
+        for (int i = 0; i < statistics.length; i++) {
+            statistics[i] = new ColumnStatistics();
+            evaluationOrder[i] = i;
+        }
+        samples = 0;
+        tests = 0;
+    }
+
+    private void invalidatePlan() {
+        if (planColumns != null) {
+            for (FilteredTableColumn<S, T> ftc : planColumns) {
+                ftc.predicateProperty().removeListener(weakPredicateListener);
+            }
+            planColumns = null;
+        }
+    }
+
+    /**
+     * A new predicate has new costs and rejection rates: the statistics of its column
+     * are reset, and all the columns are sampled again until the warm-up is over.
+     */
+    private void predicateChanged(Observable observable) {
+        for (int i = 0; planColumns != null && i < planColumns.size(); i++) {
+            if (planColumns.get(i).predicateProperty() == observable) {
+                statistics[i] = new ColumnStatistics();
+                samples = 0;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, T> FilteredTableColumn<S, T> asFilteredColumn(TableColumnBase<?, ?> column) {
+        return (FilteredTableColumn<S, T>) column;
+    }
     
     /** {@inheritDoc} */
     @Override public String toString() {
-        return "FilteredColumnsPredicate [ columns: " + columns + "] ";
+        StringBuilder sb = new StringBuilder("FilteredColumnsPredicate [ columns: " + columns + ", evaluation order: [");
+        List<TableColumnBase<S, T>> order = getEvaluationOrder();
+        for (int i = 0; i < order.size(); i++) {
+            TableColumnBase<S, T> column = order.get(i);
+            sb.append(i == 0 ? " " : ", ").append(column.getText()).append(" ").append(getStatistics(column));
+        }
+        return sb.append(" ] ] ").toString();
     }
 
+    /**
+     * Runtime statistics of the predicate of a column, collected on a sample of the tests.
+     */
+    public static final class ColumnStatistics {
+
+        private long sampleCount;
+        private long rejectionCount;
+        private long totalNanos;
+
+        void add(long nanos, boolean accepted) {
+            sampleCount++;
+            totalNanos += nanos;
+            if (! accepted) {
+                rejectionCount++;
+            }
+        }
+
+        /**
+         * Returns the number of sampled tests.
+         */
+        public long getSampleCount() {
+            return sampleCount;
+        }
+
+        /**
+         * Returns the average time, in nanoseconds, taken to get the cell value and test it.
+         */
+        public double getAverageNanos() {
+            return sampleCount == 0 ? 0 : (double) totalNanos / sampleCount;
+        }
+
+        /**
+         * Returns the fraction of the sampled tests rejected by the predicate.
+         */
+        public double getRejectionRate() {
+            return sampleCount == 0 ? 0 : (double) rejectionCount / sampleCount;
+        }
+
+        /**
+         * Expected cost spent to reject an item: the lower, the earlier the
+         * predicate is evaluated. The rejection rate is smoothed, so predicates
+         * that never reject are ordered by cost.
+         */
+        double getCostPerRejection() {
+            return getAverageNanos() * (sampleCount + 2) / (rejectionCount + 1);
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return String.format("{ samples: %d, average: %.0f ns, rejection rate: %.2f }",
+                    sampleCount, getAverageNanos(), getRejectionRate());
+        }
+    }
 }
@@ -0,0 +1,365 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tableview2;
+
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.SortType;
+import javafx.scene.control.TableColumnBase;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Sort keys of a snapshot of items, extracted once from the sort order columns
+ * of a table, so the items can be sorted away from the JavaFX Application 
+ * Thread without calling the cell value factories again.
+ * 
+ * When a column uses {@link TableColumnBase#DEFAULT_COMPARATOR}, its values are
+ * stored as primitive arrays if they are all Integer, Long, Short, Byte, Double
+ * or Float, and as {@link CollationKey collation keys} if they are all Strings.
+ * Any other column keeps its values and its comparator. Either way, the 
+ * resulting order is the one of the table comparator.
+ * 
+ * The items are sorted as a permutation of their indices, in plain int arrays,
+ * with a stable parallel merge sort.
+ * 
+ * @param <S> The type of the items
+ */
+public final class SortKeys<S> {
+
+    private final List<S> items;
+    private final ColumnKey[] columnKeys;
+
+    private SortKeys(List<S> items, List<ColumnKey> columnKeys) {
+        this.items = items;
+        this.columnKeys = columnKeys.toArray(new ColumnKey[0]);
+    }
+
+    /**
+     * Extracts the keys of the given items for the given sort order. This has
+     * to be called from the JavaFX Application Thread.
+     * 
+     * @param <S> The type of the items
+     * @param items a snapshot of the items, that won't be modified afterwards
+     * @param sortOrder the sort order of the table
+     * @return the sort keys of the items
+     */
+    public static <S> SortKeys<S> extract(List<S> items, List<? extends TableColumn<S, ?>> sortOrder) {
+        List<ColumnKey> columnKeys = new ArrayList<>();
+        for (TableColumn<S, ?> column : sortOrder) {
+            // same columns as TableColumnComparator
+            if (column.getSortType() == null || ! column.isSortable()) {
+                continue;
+            }
+            Object[] values = new Object[items.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = column.getCellData(items.get(i));
+            }
+            @SuppressWarnings("unchecked")
+            Comparator<Object> comparator = (Comparator<Object>) column.getComparator();
+            columnKeys.add(ColumnKey.of(values, comparator, column.getSortType() == SortType.DESCENDING));
+        }
+        return new SortKeys<>(items, columnKeys);
+    }
+
+    /**
+     * Sorts the items with a stable parallel sort on the calling thread, and 
+     * returns the resulting permutation: the item at position {@code k} of the 
+     * sorted list is the item at index {@code order[k]} of the snapshot.
+     * 
+     * @param cancelled checked during the sort, if it returns true the sort is
+     * aborted with a {@link CancellationException}
+     * @return the sorted indices of the items
+     */
+    public int[] sort(BooleanSupplier cancelled) {
+        final int size = items.size();
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        ForkJoinPool.commonPool().invoke(new MergeSort(order.clone(), order, 0, size, cancelled));
+        return order;
+    }
+
+    /**
+     * Returns the rank of each item for the given permutation, where items with
+     * equal keys share the same rank.
+     * 
+     * @param order the sorted indices returned by {@link #sort(BooleanSupplier)}
+     * @return a map with the rank of each item, compared by identity
+     */
+    public Map<S, Integer> rank(int[] order) {
+        Map<S, Integer> ranks = new IdentityHashMap<>(order.length);
+        int rank = 0;
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0 && compare(order[i - 1], order[i]) != 0) {
+                rank++;
+            }
+            ranks.put(items.get(order[i]), rank);
+        }
+        return ranks;
+    }
+
+    private int compare(int i, int j) {
+        for (ColumnKey columnKey : columnKeys) {
+            int result = columnKey.descending ? columnKey.compare(j, i) : columnKey.compare(i, j);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Top-down merge sort of a range of indices, from {@code src} into 
+     * {@code dest}, that alternates both arrays between the levels and sorts 
+     * large halves in parallel. Both arrays hold the same indices on entry.
+     */
+    @SuppressWarnings("serial")
+    private final class MergeSort extends RecursiveAction {
+
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+        private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+        private final int[] src;
+        private final int[] dest;
+        private final int low;
+        private final int high;
+        private final BooleanSupplier cancelled;
+
+        MergeSort(int[] src, int[] dest, int low, int high, BooleanSupplier cancelled) {
+            this.src = src;
+            this.dest = dest;
+            this.low = low;
+            this.high = high;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.getAsBoolean()) {
+                throw new CancellationException();
+            }
+            if (high - low < INSERTION_SORT_THRESHOLD) {
+                for (int i = low + 1; i < high; i++) {
+                    int index = dest[i];
+                    int j = i - 1;
+                    for (; j >= low && compare(dest[j], index) > 0; j--) {
+                        dest[j + 1] = dest[j];
+                    }
+                    dest[j + 1] = index;
+                }
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            MergeSort left = new MergeSort(dest, src, low, mid, cancelled);
+            MergeSort right = new MergeSort(dest, src, mid, high, cancelled);
+            if (high - low < PARALLEL_THRESHOLD) {
+                left.compute();
+                right.compute();
+            } else {
+                invokeAll(left, right);
+            }
+
+            // the halves are already in order
+            if (compare(src[mid - 1], src[mid]) <= 0) {
+                System.arraycopy(src, low, dest, low, high - low);
+                return;
+            }
+            for (int i = low, p = low, q = mid; i < high; i++) {
+                if (q >= high || p < mid && compare(src[p], src[q]) <= 0) {
+                    dest[i] = src[p++];
+                } else {
+                    dest[i] = src[q++];
+                }
+            }
+        }
+    }
+
+    private static abstract class ColumnKey {
+
+        final boolean descending;
+
+        ColumnKey(boolean descending) {
+            this.descending = descending;
+        }
+
+        abstract int compare(int i, int j);
+
+        static ColumnKey of(Object[] values, Comparator<Object> comparator, boolean descending) {
+            if (comparator == TableColumnBase.DEFAULT_COMPARATOR) {
+                Class<?> type = getCommonClass(values);
+                if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+                    return new LongKey(values, descending);
+                } else if (type == Double.class || type == Float.class) {
+                    return new DoubleKey(values, descending);
+                } else if (type == String.class) {
+                    return new CollationColumnKey(values, descending);
+                }
+            }
+            return new ObjectKey(values, comparator, descending);
+        }
+
+        private static Class<?> getCommonClass(Object[] values) {
+            Class<?> type = null;
+            for (Object value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (type == null) {
+                    type = value.getClass();
+                } else if (type != value.getClass()) {
+                    return null;
+                }
+            }
+            return type;
+        }
+
+        private static BitSet getNulls(Object[] values) {
+            BitSet nulls = new BitSet(values.length);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    nulls.set(i);
+                }
+            }
+            return nulls;
+        }
+
+        // nulls first, as in TableColumnBase.DEFAULT_COMPARATOR
+        static int compareNulls(boolean null1, boolean null2) {
+            return null1 == null2 ? 0 : null1 ? -1 : 1;
+        }
+    }
+
+    private static final class LongKey extends ColumnKey {
+
+        private final long[] keys;
+        private final BitSet nulls;
+
+        LongKey(Object[] values, boolean descending) {
+            super(descending);
+            keys = new long[values.length];
+            nulls = ColumnKey.getNulls(values);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    keys[i] = ((Number) values[i]).longValue();
+                }
+            }
+        }
+
+        @Override
+        int compare(int i, int j) {
+            boolean null1 = nulls.get(i);
+            boolean null2 = nulls.get(j);
+            if (null1 || null2) {
+                return compareNulls(null1, null2);
+            }
+            return Long.compare(keys[i], keys[j]);
+        }
+    }
+
+    private static final class DoubleKey extends ColumnKey {
+
+        private final double[] keys;
+        private final BitSet nulls;
+
+        DoubleKey(Object[] values, boolean descending) {
+            super(descending);
+            keys = new double[values.length];
+            nulls = ColumnKey.getNulls(values);
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    keys[i] = ((Number) values[i]).doubleValue();
+                }
+            }
+        }
+
+        @Override
+        int compare(int i, int j) {
+            boolean null1 = nulls.get(i);
+            boolean null2 = nulls.get(j);
+            if (null1 || null2) {
+                return compareNulls(null1, null2);
+            }
+            return Double.compare(keys[i], keys[j]);
+        }
+    }
+
+    private static final class CollationColumnKey extends ColumnKey {
+
+        private final CollationKey[] keys;
+
+        CollationColumnKey(Object[] values, boolean descending) {
+            super(descending);
+            keys = new CollationKey[values.length];
+            // same collator as TableColumnBase.DEFAULT_COMPARATOR
+            Collator collator = Collator.getInstance();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    keys[i] = collator.getCollationKey((String) values[i]);
+                }
+            }
+        }
+
+        @Override
+        int compare(int i, int j) {
+            CollationKey key1 = keys[i];
+            CollationKey key2 = keys[j];
+            if (key1 == null || key2 == null) {
+                return compareNulls(key1 == null, key2 == null);
+            }
+            return key1.compareTo(key2);
+        }
+    }
+
+    private static final class ObjectKey extends ColumnKey {
+
+        private final Object[] keys;
+        private final Comparator<Object> comparator;
+
+        ObjectKey(Object[] values, Comparator<Object> comparator, boolean descending) {
+            super(descending);
+            this.keys = values;
+            this.comparator = comparator;
+        }
+
+        @Override
+        int compare(int i, int j) {
+            return comparator.compare(keys[i], keys[j]);
+        }
+    }
+}
@@ -192,7 +192,8 @@ public class TableRow2Skin<S> extends CellSkinBase<TableRow<S>> {
                 rootColumn = (TableColumn<?, ?>) rootColumn.getParentColumn();
             }
 
-            if (tableView.isColumnFixingEnabled() && tableView.getFixedColumns().contains(rootColumn)) {
+            final boolean fixedColumn = tableView.isColumnFixingEnabled() && skin.isFixedColumn(rootColumn);
+            if (fixedColumn) {
                 isVisible = true;
             }
 
@@ -236,7 +237,7 @@ public class TableRow2Skin<S> extends CellSkinBase<TableRow<S>> {
             boolean increaseFixedWidth = false;
             //Virtualization of column
             // We translate that column by the Hbar Value if it's fixed
-            if (tableView.isColumnFixingEnabled() && tableView.getFixedColumns().contains(rootColumn)) {
+            if (fixedColumn) {
                 /**
                  * Here we verify if our cell must be shifted. The second
                  * condition is to determine that we are dealing with the very
@@ -461,7 +462,7 @@ public class TableRow2Skin<S> extends CellSkinBase<TableRow<S>> {
          * triggered, because it's not the user who has modified that. So the
          * rectangle will not update, we need to force it here.
          */
-        if (rowHeightChange && tableView.getFixedRows().contains(index)) {
+        if (rowHeightChange && skin.isFixedRow(index)) {
             skin.computeFixedRowHeight();
         }
     }
@@ -648,15 +649,11 @@ public class TableRow2Skin<S> extends CellSkinBase<TableRow<S>> {
      */
     private double getFixedRowShift(int index) {
         double tableCellY = 0;
-        int positionY = tableView.getFixedRows().indexOf(index);
+        int positionY = skin.getFixedRowPosition(index);
 
-        //FIXME Integrate if fixedCellSize is enabled
         //Computing how much space we need to translate
         //because each row has different space.
-        double space = 0;
-        for (int o = 0; o < positionY; ++o) {
-            space += skin.getRowHeight(tableView.getFixedRows().get(o));
-        }
+        double space = positionY > 0 ? skin.getFixedRowOffset(positionY) : 0;
 
         //If true, this row is fixed
         if (positionY != -1 && getSkinnable().getLocalToParentTransform().getTy() <= space) {
@@ -36,6 +36,7 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.collections.ObservableSet;
@@ -49,6 +50,7 @@ import javafx.scene.control.ScrollBar;
 import javafx.scene.control.SortEvent;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumnBase;
 import javafx.scene.control.TableFocusModel;
 import javafx.scene.control.TablePosition;
 import javafx.scene.control.TablePositionBase;
@@ -65,8 +67,10 @@ import org.controlsfx.control.tableview2.TableView2;
 
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -142,6 +146,22 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
      */
     private double fixedRowHeight = 0;
 
+    /**
+     * Views of the fixed rows and columns, updated by the fixedRowsListener
+     * and the fixedColumnsListener, so that the rows can check them in
+     * constant time on every layout pass.
+     *
+     * fixedRowPositions maps each fixed row to its position in the list of
+     * fixed rows, and fixedRowOffsets holds the sum of the heights of the 
+     * fixed rows placed before each position. The latter is computed lazily, 
+     * and discarded when the height of a fixed row may have changed.
+     */
+    private final BitSet fixedRowSet = new BitSet();
+    private final Map<Integer, Integer> fixedRowPositions = new HashMap<>();
+    private final Set<TableColumnBase<?, ?>> fixedColumnSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private double[] fixedRowOffsets;
+    private int fixedRowOffsetsItemCount;
+
     /**
      * These variable try to optimize the layout of the rows in order not to layout
      * every time every row.
@@ -209,8 +229,15 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
                 () -> param -> new TableRow2<>(tableView), tableView.skinProperty()));
 
         getCurrentlyFixedRow().addListener(currentlyFixedRowListener);
+        updateFixedRows();
+        updateFixedColumns();
         this.tableView.getFixedRows().addListener(fixedRowsListener);
         this.tableView.getFixedColumns().addListener(fixedColumnsListener);
+        rowHeightMap.addListener((MapChangeListener.Change<? extends Integer, ? extends Double> c) -> {
+            if (isFixedRow(c.getKey())) {
+                fixedRowOffsets = null;
+            }
+        });
 
         init();
         
@@ -244,6 +271,7 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
         getFlow().getHorizontalBar().addEventFilter(MouseEvent.MOUSE_PRESSED, ml);
 
         registerChangeListener(tableView.fixedCellSizeProperty(), t -> {
+            fixedRowOffsets = null;
             tableView.refresh();
             verticalScroll();
             computeFixedRowHeight();
@@ -284,6 +312,61 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
         return fixedRowHeight;
     }
 
+    /**
+     * Returns whether the given row is in {@link TableView2#getFixedRows()},
+     * in constant time.
+     *
+     * @param row the number of row
+     * @return true if the row is fixed
+     */
+    public boolean isFixedRow(int row) {
+        return row >= 0 && fixedRowSet.get(row);
+    }
+
+    /**
+     * Returns whether the given column is in {@link TableView2#getFixedColumns()},
+     * in constant time.
+     *
+     * @param column the column
+     * @return true if the column is fixed
+     */
+    public boolean isFixedColumn(TableColumnBase<?, ?> column) {
+        return fixedColumnSet.contains(column);
+    }
+
+    /**
+     * Returns the position of the given row in {@link TableView2#getFixedRows()},
+     * or -1 if the row is not fixed.
+     *
+     * @param row the number of row
+     * @return the position of the row in the list of fixed rows
+     */
+    public int getFixedRowPosition(int row) {
+        return isFixedRow(row) ? fixedRowPositions.get(row) : -1;
+    }
+
+    /**
+     * Returns the sum of the heights of the fixed rows placed before the given
+     * position in {@link TableView2#getFixedRows()}.
+     *
+     * @param position the position in the list of fixed rows
+     * @return the height of the fixed rows before that position
+     */
+    public double getFixedRowOffset(int position) {
+        final int itemCount = getItemCount();
+        if (fixedRowOffsets == null || fixedRowOffsetsItemCount != itemCount) {
+            // the height of the rows depends on the item count too
+            final List<Integer> fixedRows = tableView.getFixedRows();
+            double[] offsets = new double[fixedRows.size() + 1];
+            for (int i = 0; i < fixedRows.size(); i++) {
+                offsets[i + 1] = offsets[i] + getRowHeight(fixedRows.get(i));
+            }
+            fixedRowOffsets = offsets;
+            fixedRowOffsetsItemCount = itemCount;
+        }
+        return fixedRowOffsets[Math.max(0, Math.min(position, fixedRowOffsets.length - 1))];
+    }
+
     /**
      * Contains the index of the sortedList.
      * @return an ObservableList of row indices
@@ -661,7 +744,7 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
         if (!getFlow().getCells().isEmpty()
                 //FIXME
                 && getFlow().getCells().get(getFixedRowSize()).getIndex() > row
-                && !tableView.getFixedRows().contains(row)) {
+                && !isFixedRow(row)) {
             flow.scrollTo(row);
         } else {
             flow.scrollTo(row);
@@ -749,7 +832,7 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
                     // on nested columns, we check if the root parent is the one fixed
                     column = (TableColumn<S, ?>) column.getParentColumn();
                 }
-                if (tableView.isColumnFixingEnabled() && tableView.getFixedColumns().contains(column)) {
+                if (tableView.isColumnFixingEnabled() && isFixedColumn(column)) {
                     fixedColumnWidth += column.getWidth();
                 }
                 start += column.getWidth();
@@ -813,9 +896,11 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
     private BitSet initRowToLayoutBitSet() {
         int rowCount = getItemCount();
         BitSet bitSet = new BitSet(rowCount);
-        for (int row = 0; row < rowCount; ++row) {
-            if (tableView.isRowFixingEnabled() && tableView.getFixedRows().contains(row)) {
-                bitSet.set(row);
+        if (tableView.isRowFixingEnabled()) {
+            for (Integer row : tableView.getFixedRows()) {
+                if (row >= 0 && row < rowCount) {
+                    bitSet.set(row);
+                }
             }
         }
         return bitSet;
@@ -834,6 +919,7 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
         @Override
         public void onChanged(Change<? extends Integer> c) {
             hBarValue.clear();
+            updateFixedRows();
             while (c.next()) {
                 if (c.wasPermutated()) {
                     for (Integer fixedRow : c.getList()) {
@@ -881,10 +967,33 @@ public class TableView2Skin<S> extends TableViewSkin<S> {
         @Override
         public void onChanged(Change<? extends TableColumn> c) {
             hBarValue.clear();
+            updateFixedColumns();
             getFlow().requestLayout();
         }
     };
 
+    private void updateFixedRows() {
+        fixedRowSet.clear();
+        fixedRowPositions.clear();
+        fixedRowOffsets = null;
+        final List<Integer> fixedRows = tableView.getFixedRows();
+        for (int i = 0; i < fixedRows.size(); i++) {
+            int row = fixedRows.get(i);
+            if (row >= 0) {
+                fixedRowSet.set(row);
+                // same as indexOf, the first position wins
+                fixedRowPositions.putIfAbsent(row, i);
+            }
+        }
+    }
+
+    private void updateFixedColumns() {
+        fixedColumnSet.clear();
+        for (TableColumnBase<?, ?> column : tableView.getFixedColumns()) {
+            fixedColumnSet.add(column);
+        }
+    }
+
 //    /** {@inheritDoc} */
 //    @Override protected boolean resizeColumn(TableColumn<S, ?> tc, double delta) {
 //        getTableHeaderRow2().getRootHeader().lastColumnResized = getColumns().indexOf(tc);
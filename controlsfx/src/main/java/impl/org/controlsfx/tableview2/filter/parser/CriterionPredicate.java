@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tableview2.filter.parser;
+
+import org.controlsfx.control.tableview2.query.FilterCriterion;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A predicate created by a parser, that keeps the structured form of the 
+ * parsed text, so it can be executed by a 
+ * {@link org.controlsfx.control.tableview2.query.QueryDataSource} instead.
+ *
+ * @param <T> Type of input to the predicate
+ */
+public final class CriterionPredicate<T> implements Predicate<T> {
+
+    private final Predicate<T> predicate;
+    private final FilterCriterion criterion;
+
+    public CriterionPredicate(Predicate<T> predicate, FilterCriterion criterion) {
+        this.predicate = Objects.requireNonNull(predicate);
+        this.criterion = Objects.requireNonNull(criterion);
+    }
+
+    public FilterCriterion getCriterion() {
+        return criterion;
+    }
+
+    @Override
+    public boolean test(T t) {
+        return predicate.test(t);
+    }
+
+    /**
+     * Returns the criterion of a predicate created by a parser, or null for
+     * any other predicate.
+     */
+    public static FilterCriterion getCriterion(Predicate<?> predicate) {
+        return predicate instanceof CriterionPredicate ? 
+                ((CriterionPredicate<?>) predicate).getCriterion() : null;
+    }
+}
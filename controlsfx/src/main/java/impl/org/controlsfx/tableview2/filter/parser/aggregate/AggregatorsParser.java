@@ -26,7 +26,11 @@
  */
 package impl.org.controlsfx.tableview2.filter.parser.aggregate;
 
+import impl.org.controlsfx.tableview2.filter.parser.CriterionPredicate;
 import org.controlsfx.control.tableview2.filter.parser.Parser;
+import org.controlsfx.control.tableview2.query.FilterAggregation;
+import org.controlsfx.control.tableview2.query.FilterAggregation.Type;
+import org.controlsfx.control.tableview2.query.FilterCriterion;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -45,7 +49,7 @@ public enum AggregatorsParser implements Aggregator {
                 final Predicate<T> parsedLhs = parser.parse(lhs);
                 final Predicate<T> parsedRhs = parser.parse(rhs);
                 if (parsedLhs != null && parsedRhs != null) {
-                    return parsedLhs.and(parsedRhs);
+                    return combine(Type.AND, parsedLhs.and(parsedRhs), parsedLhs, parsedRhs);
                 }
             }
             return null;
@@ -59,7 +63,7 @@ public enum AggregatorsParser implements Aggregator {
                 final Predicate<T> parsedLhs = parser.parse(lhs);
                 final Predicate<T> parsedRhs = parser.parse(rhs);
                 if (parsedLhs != null && parsedRhs != null) {
-                    return parsedLhs.or(parsedRhs);
+                    return combine(Type.OR, parsedLhs.or(parsedRhs), parsedLhs, parsedRhs);
                 }
             }
             return null;
@@ -123,6 +127,18 @@ public enum AggregatorsParser implements Aggregator {
         }
     }
     
+    /**
+     * Keeps the structured form of the aggregation, when both sides have one.
+     */
+    private static <T> Predicate<T> combine(Type type, Predicate<T> predicate, Predicate<T> lhs, Predicate<T> rhs) {
+        final FilterCriterion lhsCriterion = CriterionPredicate.getCriterion(lhs);
+        final FilterCriterion rhsCriterion = CriterionPredicate.getCriterion(rhs);
+        if (lhsCriterion == null || rhsCriterion == null) {
+            return predicate;
+        }
+        return new CriterionPredicate<>(predicate, new FilterAggregation(type, lhsCriterion, rhsCriterion));
+    }
+
     private static String i18nString(String key) {
         return localize(asKey("parser.text.operator." + key));
     }
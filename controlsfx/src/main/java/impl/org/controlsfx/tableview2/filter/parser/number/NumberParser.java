@@ -26,9 +26,12 @@
  */
 package impl.org.controlsfx.tableview2.filter.parser.number;
 
+import impl.org.controlsfx.tableview2.filter.parser.CriterionPredicate;
 import impl.org.controlsfx.tableview2.filter.parser.Operation;
 import impl.org.controlsfx.tableview2.filter.parser.aggregate.AggregatorsParser;
 import org.controlsfx.control.tableview2.filter.parser.Parser;
+import org.controlsfx.control.tableview2.query.FilterCondition;
+import org.controlsfx.control.tableview2.query.FilterOperator;
 
 import java.util.Arrays;
 import java.util.List;
@@ -60,7 +63,9 @@ public class NumberParser<T extends Number> implements Parser<T> {
                     errorString = localize(asKey("parser.text.error.number.input"));
                     return null;
                 }
-                return (Predicate<T>) operation.operate(convert(numText));
+                final double value = convert(numText);
+                return new CriterionPredicate<>((Predicate<T>) operation.operate(value), 
+                        new FilterCondition(operation.getOperator(), value, true));
             } else {
                 errorString = localize(asKey("parser.text.error.start.operator"));
                 return null;
@@ -111,37 +116,37 @@ public class NumberParser<T extends Number> implements Parser<T> {
 
     private enum NumberOperation implements Operation<Number, Number> {
 
-        EQUALS("text.equals", "symbol.equals") {
+        EQUALS("text.equals", "symbol.equals", FilterOperator.EQUALS) {
             @Override
             public Predicate<Number> operate(Number num) {
                 return t -> t != null && t.doubleValue() == num.doubleValue();
             }
         },
-        NOT_EQUALS("text.notequals", "symbol.notequals") {
+        NOT_EQUALS("text.notequals", "symbol.notequals", FilterOperator.NOT_EQUALS) {
             @Override
             public Predicate<Number> operate(Number num) {
                 return t -> t != null && t.doubleValue() != num.doubleValue();
             }
         },
-        GREATER_THAN_EQUALS("text.greaterthanequals", "symbol.greaterthanequals") {
+        GREATER_THAN_EQUALS("text.greaterthanequals", "symbol.greaterthanequals", FilterOperator.GREATER_THAN_OR_EQUALS) {
             @Override
             public Predicate<Number> operate(Number num) {
                 return t -> t != null && t.doubleValue() >= num.doubleValue();
             }
         },
-        GREATER_THAN("text.greaterthan", "symbol.greaterthan") {
+        GREATER_THAN("text.greaterthan", "symbol.greaterthan", FilterOperator.GREATER_THAN) {
             @Override
             public Predicate<Number> operate(Number num) {
                 return t -> t != null && t.doubleValue() > num.doubleValue();
             }
         },
-        LESS_THAN_EQUALS("text.lessthanequals", "symbol.lessthanequals") {
+        LESS_THAN_EQUALS("text.lessthanequals", "symbol.lessthanequals", FilterOperator.LESS_THAN_OR_EQUALS) {
             @Override
             public Predicate<Number> operate(Number num) {
                 return t -> t != null && t.doubleValue() <= num.doubleValue();
             }
         },
-        LESS_THAN("text.lessthan", "symbol.lessthan") {
+        LESS_THAN("text.lessthan", "symbol.lessthan", FilterOperator.LESS_THAN) {
             @Override
             public Predicate<Number> operate(Number num) {
                 return t -> t != null && t.doubleValue() < num.doubleValue();
@@ -150,10 +155,16 @@ public class NumberParser<T extends Number> implements Parser<T> {
 
         private final String opr;
         private final String symbol;
+        private final FilterOperator operator;
 
-        NumberOperation(String opr, String symbol) {
+        NumberOperation(String opr, String symbol, FilterOperator operator) {
             this.opr = i18nString(opr);
             this.symbol = i18nString(symbol);
+            this.operator = operator;
+        }
+
+        FilterOperator getOperator() {
+            return operator;
         }
 
         @Override
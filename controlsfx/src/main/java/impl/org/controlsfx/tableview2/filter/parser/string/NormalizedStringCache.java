@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2026, ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tableview2.filter.parser.string;
+
+import javafx.util.StringConverter;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the string a {@link StringParser} compares for each cell value: the value
+ * is converted with the optional {@link StringConverter} and case folded only once,
+ * instead of on every test of every predicate.
+ *
+ * A cache is bound to the converter and case sensitivity it was created with. Entries
+ * are keyed by the identity of the cell value, so equal values with different strings
+ * don't share an entry, and are weakly referenced, so they are dropped along with the
+ * values once items are removed or changed. A value mutated in place has to be
+ * {@link #invalidate(Object) invalidated}. Not thread safe: it is meant to be used
+ * while filtering on the JavaFX Application Thread.
+ *
+ * @param <T> Type of the cell values
+ */
+final class NormalizedStringCache<T> {
+
+    private final StringConverter<T> converter;
+    private final boolean caseSensitive;
+    private final Map<Object, String> cache = new HashMap<>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    NormalizedStringCache(StringConverter<T> converter, boolean caseSensitive) {
+        this.converter = converter;
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Returns the normalized string for the given value, or null if the value
+     * can't be converted (null value with a converter).
+     */
+    String get(T value) {
+        if (value == null) {
+            return converter == null ? normalize("null") : null;
+        }
+        if (converter == null && caseSensitive && value instanceof String) {
+            return (String) value;
+        }
+        String normalized = cache.get(new Lookup(value));
+        if (normalized == null) {
+            normalized = normalize(converter == null ? value.toString() : converter.toString(value));
+            // a string that is its own normalized form would never be collected
+            if (normalized != null && normalized != value) {
+                expungeStaleEntries();
+                cache.put(new WeakKey<>(value, queue), normalized);
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Drops the string cached for the given value, after the value has changed.
+     *
+     * @return true if a string was cached for the value
+     */
+    boolean invalidate(T value) {
+        return value != null && cache.remove(new Lookup(value)) != null;
+    }
+
+    /**
+     * Applies the case folding of this cache to the given string.
+     */
+    String normalize(String string) {
+        if (string == null) {
+            return null;
+        }
+        return caseSensitive ? string : string.toUpperCase();
+    }
+
+    int size() {
+        expungeStaleEntries();
+        return cache.size();
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends T> reference;
+        while ((reference = queue.poll()) != null) {
+            cache.remove(reference);
+        }
+    }
+
+    /*
+     * The key of an entry: a weak reference to the value, compared by identity.
+     */
+    private static final class WeakKey<T> extends WeakReference<T> {
+        private final int hash;
+
+        WeakKey(T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            hash = System.identityHashCode(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            // a cleared key is only equal to itself, so it can still be removed
+            Object value = get();
+            return value != null && obj instanceof WeakKey && ((WeakKey<?>) obj).get() == value;
+        }
+    }
+
+    /*
+     * A strong key used to look up the entry of a value.
+     */
+    private static final class Lookup {
+        private final Object value;
+
+        Lookup(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof WeakKey && ((WeakKey<?>) obj).get() == value;
+        }
+    }
+}
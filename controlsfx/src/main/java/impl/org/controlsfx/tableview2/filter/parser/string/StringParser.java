@@ -26,10 +26,13 @@
  */
 package impl.org.controlsfx.tableview2.filter.parser.string;
 
+import impl.org.controlsfx.tableview2.filter.parser.CriterionPredicate;
 import impl.org.controlsfx.tableview2.filter.parser.Operation;
 import impl.org.controlsfx.tableview2.filter.parser.aggregate.AggregatorsParser;
 import javafx.util.StringConverter;
 import org.controlsfx.control.tableview2.filter.parser.Parser;
+import org.controlsfx.control.tableview2.query.FilterCondition;
+import org.controlsfx.control.tableview2.query.FilterOperator;
 
 import java.util.Arrays;
 import java.util.List;
@@ -45,6 +48,7 @@ public class StringParser<T> implements Parser<T> {
 
     private StringConverter<T> converter;
     private boolean caseSensitive;
+    private NormalizedStringCache<T> cache;
     private String errorString = "";
     private final List<Operation<T, String>> operations = Arrays.asList(
             new BeginsWith(), new EndsWith(), new Contains(), new EqualsTo(), new NotEqualsTo());
@@ -65,7 +69,10 @@ public class StringParser<T> implements Parser<T> {
     }
 
     public void setConverter(StringConverter<T> converter) {
-        this.converter = converter;
+        if (this.converter != converter) {
+            this.converter = converter;
+            cache = null;
+        }
     }
 
     public boolean isCaseSensitive() {
@@ -73,7 +80,10 @@ public class StringParser<T> implements Parser<T> {
     }
 
     public void setCaseSensitive(boolean caseSensitive) {
-        this.caseSensitive = caseSensitive;
+        if (this.caseSensitive != caseSensitive) {
+            this.caseSensitive = caseSensitive;
+            cache = null;
+        }
     }
 
     @Override
@@ -138,8 +148,42 @@ public class StringParser<T> implements Parser<T> {
                 .orElse(i18nString("symbol.default"));
     }
 
-    private String casedString(String string) {
-        return caseSensitive ? string : string.toUpperCase();
+    /**
+     * Drops the normalized string cached for a cell value that was changed in
+     * place, so the predicates created by this parser convert it again.
+     *
+     * @param value the cell value
+     * @return true if a string was cached for the value
+     */
+    public boolean invalidate(T value) {
+        return cache != null && cache.invalidate(value);
+    }
+
+    /**
+     * Drops all the normalized strings cached for the cell values, once they are
+     * no longer tested and can't be kept up to date.
+     */
+    public void invalidateAll() {
+        cache = null;
+    }
+
+    /**
+     * Returns the cache of normalized strings for the current converter and case
+     * sensitivity. Predicates keep the cache they were created with, so the cell
+     * values are converted and case folded only once for all of them.
+     */
+    private NormalizedStringCache<T> getCache() {
+        if (cache == null) {
+            cache = new NormalizedStringCache<>(converter, caseSensitive);
+        }
+        return cache;
+    }
+
+    /**
+     * Keeps the structured form of an operation along with its predicate.
+     */
+    private Predicate<T> withCriterion(Predicate<T> predicate, FilterOperator operator, String text) {
+        return new CriterionPredicate<>(predicate, new FilterCondition(operator, text, caseSensitive, converter));
     }
 
     class BeginsWith implements Operation<T, String> {
@@ -156,10 +200,12 @@ public class StringParser<T> implements Parser<T> {
 
         @Override
         public Predicate<T> operate(String text) {
-            if (converter != null) {
-                return t -> t != null && casedString(converter.toString(t)).startsWith(casedString(text));
-            }
-            return t -> casedString(String.valueOf(t)).startsWith(casedString(text));
+            final NormalizedStringCache<T> cache = getCache();
+            final String normalizedText = cache.normalize(text);
+            return withCriterion(t -> {
+                String string = cache.get(t);
+                return string != null && string.startsWith(normalizedText);
+            }, FilterOperator.BEGINS_WITH, text);
         }
 
         @Override
@@ -183,10 +229,12 @@ public class StringParser<T> implements Parser<T> {
 
         @Override
         public Predicate<T> operate(String text) {
-            if (converter != null) {
-                return t -> t != null && casedString(converter.toString(t)).endsWith(casedString(text));
-            }
-            return t -> casedString(String.valueOf(t)).endsWith(casedString(text));
+            final NormalizedStringCache<T> cache = getCache();
+            final String normalizedText = cache.normalize(text);
+            return withCriterion(t -> {
+                String string = cache.get(t);
+                return string != null && string.endsWith(normalizedText);
+            }, FilterOperator.ENDS_WITH, text);
         }
         
         @Override
@@ -209,10 +257,12 @@ public class StringParser<T> implements Parser<T> {
 
         @Override
         public Predicate<T> operate(String text) {
-            if (converter != null) {
-                return t -> t != null && casedString(converter.toString(t)).contains(casedString(text));
-            }
-            return t -> casedString(String.valueOf(t)).contains(casedString(text));
+            final NormalizedStringCache<T> cache = getCache();
+            final String normalizedText = cache.normalize(text);
+            return withCriterion(t -> {
+                String string = cache.get(t);
+                return string != null && string.contains(normalizedText);
+            }, FilterOperator.CONTAINS, text);
         }
         
         @Override
@@ -235,10 +285,12 @@ public class StringParser<T> implements Parser<T> {
 
         @Override
         public Predicate<T> operate(String text) {
-            if (converter != null) {
-                return t -> t != null && casedString(converter.toString(t)).equals(casedString(text));
-            }
-            return t -> casedString(String.valueOf(t)).equals(casedString(text));
+            final NormalizedStringCache<T> cache = getCache();
+            final String normalizedText = cache.normalize(text);
+            return withCriterion(t -> {
+                String string = cache.get(t);
+                return string != null && string.equals(normalizedText);
+            }, FilterOperator.EQUALS, text);
         }
         
         @Override
@@ -261,10 +313,12 @@ public class StringParser<T> implements Parser<T> {
 
         @Override
         public Predicate<T> operate(String text) {
-            if (converter != null) {
-                return t -> t != null && ! casedString(converter.toString(t)).equals(casedString(text));
-            }
-            return t -> ! casedString(String.valueOf(t)).equals(casedString(text));
+            final NormalizedStringCache<T> cache = getCache();
+            final String normalizedText = cache.normalize(text);
+            return withCriterion(t -> {
+                String string = cache.get(t);
+                return string != null && ! string.equals(normalizedText);
+            }, FilterOperator.NOT_EQUALS, text);
         }
         
         @Override
@@ -45,6 +45,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * <p>This utility class can be used to customize a {@link ChoiceBox} or
@@ -97,6 +98,15 @@ import java.util.function.BiFunction;
  * space to clear the selection, show the popup when the control gains the focus, 
  * or set a different lookup criteria.
  * 
+ * <h3>Large lists</h3>
+ * 
+ * <p>By default, the items are converted and compared to the typed prefix one by
+ * one on every key pressed. For lists with many thousands of items, the lookup can
+ * use a sorted index of the display strings instead, see 
+ * {@link #setIndexed(ComboBox, boolean)} and {@link #setIndexed(ChoiceBox, boolean)}.
+ * The index is rebuilt on the first lookup after the items or the converter change,
+ * and it is used by the default lookups only.
+ * 
  * @see PrefixSelectionChoiceBox
  * @see PrefixSelectionComboBox
  */
@@ -106,12 +116,17 @@ public class PrefixSelectionCustomizer {
     
     private static final String SELECTION_PREFIX_STRING = "selectionPrefixString";
     private static final Object SELECTION_PREFIX_TASK = "selectionPrefixTask";
+    private static final Object SELECTION_PREFIX_INDEX = "selectionPrefixIndex";
 
     public static final BiFunction<ComboBox, String, Optional> DEFAULT_LOOKUP_COMBOBOX = 
             (comboBox, selection) -> {
                 if (comboBox == null || selection == null || selection.isEmpty()) {
                     return Optional.empty();
                 }
+                PrefixSelectionIndex<?> index = getIndex(comboBox);
+                if (index != null) {
+                    return index.lookup(selection);
+                }
                 
                 return comboBox.getItems().stream()
                         .filter(Objects::nonNull)
@@ -130,6 +145,10 @@ public class PrefixSelectionCustomizer {
                 if (choiceBox == null || selection == null || selection.isEmpty()) {
                     return Optional.empty();
                 }
+                PrefixSelectionIndex<?> index = getIndex(choiceBox);
+                if (index != null) {
+                    return index.lookup(selection);
+                }
                 
                 return choiceBox.getItems().stream()
                         .filter(Objects::nonNull)
@@ -283,4 +302,58 @@ public class PrefixSelectionCustomizer {
         choiceBox.addEventHandler(KeyEvent.KEY_PRESSED, handler);
     }
 
+    /**
+     * Enables or disables the sorted index of the display strings of the items,
+     * used by {@link #DEFAULT_LOOKUP_COMBOBOX} to find the matching item with
+     * a binary search instead of a scan of the items.
+     * 
+     * @param comboBox
+     *            The {@link ComboBox} that should be indexed
+     * @param indexed
+     *            whether the lookup should use an index
+     */
+    public static <T> void setIndexed(ComboBox<T> comboBox, boolean indexed) {
+        setIndex(comboBox, indexed ? 
+                () -> new PrefixSelectionIndex<>(comboBox.itemsProperty(), comboBox.converterProperty()) : null);
+    }
+
+    /**
+     * Enables or disables the sorted index of the display strings of the items,
+     * used by {@link #DEFAULT_LOOKUP_CHOICEBOX} to find the matching item with
+     * a binary search instead of a scan of the items.
+     * 
+     * @param choiceBox
+     *            The {@link ChoiceBox} that should be indexed
+     * @param indexed
+     *            whether the lookup should use an index
+     */
+    public static <T> void setIndexed(ChoiceBox<T> choiceBox, boolean indexed) {
+        setIndex(choiceBox, indexed ? 
+                () -> new PrefixSelectionIndex<>(choiceBox.itemsProperty(), choiceBox.converterProperty()) : null);
+    }
+
+    /**
+     * Returns true if the lookup of the given {@link ComboBox} or {@link ChoiceBox}
+     * uses an index.
+     */
+    public static boolean isIndexed(Control control) {
+        return getIndex(control) != null;
+    }
+
+    private static void setIndex(Control control, Supplier<PrefixSelectionIndex<?>> factory) {
+        PrefixSelectionIndex<?> index = getIndex(control);
+        if (factory == null) {
+            if (index != null) {
+                index.dispose();
+                control.getProperties().remove(SELECTION_PREFIX_INDEX);
+            }
+        } else if (index == null) {
+            control.getProperties().put(SELECTION_PREFIX_INDEX, factory.get());
+        }
+    }
+
+    private static PrefixSelectionIndex<?> getIndex(Control control) {
+        return (PrefixSelectionIndex<?>) control.getProperties().get(SELECTION_PREFIX_INDEX);
+    }
+
 }
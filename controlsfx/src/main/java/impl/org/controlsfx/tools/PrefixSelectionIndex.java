@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tools;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.util.StringConverter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * A sorted index of the display strings of the items of a {@link javafx.scene.control.ComboBox}
+ * or a {@link javafx.scene.control.ChoiceBox}, used by {@link PrefixSelectionCustomizer}
+ * to find the first item matching the typed prefix with a binary search, instead
+ * of converting all the items on every key pressed.
+ *
+ * The display strings are upper cased with {@link Locale#ROOT} and sorted along
+ * with the position of their item. Items matching a prefix are contiguous in the
+ * sorted order, and a segment tree over the positions returns the first of them
+ * in the item list, so the result is the same as the one of a linear scan.
+ *
+ * The index is discarded when the items list, its content or the converter
+ * change, and rebuilt on the next lookup.
+ *
+ * @param <T> Type of the items
+ */
+public final class PrefixSelectionIndex<T> {
+
+    private final ObjectProperty<ObservableList<T>> itemsProperty;
+    private final ObjectProperty<StringConverter<T>> converterProperty;
+
+    private final InvalidationListener contentListener = o -> invalidate();
+    private final WeakInvalidationListener weakContentListener = new WeakInvalidationListener(contentListener);
+    private final InvalidationListener itemsListener = o -> {
+        listenToItems();
+        invalidate();
+    };
+    private final InvalidationListener converterListener = o -> invalidate();
+
+    private ObservableList<T> items;
+
+    /**
+     * Upper cased display strings, sorted.
+     */
+    private String[] keys;
+
+    /**
+     * Segment tree of the smallest item position: leaves at [n, 2n) hold the
+     * position of the item of each key.
+     */
+    private int[] positions;
+
+    PrefixSelectionIndex(ObjectProperty<ObservableList<T>> itemsProperty, ObjectProperty<StringConverter<T>> converterProperty) {
+        this.itemsProperty = itemsProperty;
+        this.converterProperty = converterProperty;
+        itemsProperty.addListener(itemsListener);
+        converterProperty.addListener(converterListener);
+        listenToItems();
+    }
+
+    /**
+     * Returns the first item whose display string starts with the given prefix,
+     * ignoring case.
+     */
+    Optional<T> lookup(String prefix) {
+        if (prefix == null || prefix.isEmpty() || items == null) {
+            return Optional.empty();
+        }
+        if (keys == null) {
+            build();
+        }
+
+        final String key = prefix.toUpperCase(Locale.ROOT);
+        final int n = keys.length;
+        int from = lowerBound(key);
+        int to = from;
+        // first key after the prefix range
+        int high = n;
+        while (to < high) {
+            int mid = (to + high) >>> 1;
+            if (keys[mid].startsWith(key)) {
+                to = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (from == to) {
+            return Optional.empty();
+        }
+
+        int first = Integer.MAX_VALUE;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                first = Math.min(first, positions[l++]);
+            }
+            if ((r & 1) == 1) {
+                first = Math.min(first, positions[--r]);
+            }
+        }
+        return Optional.of(items.get(first));
+    }
+
+    /**
+     * Stops listening to the control.
+     */
+    void dispose() {
+        itemsProperty.removeListener(itemsListener);
+        converterProperty.removeListener(converterListener);
+        if (items != null) {
+            items.removeListener(weakContentListener);
+        }
+        items = null;
+        invalidate();
+    }
+
+    private void listenToItems() {
+        if (items != null) {
+            items.removeListener(weakContentListener);
+        }
+        items = itemsProperty.get();
+        if (items != null) {
+            items.addListener(weakContentListener);
+        }
+    }
+
+    private void invalidate() {
+        keys = null;
+        positions = null;
+    }
+
+    private void build() {
+        final StringConverter<T> converter = converterProperty.get();
+        final List<T> list = items;
+        Entry[] entries = new Entry[list.size()];
+        int n = 0;
+        for (int i = 0; i < entries.length; i++) {
+            T item = list.get(i);
+            if (item == null) {
+                continue;
+            }
+            String s = converter == null ? item.toString() : converter.toString(item);
+            if (s != null && ! s.isEmpty()) {
+                entries[n++] = new Entry(s.toUpperCase(Locale.ROOT), i);
+            }
+        }
+        Arrays.sort(entries, 0, n);
+
+        keys = new String[n];
+        positions = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = entries[i].key;
+            positions[n + i] = entries[i].position;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            positions[i] = Math.min(positions[2 * i], positions[2 * i + 1]);
+        }
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final String key;
+        private final int position;
+
+        Entry(String key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return key.compareTo(other.key);
+        }
+    }
+}
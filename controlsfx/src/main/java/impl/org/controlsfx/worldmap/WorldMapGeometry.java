@@ -0,0 +1,566 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.worldmap;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringTokenizer;
+
+/**
+ * The coordinates of the SVG path data of the world map countries. Each country
+ * has one or more paths, each path is made of closed rings stored as absolute
+ * x, y coordinates.
+ *
+ * <p>The geometry can be parsed from the properties file used by the
+ * {@link WorldMapViewSkin}, or read from a compact binary form written by
+ * {@link #write(OutputStream)} at build time. For each level of detail, the
+ * rings are simplified with the Douglas-Peucker algorithm and the SVG content
+ * of the paths is created once, then cached. The country views still parse
+ * this content: they are {@code SVGPath} nodes, which can only be given their
+ * geometry as SVG text. A path that is the same at several levels shares one
+ * content string, so changing the level doesn't parse it again. A path that
+ * can't be parsed, for instance because it has curves, keeps its original SVG
+ * content at all the levels.
+ *
+ * <p>Binary form: the magic number and the version, the number of countries,
+ * then for each country its code, the number of paths, and for each path the
+ * number of rings, and for each ring the number of points followed by their
+ * coordinates as floats. Integers and floats are big endian.
+ *
+ * <p>This class doesn't depend on JavaFX, so it can be used by the build.
+ */
+public final class WorldMapGeometry {
+
+    private static final int MAGIC = 0x574D4150; // "WMAP"
+    private static final int VERSION = 1;
+
+    /*
+     * The tolerances of the levels of detail, in map units. The first level
+     * is the original geometry.
+     */
+    private static final double[] TOLERANCES = {0, 0.25, 0.5, 1, 2};
+
+    /*
+     * The maximum error on screen of a simplified path, in pixels.
+     */
+    private static final double PIXEL_TOLERANCE = 0.5;
+
+    /*
+     * The rings of each path of the countries, null for a path that couldn't
+     * be parsed and is kept in its original form.
+     */
+    private final Map<String, float[][][]> countries;
+    private final Map<String, String[]> originalPaths;
+    private final Map<String, float[][][][]> simplified = new LinkedHashMap<>();
+    private final Map<String, String[][]> contents = new LinkedHashMap<>();
+
+    private WorldMapGeometry(Map<String, float[][][]> countries, Map<String, String[]> originalPaths) {
+        this.countries = countries;
+        this.originalPaths = originalPaths;
+    }
+
+    /**
+     * Returns the level of detail to use when the map is shown at the given
+     * scale: the coarsest level whose error stays below half a pixel.
+     *
+     * @param scale the scale of the map on screen
+     * @return the level of detail, 0 being the original geometry
+     */
+    public static int getLevel(double scale) {
+        double tolerance = scale > 0 ? PIXEL_TOLERANCE / scale : Double.MAX_VALUE;
+        int level = 0;
+        while (level + 1 < TOLERANCES.length && TOLERANCES[level + 1] <= tolerance) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Parses the SVG paths of the given properties, keyed by country code.
+     * The paths of a country are separated by semicolons. Only the straight
+     * line commands (M, L, H, V, Z and their relative forms) are parsed: the
+     * other paths are kept as they are, and aren't simplified.
+     *
+     * @param data the properties storing the SVG path of each country
+     * @return the parsed geometry
+     */
+    public static WorldMapGeometry parse(Properties data) {
+        Map<String, float[][][]> countries = new LinkedHashMap<>();
+        Map<String, String[]> originalPaths = new LinkedHashMap<>();
+        for (String country : data.stringPropertyNames()) {
+            StringTokenizer st = new StringTokenizer(data.getProperty(country), ";");
+            List<float[][]> paths = new ArrayList<>();
+            List<String> originals = new ArrayList<>();
+            boolean parsed = true;
+            while (st.hasMoreTokens()) {
+                String path = st.nextToken();
+                originals.add(path);
+                try {
+                    paths.add(parsePath(path));
+                } catch (IllegalArgumentException e) {
+                    // e.g. curves, left to the SVGPath of the country view
+                    paths.add(null);
+                    parsed = false;
+                }
+            }
+            countries.put(country, paths.toArray(new float[0][][]));
+            if (!parsed) {
+                originalPaths.put(country, originals.toArray(new String[0]));
+            }
+        }
+        return new WorldMapGeometry(countries, originalPaths);
+    }
+
+    /**
+     * Reads the binary form of a geometry, written by {@link #write(OutputStream)},
+     * in a single read of the stream. The stream is not closed.
+     *
+     * @param in the stream storing the binary geometry
+     * @return the geometry
+     * @throws IOException if the stream can't be read or isn't a geometry
+     */
+    public static WorldMapGeometry read(InputStream in) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(in.readAllBytes());
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Unsupported world map geometry");
+        }
+        try {
+            int countryCount = buffer.getInt();
+            Map<String, float[][][]> countries = new LinkedHashMap<>();
+            for (int i = 0; i < countryCount; i++) {
+                byte[] code = new byte[buffer.getShort()];
+                buffer.get(code);
+                float[][][] paths = new float[buffer.getInt()][][];
+                for (int p = 0; p < paths.length; p++) {
+                    float[][] rings = new float[buffer.getInt()][];
+                    for (int r = 0; r < rings.length; r++) {
+                        rings[r] = new float[buffer.getInt() * 2];
+                        buffer.asFloatBuffer().get(rings[r]);
+                        buffer.position(buffer.position() + rings[r].length * Float.BYTES);
+                    }
+                    paths[p] = rings;
+                }
+                countries.put(new String(code, StandardCharsets.US_ASCII), paths);
+            }
+            return new WorldMapGeometry(countries, new LinkedHashMap<>());
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted world map geometry", e);
+        }
+    }
+
+    /**
+     * Writes the binary form of this geometry. The stream is not closed.
+     *
+     * @param out the stream to write the geometry to
+     * @throws IOException if the geometry can't be written, or has paths
+     * that couldn't be parsed
+     */
+    public void write(OutputStream out) throws IOException {
+        if (!originalPaths.isEmpty()) {
+            throw new IOException("Unsupported path commands in the paths of " + originalPaths.keySet());
+        }
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(countries.size());
+        for (Map.Entry<String, float[][][]> country : countries.entrySet()) {
+            byte[] code = country.getKey().getBytes(StandardCharsets.US_ASCII);
+            data.writeShort(code.length);
+            data.write(code);
+            data.writeInt(country.getValue().length);
+            for (float[][] rings : country.getValue()) {
+                data.writeInt(rings.length);
+                for (float[] ring : rings) {
+                    data.writeInt(ring.length / 2);
+                    for (float coordinate : ring) {
+                        data.writeFloat(coordinate);
+                    }
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * @param country the country code
+     * @return true if the geometry has paths for the given country
+     */
+    public boolean contains(String country) {
+        return countries.containsKey(country);
+    }
+
+    /**
+     * @param country the country code
+     * @return the number of paths of the given country, 0 if it is unknown
+     */
+    public int getPathCount(String country) {
+        float[][][] paths = countries.get(country);
+        return paths == null ? 0 : paths.length;
+    }
+
+    /**
+     * Returns the bounds of the given country at the original level of
+     * detail, as min x, min y, max x and max y. The paths that couldn't be
+     * parsed are left out.
+     *
+     * @param country the country code
+     * @return the bounds of the country, or null if it is unknown or empty
+     */
+    public double[] getBounds(String country) {
+        float[][][] paths = countries.get(country);
+        if (paths == null) {
+            return null;
+        }
+        double[] bounds = null;
+        for (float[][] rings : paths) {
+            if (rings == null) {
+                continue;
+            }
+            for (float[] ring : rings) {
+                for (int i = 0; i < ring.length; i += 2) {
+                    if (bounds == null) {
+                        bounds = new double[] {ring[i], ring[i + 1], ring[i], ring[i + 1]};
+                    } else {
+                        bounds[0] = Math.min(bounds[0], ring[i]);
+                        bounds[1] = Math.min(bounds[1], ring[i + 1]);
+                        bounds[2] = Math.max(bounds[2], ring[i]);
+                        bounds[3] = Math.max(bounds[3], ring[i + 1]);
+                    }
+                }
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the SVG content of a path of the given country, simplified for
+     * the given level of detail. The content is created on the first call, and
+     * is then shared by all the callers, and by the levels at which the path
+     * is the same.
+     *
+     * @param country the country code
+     * @param path the index of the path of the country
+     * @param level the level of detail, see {@link #getLevel(double)}
+     * @return the SVG content of the path
+     */
+    public synchronized String getContent(String country, int path, int level) {
+        String[][] levels = contents.computeIfAbsent(country, c -> new String[TOLERANCES.length][]);
+        if (levels[level] == null) {
+            float[][][] paths = getPaths(country, level);
+            String[] pathContents = new String[paths.length];
+            for (int p = 0; p < paths.length; p++) {
+                pathContents[p] = paths[p] == null ? originalPaths.get(country)[p] : shared(levels, p, toContent(paths[p]));
+            }
+            levels[level] = pathContents;
+        }
+        return levels[level][path];
+    }
+
+    /*
+     * Returns the content of the path at another level if it is equal, so an
+     * unchanged path keeps the same string, which the country views don't
+     * parse again.
+     */
+    private static String shared(String[][] levels, int path, String content) {
+        for (String[] pathContents : levels) {
+            if (pathContents != null && content.equals(pathContents[path])) {
+                return pathContents[path];
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Returns the number of points of all the rings at the given level of detail.
+     *
+     * @param level the level of detail, see {@link #getLevel(double)}
+     * @return the number of points
+     */
+    public synchronized int getPointCount(int level) {
+        int count = 0;
+        for (String country : countries.keySet()) {
+            for (float[][] rings : getPaths(country, level)) {
+                if (rings == null) {
+                    continue;
+                }
+                for (float[] ring : rings) {
+                    count += ring.length / 2;
+                }
+            }
+        }
+        return count;
+    }
+
+    private float[][][] getPaths(String country, int level) {
+        float[][][] paths = countries.get(country);
+        if (level == 0) {
+            return paths;
+        }
+        float[][][][] levels = simplified.computeIfAbsent(country, c -> new float[TOLERANCES.length][][][]);
+        if (levels[level] == null) {
+            float[][][] simplifiedPaths = new float[paths.length][][];
+            for (int p = 0; p < paths.length; p++) {
+                if (paths[p] == null) {
+                    continue;
+                }
+                simplifiedPaths[p] = new float[paths[p].length][];
+                for (int r = 0; r < paths[p].length; r++) {
+                    simplifiedPaths[p][r] = simplify(paths[p][r], TOLERANCES[level]);
+                }
+            }
+            levels[level] = simplifiedPaths;
+        }
+        return levels[level];
+    }
+
+    /*
+     * Simplifies a closed ring with the Douglas-Peucker algorithm: the ring is
+     * split at its first point and the point farthest from it, then both
+     * halves are simplified. At least three points are kept, so small islands
+     * stay visible.
+     */
+    static float[] simplify(float[] ring, double tolerance) {
+        int count = ring.length / 2;
+        if (count <= 3) {
+            return ring;
+        }
+        int farthest = 1;
+        double max = -1;
+        for (int i = 1; i < count; i++) {
+            double distance = distanceSq(ring, i, 0);
+            if (distance > max) {
+                max = distance;
+                farthest = i;
+            }
+        }
+
+        boolean[] keep = new boolean[count + 1];
+        keep[0] = keep[farthest] = keep[count] = true;
+        double toleranceSq = tolerance * tolerance;
+        simplify(ring, count, 0, farthest, toleranceSq, keep);
+        simplify(ring, count, farthest, count, toleranceSq, keep);
+
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (keep[i]) {
+                kept++;
+            }
+        }
+        if (kept < 3) {
+            // keep the point farthest from the chord as well
+            int third = -1;
+            max = -1;
+            for (int i = 1; i < count; i++) {
+                double distance = segmentDistanceSq(ring, count, i, 0, farthest);
+                if (i != farthest && distance > max) {
+                    max = distance;
+                    third = i;
+                }
+            }
+            keep[third] = true;
+            kept++;
+        }
+
+        float[] result = new float[kept * 2];
+        for (int i = 0, j = 0; i < count; i++) {
+            if (keep[i]) {
+                result[j++] = ring[i * 2];
+                result[j++] = ring[i * 2 + 1];
+            }
+        }
+        return result;
+    }
+
+    private static void simplify(float[] ring, int count, int from, int to, double toleranceSq, boolean[] keep) {
+        // an explicit stack, as rings can have many points
+        int[] stack = new int[Math.max(2, (to - from) * 2)];
+        int top = 0;
+        stack[top++] = from;
+        stack[top++] = to;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+            int farthest = -1;
+            double max = toleranceSq;
+            for (int i = start + 1; i < end; i++) {
+                double distance = segmentDistanceSq(ring, count, i, start, end);
+                if (distance > max) {
+                    max = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest != -1) {
+                keep[farthest] = true;
+                stack[top++] = start;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = end;
+            }
+        }
+    }
+
+    private static double distanceSq(float[] ring, int i, int j) {
+        double dx = ring[i * 2] - ring[j * 2];
+        double dy = ring[i * 2 + 1] - ring[j * 2 + 1];
+        return dx * dx + dy * dy;
+    }
+
+    /*
+     * The squared distance of the point i to the segment from start to end,
+     * where the index count stands for the first point closing the ring.
+     */
+    private static double segmentDistanceSq(float[] ring, int count, int i, int start, int end) {
+        start %= count;
+        end %= count;
+        double x = ring[i * 2], y = ring[i * 2 + 1];
+        double x1 = ring[start * 2], y1 = ring[start * 2 + 1];
+        double dx = ring[end * 2] - x1, dy = ring[end * 2 + 1] - y1;
+        double lengthSq = dx * dx + dy * dy;
+        double t = lengthSq == 0 ? 0 : Math.max(0, Math.min(1, ((x - x1) * dx + (y - y1) * dy) / lengthSq));
+        double px = x1 + t * dx - x, py = y1 + t * dy - y;
+        return px * px + py * py;
+    }
+
+    private static String toContent(float[][] rings) {
+        StringBuilder sb = new StringBuilder();
+        for (float[] ring : rings) {
+            for (int i = 0; i < ring.length; i += 2) {
+                sb.append(i == 0 ? 'M' : 'L').append(ring[i]).append(',').append(ring[i + 1]);
+            }
+            sb.append('z');
+        }
+        return sb.toString();
+    }
+
+    private static float[][] parsePath(String path) {
+        List<float[]> rings = new ArrayList<>();
+        float[] points = new float[64];
+        int size = 0;
+        float x = 0, y = 0, startX = 0, startY = 0;
+        char command = 0;
+        int[] position = {0};
+        int length = path.length();
+        while (true) {
+            skipSeparators(path, position);
+            if (position[0] >= length) {
+                break;
+            }
+            char c = path.charAt(position[0]);
+            if (Character.isLetter(c)) {
+                command = c;
+                position[0]++;
+                if (command == 'Z' || command == 'z') {
+                    if (size > 0) {
+                        rings.add(Arrays.copyOf(points, size));
+                        size = 0;
+                    }
+                    x = startX;
+                    y = startY;
+                }
+                continue;
+            }
+            switch (command) {
+                case 'M': case 'm': case 'L': case 'l':
+                    float px = parseNumber(path, position);
+                    float py = parseNumber(path, position);
+                    boolean relative = command == 'm' || command == 'l';
+                    x = relative ? x + px : px;
+                    y = relative ? y + py : py;
+                    if (command == 'M' || command == 'm') {
+                        if (size > 0) {
+                            rings.add(Arrays.copyOf(points, size));
+                            size = 0;
+                        }
+                        startX = x;
+                        startY = y;
+                        // subsequent pairs are implicit line commands
+                        command = command == 'M' ? 'L' : 'l';
+                    }
+                    break;
+                case 'H': x = parseNumber(path, position); break;
+                case 'h': x += parseNumber(path, position); break;
+                case 'V': y = parseNumber(path, position); break;
+                case 'v': y += parseNumber(path, position); break;
+                default:
+                    throw new IllegalArgumentException("Unsupported path command '" + command + "' in " + path);
+            }
+            if (size + 2 > points.length) {
+                points = Arrays.copyOf(points, points.length * 2);
+            }
+            points[size++] = x;
+            points[size++] = y;
+        }
+        if (size > 0) {
+            rings.add(Arrays.copyOf(points, size));
+        }
+        return rings.toArray(new float[0][]);
+    }
+
+    private static void skipSeparators(String path, int[] position) {
+        while (position[0] < path.length()) {
+            char c = path.charAt(position[0]);
+            if (c != ',' && !Character.isWhitespace(c)) {
+                return;
+            }
+            position[0]++;
+        }
+    }
+
+    private static float parseNumber(String path, int[] position) {
+        skipSeparators(path, position);
+        int start = position[0];
+        int end = start;
+        if (end < path.length() && (path.charAt(end) == '-' || path.charAt(end) == '+')) {
+            end++;
+        }
+        while (end < path.length()) {
+            char c = path.charAt(end);
+            if (Character.isDigit(c) || c == '.') {
+                end++;
+            } else if ((c == 'e' || c == 'E') && end + 1 < path.length()) {
+                end++;
+                if (path.charAt(end) == '-' || path.charAt(end) == '+') {
+                    end++;
+                }
+            } else {
+                break;
+            }
+        }
+        position[0] = end;
+        return Float.parseFloat(path.substring(start, end));
+    }
+}
@@ -45,6 +45,7 @@ import javafx.util.Callback;
 import org.controlsfx.control.WorldMapView;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 public class WorldMapViewSkin extends SkinBase<WorldMapView> {
@@ -59,8 +60,20 @@ public class WorldMapViewSkin extends SkinBase<WorldMapView> {
     private static double MAP_OFFSET_X = -PREFERRED_WIDTH * 0.0285;
     private static double MAP_OFFSET_Y = PREFERRED_HEIGHT * 0.195;
 
-    private final Map<WorldMapView.Country, List<? extends String>> countryPathMap = new HashMap<>();
+    /*
+     * The geometry of the default map data, shared by all the skins.
+     */
+    private static WorldMapGeometry defaultGeometry;
+
+    private final WorldMapGeometry geometry;
     private final Map<WorldMapView.Country, List<? extends WorldMapView.CountryView>> countryViewMap = new HashMap<>();
+    private final Map<WorldMapView.CountryView, Integer> countryViewPaths = new HashMap<>();
+
+    /*
+     * The bounds of the shown countries, used to pick the level of detail.
+     */
+    private double[] mapBounds;
+    private int level = -1;
 
     private Pane countryPane;
     private Group group;
@@ -104,18 +117,10 @@ public class WorldMapViewSkin extends SkinBase<WorldMapView> {
 
         view.zoomFactorProperty().addListener(it -> view.requestLayout());
 
-        Properties mapData = loadData();
+        geometry = loadGeometry();
         for (WorldMapView.Country country : WorldMapView.Country.values()) {
-            String countryData = (String) mapData.get(country.name());
-            if (countryData == null) {
+            if (!geometry.contains(country.name())) {
                 System.out.println("Missing SVG path for country " + country.getLocale().getDisplayCountry() + " (" + country + ")");
-            } else {
-                StringTokenizer st = new StringTokenizer(countryData, ";");
-                List<String> paths = new ArrayList<>();
-                while (st.hasMoreTokens()) {
-                    paths.add(st.nextToken());
-                }
-                countryPathMap.put(country, paths);
             }
         }
 
@@ -294,17 +299,27 @@ public class WorldMapViewSkin extends SkinBase<WorldMapView> {
             }
         }
 
+        updateMapBounds();
+        if (level == -1) {
+            // until the first layout, use the size the view is about to get
+            double width = getSkinnable().getWidth() > 0 ? getSkinnable().getWidth() : getSkinnable().getPrefWidth();
+            double height = getSkinnable().getHeight() > 0 ? getSkinnable().getHeight() : getSkinnable().getPrefHeight();
+            level = WorldMapGeometry.getLevel(getMapScale(width, height));
+        }
+
+        countryViewPaths.clear();
         Callback<WorldMapView.Country, WorldMapView.CountryView> factory = getSkinnable().getCountryViewFactory();
         for (WorldMapView.Country country : WorldMapView.Country.values()) {
-            if (getSkinnable().getCountries().isEmpty() || getSkinnable().getCountries().contains(country)) {
+            if (isShown(country)) {
                 List<WorldMapView.CountryView> countryViews = new ArrayList<>();
-                for (String svgPath : countryPathMap.get(country)) {
+                for (int path = 0; path < geometry.getPathCount(country.name()); path++) {
                     WorldMapView.CountryView view = factory.call(country);
                     if (view != null) {
-                        view.setContent(svgPath);
+                        view.setContent(geometry.getContent(country.name(), path, level));
                         view.getStyleClass().add(0, DEFAULT_STYLE_COUNTRY);
                         group.getChildren().addAll(view);
                         countryViews.add(view);
+                        countryViewPaths.put(view, path);
                     }
                 }
                 countryViewMap.put(country, countryViews);
@@ -323,10 +338,60 @@ public class WorldMapViewSkin extends SkinBase<WorldMapView> {
         getSkinnable().requestLayout();
     }
 
+    private boolean isShown(WorldMapView.Country country) {
+        return getSkinnable().getCountries().isEmpty() || getSkinnable().getCountries().contains(country);
+    }
+
+    private void updateMapBounds() {
+        mapBounds = null;
+        for (WorldMapView.Country country : WorldMapView.Country.values()) {
+            double[] bounds = isShown(country) ? geometry.getBounds(country.name()) : null;
+            if (bounds == null) {
+                continue;
+            }
+            if (mapBounds == null) {
+                mapBounds = bounds.clone();
+            } else {
+                mapBounds[0] = Math.min(mapBounds[0], bounds[0]);
+                mapBounds[1] = Math.min(mapBounds[1], bounds[1]);
+                mapBounds[2] = Math.max(mapBounds[2], bounds[2]);
+                mapBounds[3] = Math.max(mapBounds[3], bounds[3]);
+            }
+        }
+    }
+
+    /*
+     * The scale of the shown countries on screen. It is computed from their
+     * original geometry, so it doesn't change with the level of detail.
+     */
+    private double getMapScale(double width, double height) {
+        if (mapBounds == null || mapBounds[2] <= mapBounds[0] || mapBounds[3] <= mapBounds[1]) {
+            return 1;
+        }
+        double scale = Math.min(width / (mapBounds[2] - mapBounds[0]), height / (mapBounds[3] - mapBounds[1]));
+        return scale * getSkinnable().getZoomFactor();
+    }
+
+    /**
+     * Updates the content of the country views when the scale of the map
+     * needs another level of detail. The views parse their new content, as
+     * CountryView is an SVGPath, but the paths that are the same at both
+     * levels keep their content string and aren't parsed again.
+     */
+    private void updateLevel(double contentWidth, double contentHeight) {
+        int newLevel = WorldMapGeometry.getLevel(getMapScale(contentWidth, contentHeight));
+        if (newLevel != level) {
+            level = newLevel;
+            countryViewPaths.forEach((view, path) -> view.setContent(geometry.getContent(view.getCountry().name(), path, level)));
+        }
+    }
+
     @Override
     protected void layoutChildren(double contentX, double contentY, double contentWidth, double contentHeight) {
         super.layoutChildren(contentX, contentY, contentWidth, contentHeight);
 
+        updateLevel(contentWidth, contentHeight);
+
         double prefWidth = group.prefWidth(-1);
         double prefHeight = group.prefHeight(-1);
 
@@ -345,11 +410,43 @@ public class WorldMapViewSkin extends SkinBase<WorldMapView> {
         group.setLayoutY((contentHeight - prefHeight) / 2);
     }
 
+    /**
+     * Loads the geometry of the countries. By default, the geometry of the map data of ControlsFX is read from its
+     * binary form, generated by the build, and shared by all the skins. Subclasses that provide a different data
+     * set override this method, usually together with {@link #loadData()}:
+     * <pre>
+     *     protected WorldMapGeometry loadGeometry() {
+     *         return WorldMapGeometry.parse(loadData());
+     *     }
+     * </pre>
+     * The paths that {@link WorldMapGeometry#parse(Properties)} can't simplify, such as curves, are shown as they are.
+     *
+     * @return the geometry of the countries
+     */
+    protected WorldMapGeometry loadGeometry() {
+        synchronized (WorldMapViewSkin.class) {
+            if (defaultGeometry == null) {
+                try (InputStream in = WorldMapView.class.getResourceAsStream("worldmap-small.bin")) {
+                    if (in != null) {
+                        defaultGeometry = WorldMapGeometry.read(in);
+                    }
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+                if (defaultGeometry == null) {
+                    // not generated, e.g. when running from the sources
+                    defaultGeometry = WorldMapGeometry.parse(loadDefaultData());
+                }
+            }
+            return defaultGeometry;
+        }
+    }
+
     /**
      * Loads the properties file that is storing the SVG path information for each country. This method
-     * can be overriden to provide a different, maybe more detailed, data set. However, the default data
-     * set used by ControlsFX has to be small in order to keep the distribution small. The structure of
-     * the properties file needs to look like this:
+     * can be overriden, together with {@link #loadGeometry()}, to provide a different, maybe more detailed,
+     * data set. However, the default data set used by ControlsFX has to be small in order to keep the
+     * distribution small. The structure of the properties file needs to look like this:
      * <pre>
      *     AE=M619.87,393.72L620.37,393.57L620.48,394.41L622.67,393.93 ....
      *     AF=M646.88,356.9L649.74,358.2L651.85,357.74L652.44,356.1 ....
@@ -357,8 +454,13 @@ public class WorldMapViewSkin extends SkinBase<WorldMapView> {
      * </pre>
      *
      * @return the properties file storing the SVG path data for each country
+     * @see #loadGeometry()
      */
     protected Properties loadData() {
+        return loadDefaultData();
+    }
+
+    private static Properties loadDefaultData() {
         Properties mapData = new Properties();
         try {
             mapData.load(WorldMapView.class.getResourceAsStream("worldmap-small.properties"));
@@ -52,6 +52,7 @@ module org.controlsfx.controls {
     exports org.controlsfx.control.tableview2.filter.filtermenubutton;
     exports org.controlsfx.control.tableview2.filter.parser;
     exports org.controlsfx.control.tableview2.filter.popupfilter;
+    exports org.controlsfx.control.tableview2.query;
     exports org.controlsfx.control.textfield;
     exports org.controlsfx.dialog;
     exports org.controlsfx.glyphfont;
@@ -28,6 +28,7 @@ package org.controlsfx.control;
 
 import impl.org.controlsfx.collections.MappingChange;
 import impl.org.controlsfx.collections.NonIterableChange;
+import impl.org.controlsfx.collections.RankedBitSet;
 import impl.org.controlsfx.collections.ReadOnlyUnbackedObservableList;
 
 import javafx.beans.property.BooleanProperty;
@@ -35,13 +36,13 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 // not public API
 abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> { 
@@ -53,8 +54,9 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
      **********************************************************************/
 
     private final Map<T, BooleanProperty> itemBooleanMap;
+    private final Map<T, Integer> itemIndexMap = new HashMap<>();
 
-    private final BitSet checkedIndices;
+    private final RankedBitSet checkedIndices;
     private final BitSetReadOnlyUnbackedObservableList checkedIndicesList;
     private final ReadOnlyUnbackedObservableList<T> checkedItemsList;
 
@@ -70,7 +72,7 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     CheckBitSetModelBase(final Map<T, BooleanProperty> itemBooleanMap) {
         this.itemBooleanMap = itemBooleanMap;
 
-        this.checkedIndices = new BitSet();
+        this.checkedIndices = new RankedBitSet();
         this.checkedIndicesList = new BitSetReadOnlyUnbackedObservableList(checkedIndices);
         this.checkedItemsList = new ReadOnlyUnbackedObservableList<T>() {
             @Override public T get(int i) {
@@ -149,6 +151,15 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     BooleanProperty getItemBooleanProperty(T item) {
         return itemBooleanMap.get(item);
     }
+
+    /**
+     * Returns the index of the first occurrence of the given item, as indexed 
+     * by the last call to {@link #updateMap()}, or -1.
+     */
+    int indexOfItem(T item) {
+        Integer index = itemIndexMap.get(item);
+        return index == null ? -1 : index;
+    }
     
     
     /***********************************************************************
@@ -176,19 +187,58 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     /** {@inheritDoc} */
     @Override
     public void checkAll() {
-        for (int i = 0; i < getItemCount(); i++) {
-            check(i);
-        }
+        checkRange(0, getItemCount());
     }
 
     /** {@inheritDoc} */
     @Override
     public void checkIndices(int... indices) {
-        for (int index : indices) {
-            checkedIndices.set(index);
+        int[] sorted = indices.clone();
+        Arrays.sort(sorted);
+        List<Integer> added = new ArrayList<>();
+        for (int index : sorted) {
+            if (index >= 0 && index < getItemCount() && checkedIndices.set(index)) {
+                added.add(index);
+            }
+        }
+        fireAddedChange(added);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void checkRange(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(to, getItemCount());
+        if (from >= to) return;
+        List<Integer> added = new ArrayList<>();
+        // only the indices that were not checked yet are reported
+        for (int index = checkedIndices.get(from) ? nextClearIndex(from) : from; index < to; ) {
+            int end = Math.min(to, nextCheckedIndex(index));
+            checkedIndices.set(index, end);
+            for (int i = index; i < end; i++) {
+                added.add(i);
+            }
+            index = end < to ? nextClearIndex(end) : to;
+        }
+        fireAddedChange(added);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearRange(int from, int to) {
+        from = Math.max(0, from);
+        to = Math.min(to, getItemCount());
+        if (from >= to) return;
+        final int changeIndex = checkedIndices.rank(from);
+        List<Integer> removed = new ArrayList<>();
+        for (int index = checkedIndices.nextSetBit(from); index >= 0 && index < to; index = checkedIndices.nextSetBit(index + 1)) {
+            removed.add(index);
         }
-        ListChangeListener.Change<Integer> change = createRangeChange(checkedIndicesList, Arrays.stream(indices).boxed().collect(Collectors.toList()), false);
-        checkedIndicesList.callObservers(change);
+        if (removed.isEmpty()) return;
+        // the removed indices are contiguous in the checked indices list
+        checkedIndices.clear(from, to);
+        checkedIndicesList.callObservers(
+                new NonIterableChange.GenericAddRemoveChange<>(changeIndex, changeIndex, removed, checkedIndicesList));
     }
     
     /** {@inheritDoc} */
@@ -200,7 +250,7 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     /** {@inheritDoc} */
     @Override
     public void clearChecks() {
-        List<Integer> removed = new BitSetReadOnlyUnbackedObservableList((BitSet) checkedIndices.clone());
+        List<Integer> removed = new BitSetReadOnlyUnbackedObservableList(checkedIndices.copy());
         checkedIndices.clear();
         checkedIndicesList.callObservers(
                 new NonIterableChange.GenericAddRemoveChange<>(0, 0, removed, checkedIndicesList));
@@ -209,8 +259,8 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     /** {@inheritDoc} */
     @Override
     public void clearCheck(int index) {
-        if (index < 0 || index >= getItemCount()) return;
-        final int changeIndex = checkedIndicesList.indexOf(index);
+        if (index < 0 || index >= getItemCount() || !checkedIndices.get(index)) return;
+        final int changeIndex = checkedIndices.rank(index);
         checkedIndices.clear(index);
         checkedIndicesList.callObservers(new NonIterableChange.SimpleRemovedChange<>(changeIndex, changeIndex, index, checkedIndicesList));
     }
@@ -253,9 +303,8 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     /** {@inheritDoc} */
     @Override
     public void check(int index) {
-        if (index < 0 || index >= getItemCount()) return;
-        checkedIndices.set(index);
-        final int changeIndex = checkedIndicesList.indexOf(index);
+        if (index < 0 || index >= getItemCount() || !checkedIndices.set(index)) return;
+        final int changeIndex = checkedIndices.rank(index);
         checkedIndicesList.callObservers(new NonIterableChange.SimpleAddChange<>(changeIndex, changeIndex+1, checkedIndicesList));
     }
 
@@ -275,9 +324,11 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
     protected void updateMap() {
         // reset the map
         itemBooleanMap.clear();
+        itemIndexMap.clear();
         for (int i = 0; i < getItemCount(); i++) {
             final int index = i;
             final T item = getItem(index);
+            itemIndexMap.putIfAbsent(item, index);
 
             final BooleanProperty booleanProperty = new SimpleBooleanProperty(item, "selected", false); //$NON-NLS-1$
             itemBooleanMap.put(item, booleanProperty);
@@ -297,6 +348,45 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
         }
     }
 
+    private int nextCheckedIndex(int from) {
+        int index = checkedIndices.nextSetBit(from);
+        return index < 0 ? Integer.MAX_VALUE : index;
+    }
+
+    private int nextClearIndex(int from) {
+        int index = from;
+        while (checkedIndices.get(index)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Notifies in a single change the given indices, sorted, that have just 
+     * been checked. Each run of indices that are contiguous in the checked 
+     * indices list is a separate sub change.
+     */
+    private void fireAddedChange(List<Integer> added) {
+        if (added.isEmpty()) return;
+        int[] froms = new int[added.size()];
+        int[] tos = new int[added.size()];
+        int runs = 0;
+        for (int index : added) {
+            int position = checkedIndices.rank(index);
+            if (runs > 0 && tos[runs - 1] == position) {
+                tos[runs - 1]++;
+            } else {
+                froms[runs] = position;
+                tos[runs++] = position + 1;
+            }
+        }
+        if (runs == 1) {
+            checkedIndicesList.callObservers(new NonIterableChange.SimpleAddChange<>(froms[0], tos[0], checkedIndicesList));
+        } else {
+            checkedIndicesList.callObservers(new AddedRangesChange(checkedIndicesList, froms, tos, runs));
+        }
+    }
+
     /***********************************************************************
      *                                                                     *
      * Private implementation                                              *
@@ -304,12 +394,9 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
      **********************************************************************/
 
     private class BitSetReadOnlyUnbackedObservableList extends ReadOnlyUnbackedObservableList<Integer> {
-        private final BitSet bitset;
+        private final RankedBitSet bitset;
 
-        private int lastGetIndex = -1;
-        private int lastGetValue = -1;
-
-        public BitSetReadOnlyUnbackedObservableList(BitSet bitset) {
+        public BitSetReadOnlyUnbackedObservableList(RankedBitSet bitset) {
             this.bitset = bitset;
         }
 
@@ -318,30 +405,7 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
             if (index < 0 || index >= itemCount)  {
                 return -1;
             }
-
-            if (index == (lastGetIndex + 1)) {
-                // we're iterating forward in order, short circuit for
-                // performance reasons (RT-39776)
-                lastGetIndex++;
-                lastGetValue = bitset.nextSetBit(lastGetValue + 1);
-                return lastGetValue;
-            } else if (index == (lastGetIndex - 1) && index > 0) {
-                // we're iterating backward in order, short circuit for
-                // performance reasons (RT-39776)
-                lastGetIndex--;
-                lastGetValue = bitset.previousSetBit(lastGetValue - 1);
-                return lastGetValue;
-            } else {
-                for (lastGetIndex = 0, lastGetValue = bitset.nextSetBit(0);
-                     lastGetValue >= 0 || lastGetIndex == index;
-                     lastGetIndex++, lastGetValue = bitset.nextSetBit(lastGetValue + 1)) {
-                    if (lastGetIndex == index) {
-                        return lastGetValue;
-                    }
-                }
-            }
-
-            return -1;
+            return bitset.select(index);
         }
 
         @Override public int indexOf(Object obj) {
@@ -353,32 +417,7 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
             if (!bitset.get(index)) {
                 return -1;
             }
-
-            // is left most bit
-            if (index == 0) {
-                return 0;
-            }
-
-            // is right most bit
-            if (index == bitset.length() - 1) {
-                return size() - 1;
-            }
-
-            // count right bit
-            if (index > bitset.length() / 2) {
-                int count = 1;
-                for (int i = bitset.nextSetBit(index+1); i >= 0; i = bitset.nextSetBit(i+1)) {
-                    count++;
-                }
-                return size() - count;
-            }
-
-            // count left bit
-            int count = 0;
-            for (int i = bitset.previousSetBit(index-1);  i >= 0; i = bitset.previousSetBit(i-1)) {
-                count++;
-            }
-            return count;
+            return bitset.rank(index);
         }
 
         @Override public int size() {
@@ -390,95 +429,67 @@ abstract class CheckBitSetModelBase<T> implements IndexedCheckModel<T> {
                 Number n = (Number) o;
                 int index = n.intValue();
 
-                return index >= 0 && index < bitset.length() &&
-                        bitset.get(index);
+                return bitset.get(index);
             }
 
             return false;
         }
-
-        public void reset() {
-            this.lastGetIndex = -1;
-            this.lastGetValue = -1;
-        }
     }
 
-    private static ListChangeListener.Change<Integer> createRangeChange(final ObservableList<Integer> list, final List<Integer> addedItems, boolean splitChanges) {
-        ListChangeListener.Change<Integer> change = new ListChangeListener.Change<Integer>(list) {
-            private final int[] EMPTY_PERM = new int[0];
-            private final int addedSize = addedItems.size();
-
-            private boolean invalid = true;
-
-            private int pos = 0;
-            private int from = pos;
-            private int to = pos;
-
-            @Override public int getFrom() {
-                checkState();
-                return from;
-            }
-
-            @Override public int getTo() {
-                checkState();
-                return to;
-            }
-
-            @Override public List<Integer> getRemoved() {
-                checkState();
-                return Collections.<Integer>emptyList();
-            }
+    /**
+     * A change made of several additions, given by their ranges in the list.
+     */
+    private static class AddedRangesChange extends ListChangeListener.Change<Integer> {
+        private static final int[] EMPTY_PERM = new int[0];
+
+        private final int[] froms;
+        private final int[] tos;
+        private final int size;
+        private int cursor = -1;
+
+        AddedRangesChange(ObservableList<Integer> list, int[] froms, int[] tos, int size) {
+            super(list);
+            this.froms = froms;
+            this.tos = tos;
+            this.size = size;
+        }
 
-            @Override protected int[] getPermutation() {
-                checkState();
-                return EMPTY_PERM;
-            }
+        @Override public int getFrom() {
+            checkState();
+            return froms[cursor];
+        }
 
-            @Override public int getAddedSize() {
-                return to - from;
-            }
+        @Override public int getTo() {
+            checkState();
+            return tos[cursor];
+        }
 
-            @Override public boolean next() {
-                if (pos >= addedSize) return false;
-
-                // starting from pos, we keep going until the value is
-                // not the next value
-                int startValue = addedItems.get(pos++);
-                from = list.indexOf(startValue);
-                to = from + 1;
-                int endValue = startValue;
-                while (pos < addedSize) {
-                    int previousEndValue = endValue;
-                    endValue = addedItems.get(pos++);
-                    ++to;
-                    if (splitChanges && previousEndValue != (endValue - 1)) {
-                        break;
-                    }
-                }
+        @Override public List<Integer> getRemoved() {
+            checkState();
+            return Collections.<Integer>emptyList();
+        }
 
-                if (invalid) {
-                    invalid = false;
-                    return true;
-                }
+        @Override protected int[] getPermutation() {
+            checkState();
+            return EMPTY_PERM;
+        }
 
-                // we keep going until we've represented all changes!
-                return splitChanges && pos < addedSize;
+        @Override public boolean next() {
+            if (cursor + 1 < size) {
+                cursor++;
+                return true;
             }
+            return false;
+        }
 
-            @Override public void reset() {
-                invalid = true;
-                pos = 0;
-                to = 0;
-                from = 0;
-            }
+        @Override public void reset() {
+            cursor = -1;
+        }
 
-            private void checkState() {
-                if (invalid) {
-                    throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
-                }
+        private void checkState() {
+            if (cursor < 0) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
             }
-
-        };
-        return change;
+        }
     }
-}
\ No newline at end of file
+}
@@ -401,7 +401,7 @@ public class CheckComboBox<T> extends ControlsFXControl {
         }
         
         @Override public int getItemIndex(T item) {
-            return items.indexOf(item);
+            return indexOfItem(item);
         }
     }
 }
@@ -278,7 +278,7 @@ public class CheckListView<T> extends ListView<T> {
         }
         
         @Override public int getItemIndex(T item) {
-            return items.indexOf(item);
+            return indexOfItem(item);
         }
     }
 }
@@ -27,13 +27,16 @@
 package org.controlsfx.control;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.function.Consumer;
+import java.util.Set;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.CheckBoxTreeItem;
@@ -142,6 +145,28 @@ public class CheckTreeView<T> extends TreeView<T> {
         CheckBoxTreeItem<T> treeItem = (CheckBoxTreeItem<T>) getTreeItem(index);
         return treeItem.selectedProperty();
     }
+
+    /**
+     * Checks the given tree item and all its descendants. With the default
+     * check model, the checked items list is changed only once, whatever the
+     * size of the subtree.
+     *
+     * @param item The root of the subtree to check.
+     */
+    public void checkSubtree(TreeItem<T> item) {
+        updateSubtree(item, true);
+    }
+
+    /**
+     * Unchecks the given tree item and all its descendants. With the default
+     * check model, the checked items list is changed only once, whatever the
+     * size of the subtree.
+     *
+     * @param item The root of the subtree to uncheck.
+     */
+    public void clearSubtree(TreeItem<T> item) {
+        updateSubtree(item, false);
+    }
     
     
     
@@ -192,7 +217,37 @@ public class CheckTreeView<T> extends TreeView<T> {
      * 
      **************************************************************************/
     
+    private void updateSubtree(TreeItem<T> item, boolean checked) {
+        CheckModel<TreeItem<T>> model = getCheckModel();
+        if (item == null || model == null) return;
+        if (model instanceof CheckTreeViewCheckModel) {
+            ((CheckTreeViewCheckModel<T>) model).updateSubtree(item, checked);
+        } else {
+            List<TreeItem<T>> subtree = new ArrayList<>();
+            collectSubtree(subtree, item);
+            for (TreeItem<T> node : subtree) {
+                if (checked) {
+                    model.check(node);
+                } else {
+                    model.clearCheck(node);
+                }
+            }
+        }
+    }
     
+    private static <T> void collectSubtree(List<TreeItem<T>> nodes, TreeItem<T> root) {
+        // iterative, so deep trees don't overflow the stack
+        List<TreeItem<T>> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            TreeItem<T> node = stack.remove(stack.size() - 1);
+            nodes.add(node);
+            List<TreeItem<T>> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.add(children.get(i));
+            }
+        }
+    }
     
     
     /**************************************************************************
@@ -214,6 +269,15 @@ public class CheckTreeView<T> extends TreeView<T> {
         
         private ObservableList<TreeItem<T>> checkedItems = FXCollections.observableArrayList();
         
+        // identity index of checkedItems, kept in sync by a listener, so it
+        // also follows changes made directly to the list
+        private final Set<TreeItem<T>> checkedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        
+        // while a bulk update is in progress, the items whose selection 
+        // changed are collected here instead of being checked one by one
+        private boolean bulkUpdate;
+        private final List<TreeItem<T>> pendingItems = new ArrayList<>();
+        
         
         
         /***********************************************************************
@@ -225,10 +289,24 @@ public class CheckTreeView<T> extends TreeView<T> {
         CheckTreeViewCheckModel(final CheckTreeView<T> treeView) {
             this.treeView = treeView;
             this.root = treeView.getRoot();
+            this.checkedItems.addListener((ListChangeListener<TreeItem<T>>) c -> {
+                while (c.next()) {
+                    if (c.wasRemoved()) {
+                        for (TreeItem<T> item : c.getRemoved()) {
+                            checkedSet.remove(item);
+                        }
+                    }
+                    if (c.wasAdded()) {
+                        checkedSet.addAll(c.getAddedSubList());
+                    }
+                }
+            });
             this.root.addEventHandler(CheckBoxTreeItem.<T>checkBoxSelectionChangedEvent(), e -> {
                 CheckBoxTreeItem<T> treeItem = e.getTreeItem();
                 
-                if (treeItem.isSelected()) { // && ! treeItem.isIndeterminate()) {
+                if (bulkUpdate) {
+                    pendingItems.add(treeItem);
+                } else if (treeItem.isSelected()) { // && ! treeItem.isIndeterminate()) {
                     check(treeItem);
                 } else { 
                     clearCheck(treeItem);
@@ -238,12 +316,15 @@ public class CheckTreeView<T> extends TreeView<T> {
             // we should reset the check model and then update the checked items
             // based on the currently checked items in the tree view
             clearChecks();
+            List<TreeItem<T>> selectedItems = new ArrayList<>();
             for (int i = 0; i < treeView.getExpandedItemCount(); i++) {
                 CheckBoxTreeItem<T> treeItem = (CheckBoxTreeItem<T>) treeView.getTreeItem(i);
-                if (treeItem.isSelected() && ! treeItem.isIndeterminate()) {
-                    check(treeItem);
+                if (treeItem.isSelected() && ! treeItem.isIndeterminate() && ! checkedSet.contains(treeItem)) {
+                    checkedSet.add(treeItem);
+                    selectedItems.add(treeItem);
                 }
             }
+            checkedItems.addAll(selectedItems);
         }
         
         
@@ -265,7 +346,10 @@ public class CheckTreeView<T> extends TreeView<T> {
         }
 
         @Override public void checkAll() {
-            iterateOverTree(this::check);
+            if (root == null) return;
+            List<TreeItem<T>> items = new ArrayList<>();
+            collectSubtree(items, root);
+            update(items, true);
         }
 
         @Override public void clearCheck(TreeItem<T> item) {
@@ -276,10 +360,7 @@ public class CheckTreeView<T> extends TreeView<T> {
         }
 
         @Override public void clearChecks() {
-            List<TreeItem<T>> items = new ArrayList<>(checkedItems);
-            for(TreeItem<T> item : items){
-                clearCheck(item);
-            }
+            update(new ArrayList<>(checkedItems), false);
         }
 
         @Override public boolean isEmpty() {
@@ -287,14 +368,14 @@ public class CheckTreeView<T> extends TreeView<T> {
         }
 
         @Override public boolean isChecked(TreeItem<T> item) {
-            return checkedItems.contains(item);
+            return checkedSet.contains(item);
         }
 
         @Override public void check(TreeItem<T> item) {
             if (item instanceof CheckBoxTreeItem) {
                 ((CheckBoxTreeItem<T>)item).setSelected(true);
             }
-            if (!checkedItems.contains(item)) {
+            if (!checkedSet.contains(item)) {
                 checkedItems.add(item);
             }
         }
@@ -315,20 +396,63 @@ public class CheckTreeView<T> extends TreeView<T> {
          *                                                                     *
          **********************************************************************/
         
-        private void iterateOverTree(Consumer<TreeItem<T>> consumer) {
-            processNode(consumer, root);
-        }
-        
-        private void processNode(Consumer<TreeItem<T>> consumer, TreeItem<T> node) {
-            if (node == null) return;
-            consumer.accept(node);
-            processChildren(consumer, node.getChildren());
+        void updateSubtree(TreeItem<T> item, boolean checked) {
+            List<TreeItem<T>> items = new ArrayList<>();
+            collectSubtree(items, item);
+            update(items, checked);
         }
         
-        private void processChildren(Consumer<TreeItem<T>> consumer, List<TreeItem<T>> children) {
-            if (children == null) return;
-            for (TreeItem<T> child : children) {
-                processNode(consumer, child);
+        /**
+         * Checks or unchecks the given items. The selection change events fired
+         * meanwhile by the CheckBoxTreeItems (including their parents and children,
+         * if they are not independent) are only collected, and the checked items 
+         * list is then updated with a single change.
+         */
+        private void update(List<TreeItem<T>> items, boolean checked) {
+            bulkUpdate = true;
+            try {
+                for (TreeItem<T> item : items) {
+                    if (item instanceof CheckBoxTreeItem) {
+                        ((CheckBoxTreeItem<T>) item).setSelected(checked);
+                    }
+                }
+            } finally {
+                bulkUpdate = false;
+            }
+            
+            List<TreeItem<T>> added = new ArrayList<>();
+            Set<TreeItem<T>> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            Set<TreeItem<T>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (List<TreeItem<T>> list : List.of(items, pendingItems)) {
+                for (TreeItem<T> item : list) {
+                    if (! visited.add(item)) continue;
+                    boolean shouldBeChecked = item instanceof CheckBoxTreeItem ? 
+                            ((CheckBoxTreeItem<T>) item).isSelected() : checked;
+                    if (shouldBeChecked && ! checkedSet.contains(item)) {
+                        added.add(item);
+                    } else if (! shouldBeChecked && checkedSet.contains(item)) {
+                        removed.add(item);
+                    }
+                }
+            }
+            pendingItems.clear();
+            
+            if (removed.isEmpty()) {
+                if (! added.isEmpty()) {
+                    checkedItems.addAll(added);
+                }
+            } else if (added.isEmpty()) {
+                // removeAll tests the set, so items are compared by identity
+                checkedItems.removeAll(removed);
+            } else {
+                List<TreeItem<T>> newItems = new ArrayList<>(checkedItems.size() + added.size());
+                for (TreeItem<T> item : checkedItems) {
+                    if (! removed.contains(item)) {
+                        newItems.add(item);
+                    }
+                }
+                newItems.addAll(added);
+                checkedItems.setAll(newItems);
             }
         }
     }
@@ -77,4 +77,28 @@ public interface IndexedCheckModel<T> extends CheckModel<T> {
      */
     public void toggleCheckState(int index);
 
+    /**
+     * Checks the items from the given index (inclusive) to the given index 
+     * (exclusive) in the control.
+     * @param from Index of the first item to check.
+     * @param to Index after the last item to check.
+     */
+    public default void checkRange(int from, int to) {
+        for (int index = from; index < to; index++) {
+            check(index);
+        }
+    }
+
+    /**
+     * Unchecks the items from the given index (inclusive) to the given index 
+     * (exclusive) in the control.
+     * @param from Index of the first item to uncheck.
+     * @param to Index after the last item to uncheck.
+     */
+    public default void clearRange(int from, int to) {
+        for (int index = from; index < to; index++) {
+            clearCheck(index);
+        }
+    }
+
 }
\ No newline at end of file
@@ -26,6 +26,7 @@
  */
 package org.controlsfx.control;
 
+import impl.org.controlsfx.collections.ListTransfer;
 import impl.org.controlsfx.skin.ListSelectionViewSkin;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
@@ -47,6 +48,8 @@ import org.controlsfx.glyphfont.FontAwesome;
 import org.controlsfx.glyphfont.Glyph;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -316,6 +319,85 @@ public class ListSelectionView<T> extends ControlsFXControl {
         return targetItems;
     }
 
+    // --- Comparator
+    private final ObjectProperty<Comparator<? super T>> comparator = new SimpleObjectProperty<>(this, "comparator");
+
+    /**
+     * The comparator used to insert the items moved from one list into the
+     * other. If it is set, the moved items are merged into the other list,
+     * which is expected to be sorted with this comparator, else they are added
+     * at its end. By default, it is null.
+     *
+     * @return the comparator used when moving items
+     */
+    public final ObjectProperty<Comparator<? super T>> comparatorProperty() {
+        return comparator;
+    }
+
+    /**
+     * Sets the value of {@link #comparatorProperty()}.
+     *
+     * @param value the comparator used when moving items
+     */
+    public final void setComparator(Comparator<? super T> value) {
+        comparator.set(value);
+    }
+
+    /**
+     * Returns the value of {@link #comparatorProperty()}.
+     *
+     * @return the comparator used when moving items
+     */
+    public final Comparator<? super T> getComparator() {
+        return comparator.get();
+    }
+
+    /**
+     * Moves the given items from the source list to the target list. The items
+     * keep their relative order, and each list is updated with a single change,
+     * so large selections are moved in linear time. The items are looked up by
+     * identity first, and by {@link Object#equals(Object) equals} otherwise.
+     *
+     * @param items the items of the source list to move
+     */
+    public final void moveToTarget(Collection<? extends T> items) {
+        if (getSourceItems() != null && getTargetItems() != null) {
+            ListTransfer.move(getSourceItems(), getTargetItems(), items, getComparator());
+        }
+    }
+
+    /**
+     * Moves the given items from the target list to the source list. The items
+     * keep their relative order, and each list is updated with a single change,
+     * so large selections are moved in linear time. The items are looked up by
+     * identity first, and by {@link Object#equals(Object) equals} otherwise.
+     *
+     * @param items the items of the target list to move
+     */
+    public final void moveToSource(Collection<? extends T> items) {
+        if (getSourceItems() != null && getTargetItems() != null) {
+            ListTransfer.move(getTargetItems(), getSourceItems(), items, getComparator());
+        }
+    }
+
+    /**
+     * Moves all the items from the source list to the target list.
+     */
+    public final void moveAllToTarget() {
+        if (getSourceItems() != null && getTargetItems() != null) {
+            ListTransfer.moveAll(getSourceItems(), getTargetItems(), getComparator());
+        }
+    }
+
+    /**
+     * Moves all the items from the target list to the source list.
+     */
+    public final void moveAllToSource() {
+        if (getSourceItems() != null && getTargetItems() != null) {
+            ListTransfer.moveAll(getTargetItems(), getSourceItems(), getComparator());
+        }
+    }
+
     // --- Orientation
     private final ObjectProperty<Orientation> orientation = new SimpleObjectProperty<>(
             this, "orientation", HORIZONTAL); //$NON-NLS-1$;
@@ -563,33 +645,26 @@ public class ListSelectionView<T> extends ControlsFXControl {
         return new FontAwesome().create(angleDoubleDown);
     }
 
-    private static <T> void moveToTarget(ListView<T> sourceListView, ListView<T> targetListView) {
-        move(sourceListView, targetListView);
-        sourceListView.getSelectionModel().clearSelection();
+    private void moveToTarget(ListView<T> sourceListView, ListView<T> targetListView) {
+        move(sourceListView, targetListView, new ArrayList<>(sourceListView.getSelectionModel().getSelectedItems()));
     }
 
-    private static <T> void moveToTargetAll(ListView<T> sourceListView, ListView<T> targetListView) {
-        move(sourceListView, targetListView, new ArrayList<>(sourceListView.getItems()));
+    private void moveToTargetAll(ListView<T> sourceListView, ListView<T> targetListView) {
         sourceListView.getSelectionModel().clearSelection();
+        ListTransfer.moveAll(sourceListView.getItems(), targetListView.getItems(), getComparator());
     }
 
-    private static <T> void moveToSource(ListView<T> sourceListView, ListView<T> targetListView) {
-        move(targetListView, sourceListView);
-        targetListView.getSelectionModel().clearSelection();
+    private void moveToSource(ListView<T> sourceListView, ListView<T> targetListView) {
+        move(targetListView, sourceListView, new ArrayList<>(targetListView.getSelectionModel().getSelectedItems()));
     }
 
-    private static <T> void moveToSourceAll(ListView<T> sourceListView, ListView<T> targetListView) {
-        move(targetListView, sourceListView, new ArrayList<>(targetListView.getItems()));
+    private void moveToSourceAll(ListView<T> sourceListView, ListView<T> targetListView) {
         targetListView.getSelectionModel().clearSelection();
+        ListTransfer.moveAll(targetListView.getItems(), sourceListView.getItems(), getComparator());
     }
 
-    private static <T> void move(ListView<T> source, ListView<T> target) {
-        List<T> selectedItems = new ArrayList<>(source.getSelectionModel().getSelectedItems());
-        move(source, target, selectedItems);
-    }
-
-    private static <T> void move(ListView<T> source, ListView<T> target, List<T> items) {
-        source.getItems().removeAll(items);
-        target.getItems().addAll(items);
+    private void move(ListView<T> source, ListView<T> target, List<T> items) {
+        source.getSelectionModel().clearSelection();
+        ListTransfer.move(source.getItems(), target.getItems(), items, getComparator());
     }
 }
@@ -27,6 +27,8 @@
 package org.controlsfx.control;
 
 import impl.org.controlsfx.tools.PrefixSelectionCustomizer;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.control.ChoiceBox;
 
 /**
@@ -74,4 +76,29 @@ public class PrefixSelectionChoiceBox<T> extends ChoiceBox<T> {
         PrefixSelectionCustomizer.customize(this);
     }
     
+    /***************************************************************************
+     *                                                                         *
+     * Properties                                                              *
+     *                                                                         *
+     **************************************************************************/
+    
+    // --- indexed
+    /**
+     * When enabled, the default lookup finds the matching item with a binary search
+     * in a sorted index of the display strings of the items, instead of converting
+     * all of them on every key pressed. Recommended for lists with many thousands
+     * of items. The index is rebuilt on the first lookup after the items or the
+     * converter change.
+     * Default is false
+     */
+    private final BooleanProperty indexed = new SimpleBooleanProperty(this, "indexed", false) {
+        @Override
+        protected void invalidated() {
+            PrefixSelectionCustomizer.setIndexed(PrefixSelectionChoiceBox.this, get());
+        }
+    };
+    public final boolean isIndexed() { return indexed.get(); }
+    public final void setIndexed(boolean value) { indexed.set(value); }
+    public final BooleanProperty indexedProperty() { return indexed; }
+    
 }
@@ -150,4 +150,23 @@ public class PrefixSelectionComboBox<T> extends ComboBox<T> {
     public final void setLookup(BiFunction<ComboBox, String, Optional> value) { lookup.set(value); }
     public final ObjectProperty<BiFunction<ComboBox, String, Optional>> lookupProperty() { return lookup; }
     
+    // --- indexed
+    /**
+     * When enabled, the default lookup finds the matching item with a binary search
+     * in a sorted index of the display strings of the items, instead of converting
+     * all of them on every key pressed. Recommended for lists with many thousands
+     * of items. The index is rebuilt on the first lookup after the items or the
+     * converter change.
+     * Default is false
+     */
+    private final BooleanProperty indexed = new SimpleBooleanProperty(this, "indexed", false) {
+        @Override
+        protected void invalidated() {
+            PrefixSelectionCustomizer.setIndexed(PrefixSelectionComboBox.this, get());
+        }
+    };
+    public final boolean isIndexed() { return indexed.get(); }
+    public final void setIndexed(boolean value) { indexed.set(value); }
+    public final BooleanProperty indexedProperty() { return indexed; }
+    
 }
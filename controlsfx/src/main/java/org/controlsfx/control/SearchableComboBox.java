@@ -27,6 +27,8 @@
 package org.controlsfx.control;
 
 import impl.org.controlsfx.skin.SearchableComboBoxSkin;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ComboBox;
@@ -106,6 +108,20 @@ public class SearchableComboBox<T> extends ComboBox<T> {
         getStyleClass().add(DEFAULT_STYLE_CLASS);
     }
 
+    // --- asyncFilterThreshold
+    /**
+     * The number of items from which the popup list is filtered on a background
+     * thread, so typing in the search field doesn't block the JavaFX Application
+     * Thread. If it is zero or less, the items are always filtered on the JavaFX
+     * Application Thread.
+     * Default is {@link SearchableComboBoxSkin#DEFAULT_ASYNC_FILTER_THRESHOLD}
+     */
+    private final IntegerProperty asyncFilterThreshold = new SimpleIntegerProperty(this, "asyncFilterThreshold",
+            SearchableComboBoxSkin.DEFAULT_ASYNC_FILTER_THRESHOLD);
+    public final int getAsyncFilterThreshold() { return asyncFilterThreshold.get(); }
+    public final void setAsyncFilterThreshold(int value) { asyncFilterThreshold.set(value); }
+    public final IntegerProperty asyncFilterThresholdProperty() { return asyncFilterThreshold; }
+
     @Override
     protected Skin<?> createDefaultSkin() {
         return new SearchableComboBoxSkin<>(this);
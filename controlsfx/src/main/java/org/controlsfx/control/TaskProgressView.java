@@ -40,6 +40,7 @@ import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.control.Skin;
 import javafx.util.Callback;
+import javafx.util.Duration;
 
 /**
  * The task progress view is used to visualize the progress of long running
@@ -61,6 +62,17 @@ import javafx.util.Callback;
  * view.setGraphicFactory(task -&gt; return new ImageView("db-access.png"));
  * view.getTasks().add(new MyTask());
  * </pre>
+ *
+ * <h3>Frequent Updates</h3>
+ * By default the rows are bound to the properties of their task, and every
+ * change of the tasks list is applied right away. Tasks that update their
+ * progress or message very often, or many tasks added and removed at once,
+ * can be shown at a lower rate with {@link #setUpdateInterval(Duration)}:
+ * the visible rows then sample their task, and the changes of the tasks
+ * list are applied in one batch, at most once per interval.
+ * <pre>
+ * view.setUpdateInterval(Duration.millis(100));
+ * </pre>
  */
 public class TaskProgressView<T extends Task<?>> extends ControlsFXControl {
 
@@ -188,4 +200,39 @@ public class TaskProgressView<T extends Task<?>> extends ControlsFXControl {
     public final void setRetainTasks(boolean retainTasks) {
         this.retainTasks.set(retainTasks);
     }
+
+    private final ObjectProperty<Duration> updateInterval = new SimpleObjectProperty<>(this, "updateInterval", Duration.ZERO);
+
+    /**
+     * Returns the property used to store the minimum interval between two
+     * updates of the view. When it is greater than zero, the progress, title
+     * and message of the visible tasks are sampled on the next pulse after
+     * each interval, instead of being bound, and the changes of the tasks
+     * list are applied in one batch. A null, zero or
+     * {@link Duration#INDEFINITE indefinite} interval updates the view on
+     * every change.
+     *
+     * @return the update interval property
+     */
+    public final ObjectProperty<Duration> updateIntervalProperty() {
+        return updateInterval;
+    }
+
+    /**
+     * Returns the value of {@link #updateIntervalProperty()}.
+     *
+     * @return the minimum interval between two updates of the view
+     */
+    public final Duration getUpdateInterval() {
+        return updateInterval.get();
+    }
+
+    /**
+     * Sets the value of {@link #updateIntervalProperty()}.
+     *
+     * @param interval the minimum interval between two updates of the view
+     */
+    public final void setUpdateInterval(Duration interval) {
+        updateInterval.set(interval);
+    }
 }
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.cell;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import org.controlsfx.control.GridCell;
+import org.controlsfx.control.GridView;
+
+/**
+ * A {@link GridCell} that shows images from their URL or file path inside the
+ * {@link GridView} control, without blocking the JavaFX Application Thread.
+ *
+ * <p>The images are decoded in the background by a {@link ThumbnailLoader}, at
+ * the cell size of the {@link GridView}, and the thumbnails are cached so that
+ * scrolling back shows them immediately. While an image is loading, or if it
+ * can't be loaded, the {@link #placeholderProperty() placeholder} is shown.
+ * When the cell is reused for another item, for instance when it is scrolled
+ * out of view, the load of its previous image is cancelled.
+ *
+ * <h3>Code Example</h3>
+ *
+ * <pre>
+ * GridView&lt;String&gt; gridView = new GridView&lt;&gt;(imageUrls);
+ * gridView.setCellFactory(g -&gt; new AsyncImageGridCell());
+ * </pre>
+ *
+ * @see GridView
+ * @see ThumbnailLoader
+ */
+public class AsyncImageGridCell extends GridCell<String> {
+
+    private final ImageView imageView;
+
+    private final ThumbnailLoader loader;
+
+    private ThumbnailLoader.Request request;
+
+    /**
+     * Creates a default AsyncImageGridCell instance, which uses the
+     * {@link ThumbnailLoader#getDefault() default loader}.
+     */
+    public AsyncImageGridCell() {
+        this(ThumbnailLoader.getDefault());
+    }
+
+    /**
+     * Creates an AsyncImageGridCell instance.
+     * @param loader the loader of the thumbnails
+     */
+    public AsyncImageGridCell(ThumbnailLoader loader) {
+        getStyleClass().add("image-grid-cell"); //$NON-NLS-1$
+
+        this.loader = loader;
+        imageView = new ImageView();
+        imageView.setPreserveRatio(true);
+        imageView.setSmooth(true);
+        imageView.fitHeightProperty().bind(heightProperty());
+        imageView.fitWidthProperty().bind(widthProperty());
+    }
+
+    /**
+     * The image shown while the image of the cell is loading, or if it can't be
+     * loaded. It is null by default.
+     */
+    private final ObjectProperty<Image> placeholder = new SimpleObjectProperty<>(this, "placeholder"); //$NON-NLS-1$
+    public final ObjectProperty<Image> placeholderProperty() { return placeholder; }
+    public final Image getPlaceholder() { return placeholder.get(); }
+    public final void setPlaceholder(Image value) { placeholder.set(value); }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override protected void updateItem(String item, boolean empty) {
+        super.updateItem(item, empty);
+
+        cancelRequest();
+        if (empty || item == null) {
+            imageView.setImage(null);
+            setGraphic(null);
+            return;
+        }
+
+        // decode at the size of the cells
+        GridView<String> gridView = getGridView();
+        double width = gridView == null ? 0 : gridView.getCellWidth();
+        double height = gridView == null ? 0 : gridView.getCellHeight();
+        Image image = loader.getCached(item, width, height);
+        if (image != null) {
+            imageView.setImage(image);
+        } else {
+            imageView.setImage(getPlaceholder());
+            request = loader.load(item, width, height, loaded -> {
+                request = null;
+                if (!loaded.isError()) {
+                    imageView.setImage(loaded);
+                }
+            });
+        }
+        setGraphic(imageView);
+    }
+
+    private void cancelRequest() {
+        if (request != null) {
+            request.cancel();
+            request = null;
+        }
+    }
+}
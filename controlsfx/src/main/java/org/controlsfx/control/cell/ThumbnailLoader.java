@@ -0,0 +1,318 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.cell;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Loads images as thumbnails of a requested size on a bounded pool of background
+ * threads, and keeps the decoded thumbnails in a least recently used cache whose
+ * memory usage is bounded. It is used by {@link AsyncImageGridCell}, and can be
+ * shared by several {@link org.controlsfx.control.GridView GridViews}.
+ *
+ * <p>Images are identified by their URL, or by a file path. The thumbnails
+ * are cached by source and requested size, and they keep the aspect ratio of
+ * the source image.
+ *
+ * <p>Loads of the same thumbnail are shared, and a load is cancelled when all
+ * the requests for it have been cancelled before it started. The threads of
+ * the pool stop after some idle time, so an unused loader doesn't keep them.
+ *
+ * @see AsyncImageGridCell
+ */
+public final class ThumbnailLoader {
+
+    /**
+     * The default memory budget of the cache, in bytes.
+     */
+    public static final long DEFAULT_MAX_CACHE_BYTES = 64L * 1024 * 1024;
+
+    private static ThumbnailLoader defaultLoader;
+
+    /**
+     * Returns the loader shared by default by all the {@link AsyncImageGridCell}
+     * instances, with a thread per available processor (at most 4), and a cache
+     * of {@link #DEFAULT_MAX_CACHE_BYTES}.
+     *
+     * @return the default loader
+     */
+    public static synchronized ThumbnailLoader getDefault() {
+        if (defaultLoader == null) {
+            defaultLoader = new ThumbnailLoader(
+                    Math.min(4, Runtime.getRuntime().availableProcessors()), DEFAULT_MAX_CACHE_BYTES);
+        }
+        return defaultLoader;
+    }
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+    private final long maxCacheBytes;
+    private final LinkedHashMap<Key, Image> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Key, Load> loads = new HashMap<>();
+    private long cacheBytes;
+
+    /**
+     * Creates a loader.
+     *
+     * @param threads the number of threads decoding images
+     * @param maxCacheBytes the approximate maximum memory used by the cached
+     *            thumbnails, in bytes
+     */
+    public ThumbnailLoader(int threads, long maxCacheBytes) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.maxCacheBytes = maxCacheBytes;
+        int pool = POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, 
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "ThumbnailLoader-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the cached thumbnail of the given image, or null if it isn't
+     * loaded yet.
+     *
+     * @param source the URL or file path of the image
+     * @param width the requested width of the thumbnail
+     * @param height the requested height of the thumbnail
+     * @return the thumbnail, or null
+     */
+    public synchronized Image getCached(String source, double width, double height) {
+        return cache.get(new Key(source, width, height));
+    }
+
+    /**
+     * Loads the thumbnail of the given image in the background, unless it is
+     * cached already, and passes it to the callback on the JavaFX Application
+     * Thread. The callback is called with an image whose {@link Image#isError()}
+     * is true if the image can't be loaded, and it isn't called if the request
+     * is cancelled.
+     *
+     * @param source the URL or file path of the image
+     * @param width the requested width of the thumbnail
+     * @param height the requested height of the thumbnail
+     * @param callback called with the thumbnail
+     * @return the request, which can be cancelled
+     */
+    public Request load(String source, double width, double height, Consumer<Image> callback) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(callback);
+        Key key = new Key(source, width, height);
+        Request request = new Request(this, key, callback);
+        synchronized (this) {
+            Image image = cache.get(key);
+            if (image != null) {
+                Platform.runLater(() -> request.complete(image));
+                return request;
+            }
+            Load load = loads.get(key);
+            if (load == null) {
+                load = new Load();
+                loads.put(key, load);
+                load.future = executor.submit(() -> decode(key));
+            }
+            load.requests.add(request);
+        }
+        return request;
+    }
+
+    /**
+     * Removes all the thumbnails from the cache.
+     */
+    public synchronized void clear() {
+        cache.clear();
+        cacheBytes = 0;
+    }
+
+    private void decode(Key key) {
+        Image decoded = null;
+        try {
+            // throws for sources that aren't valid URLs, such as unknown protocols
+            decoded = new Image(toURL(key.source), key.width, key.height, true, true, false);
+        } finally {
+            // the load is always removed, so the next requests don't wait for it
+            Image image = decoded != null ? decoded : errorImage();
+            List<Request> requests;
+            synchronized (this) {
+                Load load = loads.remove(key);
+                requests = load == null ? new ArrayList<>() : load.requests;
+                if (!image.isError()) {
+                    put(key, image);
+                }
+            }
+            if (!requests.isEmpty()) {
+                Platform.runLater(() -> requests.forEach(request -> request.complete(image)));
+            }
+        }
+    }
+
+    private static Image errorImage() {
+        // no image can be decoded from an empty stream
+        return new Image(new ByteArrayInputStream(new byte[0]));
+    }
+
+    private void cancel(Request request) {
+        synchronized (this) {
+            Load load = loads.get(request.key);
+            if (load != null && load.requests.remove(request) && load.requests.isEmpty()) {
+                // not started yet: the decoding is skipped
+                if (load.future.cancel(false)) {
+                    loads.remove(request.key);
+                }
+            }
+        }
+    }
+
+    private void put(Key key, Image image) {
+        Image previous = cache.put(key, image);
+        if (previous != null) {
+            cacheBytes -= bytes(previous);
+        }
+        cacheBytes += bytes(image);
+        Iterator<Image> iterator = cache.values().iterator();
+        while (cacheBytes > maxCacheBytes && iterator.hasNext()) {
+            cacheBytes -= bytes(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static long bytes(Image image) {
+        // decoded images use 4 bytes per pixel
+        return 4L * (long) image.getWidth() * (long) image.getHeight();
+    }
+
+    private static String toURL(String source) {
+        // a path, possibly with a Windows drive letter, rather than a URL
+        int colon = source.indexOf(':');
+        if (colon < 2) {
+            return new File(source).toURI().toString();
+        }
+        return source;
+    }
+
+    /**
+     * A request for a thumbnail, which can be cancelled, for instance when the
+     * cell that needs it shows another item.
+     */
+    public static final class Request {
+        private final ThumbnailLoader loader;
+        private final Key key;
+        private final Consumer<Image> callback;
+        private volatile boolean cancelled;
+
+        private Request(ThumbnailLoader loader, Key key, Consumer<Image> callback) {
+            this.loader = loader;
+            this.key = key;
+            this.callback = callback;
+        }
+
+        /**
+         * Cancels this request: its callback won't be called, and the thumbnail
+         * won't be loaded if it isn't needed by another request.
+         */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                loader.cancel(this);
+            }
+        }
+
+        /**
+         * Returns true if this request has been cancelled.
+         *
+         * @return true if this request has been cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        private void complete(Image image) {
+            if (!cancelled) {
+                callback.accept(image);
+            }
+        }
+    }
+
+    private static final class Load {
+        private final List<Request> requests = new ArrayList<>(1);
+        private Future<?> future;
+    }
+
+    private static final class Key {
+        private final String source;
+        private final double width;
+        private final double height;
+
+        Key(String source, double width, double height) {
+            this.source = source;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return source.equals(other.source) && width == other.width && height == other.height;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, width, height);
+        }
+    }
+}
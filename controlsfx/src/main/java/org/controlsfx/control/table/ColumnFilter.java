@@ -40,11 +40,17 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public final class ColumnFilter<T,R> {
@@ -54,32 +60,43 @@ public final class ColumnFilter<T,R> {
     private final ObservableList<FilterValue<T,R>> filterValues;
 
     private final DupeCounter<R> filterValuesDupeCounter = new DupeCounter<>(false);
+    private final HashMap<R,FilterValue<T,R>> filterValuesIndex = new HashMap<>();
     private final DupeCounter<R> visibleValuesDupeCounter = new DupeCounter<>(false);
     private final HashSet<R> unselectedValues = new HashSet<>();
     private final HashMap<CellIdentity<T>,ChangeListener<R>> trackedCells = new HashMap<>();
+    // Last known value of each backing item, only used when cell values are not tracked with listeners
+    private final IdentityHashMap<T,R> trackedValues = new IdentityHashMap<>();
 
     private static final Image filterIcon = new Image(ColumnFilter.class.getResource("/impl/org/controlsfx/table/filter.png").toExternalForm());
 
     private boolean bumpedWidth = false;    // Used to determine to add a padding to the filterIcon.
     private boolean lastFilter = false;
     private boolean isDirty = false;
-    private BiPredicate<String,String> searchStrategy = (inputString, subjectString) -> subjectString.toLowerCase().contains(inputString.toLowerCase());
+    private BiPredicate<String,String> searchStrategy = IndexedSearchStrategy.CONTAINS_IGNORE_CASE;
+    private final FilterValueSearchIndex<T,R> searchIndex = new FilterValueSearchIndex<>(this);
     private volatile FilterPanel filterPanel;
     private ImageView imageView;
 
     private boolean initialized = false;
 
     private final ListChangeListener<T> backingListListener = lc -> {
+        List<FilterValue<T,R>> addedValues = new ArrayList<>();
+        Set<FilterValue<T,R>> removedValues = Collections.newSetFromMap(new IdentityHashMap<>());
         while (lc.next()) {
             if (lc.wasAdded()) {
                 lc.getAddedSubList()
-                        .forEach(t -> addBackingItem(t, getTableColumn().getCellObservableValue(t)));
+                        .forEach(t -> addBackingItem(t, getTableColumn().getCellObservableValue(t), addedValues));
             }
             if (lc.wasRemoved()) {
                 lc.getRemoved()
-                        .forEach(t -> removeBackingItem(t, getTableColumn().getCellObservableValue(t)));
+                        .forEach(t -> removeBackingItem(t, getTableColumn().getCellObservableValue(t), removedValues));
+            }
+            if (lc.wasUpdated() && !getTableFilter().isTrackingCellValues()) {
+                lc.getList().subList(lc.getFrom(), lc.getTo())
+                        .forEach(t -> invalidate(t, addedValues, removedValues));
             }
         }
+        applyFilterValueChanges(addedValues, removedValues);
     };
 
     private final ListChangeListener<T> itemsListener = lc -> {
@@ -97,15 +114,13 @@ public final class ColumnFilter<T,R> {
         }
     };
 
-    private final ChangeListener<R> changeListener = (observable, oldValue, newValue) -> {
-        if (filterValuesDupeCounter.add(newValue) == 1) {
-            getFilterValues().add(new FilterValue<>(newValue,this));
-        }
-        removeValue(oldValue);
-    };
+    private final ChangeListener<R> changeListener = (observable, oldValue, newValue) -> updateValue(oldValue, newValue);
 
     private final ListChangeListener<FilterValue<T, R>> filterValueListChangeListener = lc -> {
         while (lc.next()) {
+            if (lc.wasAdded() || lc.wasRemoved()) {
+                searchIndex.invalidate();
+            }
             if (lc.wasRemoved()) {
                 lc.getRemoved().stream()
                         .filter(v -> !v.selectedProperty().get())
@@ -217,9 +232,12 @@ public final class ColumnFilter<T,R> {
 
     /**
      * Sets a search implementation for this BiPredicate for this given ColumnFilter.
+     * An {@link IndexedSearchStrategy} is served by an index of the distinct values,
+     * other implementations are tested against every value.
      */
     public void setSearchStrategy(BiPredicate<String,String> searchStrategy) {
         this.searchStrategy = searchStrategy;
+        searchIndex.invalidate();
     }
 
     /**
@@ -229,6 +247,13 @@ public final class ColumnFilter<T,R> {
         return searchStrategy;
     }
 
+    /**
+     * Returns a predicate matching the FilterValues found by the search strategy for the given input
+     */
+    Predicate<FilterValue<?,?>> search(String input) {
+        return searchIndex.search(input);
+    }
+
     /**
      * Indicates whether a filter is active on this ColumnFilter
      */
@@ -296,19 +321,25 @@ public final class ColumnFilter<T,R> {
         imageView.setFitHeight(15);
         imageView.setPreserveRatio(true);
         
+        List<FilterValue<T,R>> addedValues = new ArrayList<>();
         tableFilter.getBackingList()
-                .forEach(t -> addBackingItem(t, tableColumn.getCellObservableValue(t)));
+                .forEach(t -> addBackingItem(t, tableColumn.getCellObservableValue(t), addedValues));
+        applyFilterValueChanges(addedValues, Collections.emptySet());
         tableFilter.getTableView().getItems().stream()
                 .map(tableColumn::getCellObservableValue).forEach(this::addVisibleItem);
 
     }
 
-    private void addBackingItem(T item, ObservableValue<R> cellValue) {
+    private void addBackingItem(T item, ObservableValue<R> cellValue, Collection<FilterValue<T,R>> addedValues) {
         if (cellValue == null) {
             return;
         }
-        if (filterValuesDupeCounter.add(cellValue.getValue()) == 1) {
-            filterValues.add(new FilterValue<>(cellValue.getValue(),this));
+        addValue(cellValue.getValue(), addedValues);
+
+        if (!tableFilter.isTrackingCellValues()) {
+            //remember the value, changes are picked up by invalidate(item)
+            trackedValues.put(item, cellValue.getValue());
+            return;
         }
 
         //listen to cell value and track it
@@ -318,11 +349,17 @@ public final class ColumnFilter<T,R> {
         cellValue.addListener(cellListener);
         trackedCells.put(trackedCellValue,cellListener);
     }
-    private void removeBackingItem(T item, ObservableValue<R> cellValue) {
+    private void removeBackingItem(T item, ObservableValue<R> cellValue, Collection<FilterValue<T,R>> removedValues) {
+        if (!tableFilter.isTrackingCellValues()) {
+            if (trackedValues.containsKey(item)) {
+                removeValue(trackedValues.remove(item), removedValues);
+            }
+            return;
+        }
         if (cellValue == null) {
             return;
         }
-        removeValue(cellValue.getValue());
+        removeValue(cellValue.getValue(), removedValues);
 
         //remove listener from cell
         ChangeListener<R> listener = trackedCells.get(new CellIdentity<>(item));
@@ -331,14 +368,75 @@ public final class ColumnFilter<T,R> {
         }
         trackedCells.remove(new CellIdentity<>(item));
     }
-    private void removeValue(R value) {
+    /**
+     * Re-reads the cell value of the given backing item and updates the distinct
+     * values accordingly. This is only needed when the {@link TableFilter} does
+     * not track cell values with listeners.
+     */
+    void invalidate(T item) {
+        List<FilterValue<T,R>> addedValues = new ArrayList<>(1);
+        Set<FilterValue<T,R>> removedValues = Collections.newSetFromMap(new IdentityHashMap<>());
+        invalidate(item, addedValues, removedValues);
+        applyFilterValueChanges(addedValues, removedValues);
+    }
+    private void invalidate(T item, Collection<FilterValue<T,R>> addedValues, Collection<FilterValue<T,R>> removedValues) {
+        if (!initialized || tableFilter.isTrackingCellValues() || !trackedValues.containsKey(item)) {
+            return;
+        }
+        ObservableValue<R> cellValue = tableColumn.getCellObservableValue(item);
+        R newValue = cellValue == null ? null : cellValue.getValue();
+        R oldValue = trackedValues.put(item, newValue);
+        if (!Objects.equals(oldValue, newValue)) {
+            addValue(newValue, addedValues);
+            removeValue(oldValue, removedValues);
+        }
+    }
+    private void updateValue(R oldValue, R newValue) {
+        List<FilterValue<T,R>> addedValues = new ArrayList<>(1);
+        Set<FilterValue<T,R>> removedValues = Collections.newSetFromMap(new IdentityHashMap<>());
+        addValue(newValue, addedValues);
+        removeValue(oldValue, removedValues);
+        applyFilterValueChanges(addedValues, removedValues);
+    }
+
+    /**
+     * Returns the FilterValue holding the given value, or null if no item of the backing
+     * list has that value for this column.
+     */
+    FilterValue<T,R> getFilterValue(Object value) {
+        return filterValuesIndex.get(value);
+    }
+
+    private void addValue(R value, Collection<FilterValue<T,R>> addedValues) {
+        if (filterValuesDupeCounter.add(value) == 1) {
+            FilterValue<T,R> filterValue = new FilterValue<>(value,this);
+            filterValuesIndex.put(value, filterValue);
+            addedValues.add(filterValue);
+        }
+    }
+    private void removeValue(R value, Collection<FilterValue<T,R>> removedValues) {
         boolean removedLastDuplicate = filterValuesDupeCounter.remove(value) == 0;
         if (removedLastDuplicate) {
             // Remove the FilterValue associated with the value
-            Optional<FilterValue<T,R>> existingFilterValue = getFilterValues().stream()
-                    .filter(fv -> Objects.equals(fv.getValue(), value)).findAny();
+            FilterValue<T,R> filterValue = filterValuesIndex.remove(value);
+            if (filterValue != null) {
+                removedValues.add(filterValue);
+            }
+        }
+    }
 
-            existingFilterValue.ifPresent(trFilterValue -> getFilterValues().remove(trFilterValue));
+    /**
+     * Applies the collected additions and removals to the filterValues list, so that
+     * a bulk change of the backing list results in (at most) one removal and one addition.
+     * Values that were added and removed again within the same batch are skipped.
+     */
+    private void applyFilterValueChanges(List<FilterValue<T,R>> addedValues, Set<FilterValue<T,R>> removedValues) {
+        if (!removedValues.isEmpty()) {
+            addedValues.removeIf(removedValues::contains);
+            filterValues.removeAll(removedValues);
+        }
+        if (!addedValues.isEmpty()) {
+            filterValues.addAll(addedValues);
         }
     }
     private void addVisibleItem(ObservableValue<R>  cellValue) {
@@ -49,7 +49,7 @@ import javafx.scene.layout.VBox;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static impl.org.controlsfx.i18n.Localization.getString;
@@ -85,17 +85,19 @@ public final class FilterPanel<T,R> extends VBox {
                 .forEach(item -> item.selectedProperty().set(false));
     }
     void selectValue(Object value) {
-        checkListView.getItems().stream().filter(item ->
-                (item.getValue() == null && value == null) ||
-                        (item.getValue() != null && value != null) && item.getValue().equals(value)
-                    )
-                .forEach(item -> item.selectedProperty().set(true));
+        FilterValue<T,R> item = columnFilter.getFilterValue(value);
+        if (item != null && isInSearchScope(item)) {
+            item.selectedProperty().set(true);
+        }
     }
     void unSelectValue(Object value) {
-        checkListView.getItems().stream().filter(item ->
-                (item.getValue() == null && value == null) ||
-                        (item.getValue() != null && value != null) && item.getValue().equals(value)
-        ).forEach(item -> item.selectedProperty().set(false));
+        FilterValue<T,R> item = columnFilter.getFilterValue(value);
+        if (item != null && isInSearchScope(item)) {
+            item.selectedProperty().set(false);
+        }
+    }
+    private boolean isInSearchScope(FilterValue<T,R> item) {
+        return filterList.getPredicate() == null || filterList.getPredicate().test(item);
     }
 
 
@@ -187,18 +189,20 @@ public final class FilterPanel<T,R> extends VBox {
     }
     private void initializeListeners() {
         searchBox.textProperty().addListener(l -> {
+            final String text = searchBox.getText();
+            final Predicate<FilterValue<?,?>> inScope = columnFilter.search(text);
+
             //filter scope based on search text
-            filterList.setPredicate(val -> searchBox.getText().isEmpty() ||
-                    columnFilter.getSearchStrategy().test(searchBox.getText(), Optional.ofNullable(val.getValue()).map(Object::toString).orElse("")));
+            filterList.setPredicate(val -> text.isEmpty() || inScope.test(val));
 
             //unselect items out of scope
             columnFilter.getFilterValues().stream()
-                    .filter(s -> !columnFilter.getSearchStrategy().test(searchBox.getText(), Optional.ofNullable(s.getValue()).map(Object::toString).orElse("")))
+                    .filter(inScope.negate())
                     .collect(Collectors.toList()).forEach(s -> s.selectedProperty().set(false));
 
             //select items in scope
             columnFilter.getFilterValues().stream()
-                    .filter(s -> columnFilter.getSearchStrategy().test(searchBox.getText(), Optional.ofNullable(s.getValue()).map(Object::toString).orElse("")))
+                    .filter(inScope)
                     .collect(Collectors.toList()).forEach(s -> s.selectedProperty().set(true));
         });
     }
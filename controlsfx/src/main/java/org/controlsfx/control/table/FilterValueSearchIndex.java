@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Search index over the {@link FilterValue}s of a {@link ColumnFilter}, used by the
+ * search box of the {@link FilterPanel}.
+ *
+ * <p>The string of each value is computed (and normalized, for an
+ * {@link IndexedSearchStrategy}) once when the index is built. Prefix queries are
+ * answered from a sorted array, contains queries of three or more characters from a
+ * trigram index; other strategies are tested against the cached strings.
+ *
+ * <p>The index is rebuilt lazily on the next search after it has been invalidated.
+ */
+final class FilterValueSearchIndex<T,R> {
+
+    private static final int NGRAM = 3;
+
+    private final ColumnFilter<T,R> columnFilter;
+    private boolean valid = false;
+
+    private String[] keys;
+    private IdentityHashMap<FilterValue<T,R>,Integer> positions;
+    private int[] sorted;
+    private HashMap<Long,IntList> ngrams;
+
+    FilterValueSearchIndex(ColumnFilter<T,R> columnFilter) {
+        this.columnFilter = columnFilter;
+    }
+
+    /**
+     * Marks the index as outdated, after values have been added or removed, or
+     * the search strategy has changed.
+     */
+    void invalidate() {
+        valid = false;
+        keys = null;
+        positions = null;
+        sorted = null;
+        ngrams = null;
+    }
+
+    /**
+     * Returns a predicate accepting the FilterValues matching the given input
+     * according to the current search strategy.
+     */
+    Predicate<FilterValue<?,?>> search(String input) {
+        if (!valid) {
+            build();
+        }
+        final BiPredicate<String,String> strategy = columnFilter.getSearchStrategy();
+        final IdentityHashMap<FilterValue<T,R>,Integer> positions = this.positions;
+        final BitSet matches = new BitSet(keys.length);
+
+        if (strategy instanceof IndexedSearchStrategy) {
+            IndexedSearchStrategy indexedStrategy = (IndexedSearchStrategy) strategy;
+            String normalizedInput = indexedStrategy.normalize(input);
+            if (indexedStrategy.getMatchMode() == IndexedSearchStrategy.MatchMode.STARTS_WITH) {
+                searchPrefix(normalizedInput, matches);
+            } else if (normalizedInput.length() >= NGRAM) {
+                searchNgrams(normalizedInput, matches);
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i].contains(normalizedInput)) {
+                        matches.set(i);
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                if (strategy.test(input, keys[i])) {
+                    matches.set(i);
+                }
+            }
+        }
+
+        return filterValue -> {
+            Integer position = positions.get(filterValue);
+            // values added after the index was built are tested directly
+            return position != null ? matches.get(position) : strategy.test(input, filterValue.toString());
+        };
+    }
+
+    private void searchPrefix(String prefix, BitSet matches) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[sorted[mid]].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < sorted.length && keys[sorted[i]].startsWith(prefix); i++) {
+            matches.set(sorted[i]);
+        }
+    }
+
+    private void searchNgrams(String input, BitSet matches) {
+        // verify the candidates of the rarest trigram of the input
+        IntList candidates = null;
+        for (int i = 0; i + NGRAM <= input.length(); i++) {
+            IntList list = ngrams.get(ngram(input, i));
+            if (list == null) {
+                return;
+            }
+            if (candidates == null || list.size < candidates.size) {
+                candidates = list;
+            }
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            int position = candidates.data[i];
+            if (keys[position].contains(input)) {
+                matches.set(position);
+            }
+        }
+    }
+
+    private void build() {
+        List<FilterValue<T,R>> values = new ArrayList<>(columnFilter.getFilterValues());
+        keys = new String[values.size()];
+        positions = new IdentityHashMap<>(values.size());
+
+        BiPredicate<String,String> searchStrategy = columnFilter.getSearchStrategy();
+        IndexedSearchStrategy indexedStrategy = searchStrategy instanceof IndexedSearchStrategy ?
+                (IndexedSearchStrategy) searchStrategy : null;
+        for (int i = 0; i < keys.length; i++) {
+            FilterValue<T,R> value = values.get(i);
+            String key = value.toString();
+            keys[i] = indexedStrategy == null ? key : indexedStrategy.normalize(key);
+            positions.put(value, i);
+        }
+
+        if (indexedStrategy != null) {
+            if (indexedStrategy.getMatchMode() == IndexedSearchStrategy.MatchMode.STARTS_WITH) {
+                sorted = sortedPositions(keys);
+            } else {
+                ngrams = new HashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    for (int j = 0; j + NGRAM <= keys[i].length(); j++) {
+                        ngrams.computeIfAbsent(ngram(keys[i], j), k -> new IntList()).addOnce(i);
+                    }
+                }
+            }
+        }
+        valid = true;
+    }
+
+    private static int[] sortedPositions(String[] keys) {
+        Integer[] positions = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, Comparator.comparing(i -> keys[i]));
+
+        int[] sorted = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            sorted[i] = positions[i];
+        }
+        return sorted;
+    }
+
+    private static long ngram(String s, int from) {
+        return ((long) s.charAt(from) << 32) | ((long) s.charAt(from + 1) << 16) | s.charAt(from + 2);
+    }
+
+    /**
+     * Growable list of ascending positions.
+     */
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void addOnce(int value) {
+            // positions are added in ascending order, so duplicates are adjacent
+            if (size > 0 && data[size - 1] == value) {
+                return;
+            }
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A search strategy for the search box of the {@link TableFilter} that can be served
+ * by an index instead of being tested against every distinct value of a column on
+ * every keystroke.
+ *
+ * <p>Each distinct value is normalized once (for instance lower cased) when the index is
+ * built, and the normalized input is then matched against the normalized values either
+ * as a prefix, using a sorted array, or as a substring, using an n-gram index.
+ *
+ * <p>Any other {@link BiPredicate} can still be set with
+ * {@link TableFilter#setSearchStrategy(BiPredicate)}, in which case it is tested against
+ * every value, as before.
+ */
+public final class IndexedSearchStrategy implements BiPredicate<String,String> {
+
+    /**
+     * How the normalized input is matched against the normalized values.
+     */
+    public enum MatchMode {
+        /** The value starts with the input */
+        STARTS_WITH,
+        /** The value contains the input */
+        CONTAINS
+    }
+
+    /**
+     * Case insensitive contains, the default search strategy of the {@link TableFilter}.
+     */
+    public static final IndexedSearchStrategy CONTAINS_IGNORE_CASE =
+            new IndexedSearchStrategy(MatchMode.CONTAINS, String::toLowerCase);
+
+    /**
+     * Case insensitive starts with.
+     */
+    public static final IndexedSearchStrategy STARTS_WITH_IGNORE_CASE =
+            new IndexedSearchStrategy(MatchMode.STARTS_WITH, String::toLowerCase);
+
+    private final MatchMode matchMode;
+    private final Function<String,String> normalizer;
+
+    /**
+     * Creates an indexed search strategy.
+     * @param matchMode how the input is matched against the values
+     * @param normalizer applied once to each value and to the input before matching,
+     *                   for instance to fold case or strip accents
+     */
+    public IndexedSearchStrategy(MatchMode matchMode, Function<String,String> normalizer) {
+        this.matchMode = Objects.requireNonNull(matchMode);
+        this.normalizer = Objects.requireNonNull(normalizer);
+    }
+
+    /**
+     * Returns how the normalized input is matched against the normalized values.
+     */
+    public MatchMode getMatchMode() {
+        return matchMode;
+    }
+
+    /**
+     * Normalizes the given string, as it is stored in the index.
+     */
+    public String normalize(String value) {
+        return normalizer.apply(value);
+    }
+
+    /**
+     * Tests a normalized input against a normalized value.
+     */
+    public boolean testNormalized(String normalizedInput, String normalizedValue) {
+        return matchMode == MatchMode.STARTS_WITH ?
+                normalizedValue.startsWith(normalizedInput) :
+                normalizedValue.contains(normalizedInput);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean test(String inputString, String subjectString) {
+        return testNormalized(normalize(inputString), normalize(subjectString));
+    }
+}
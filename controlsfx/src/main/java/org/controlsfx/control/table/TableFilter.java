@@ -54,6 +54,7 @@ public final class TableFilter<T> {
     private final TableView<T> tableView;
     private final ObservableList<T> backingList;
     private final FilteredList<T> filteredList;
+    private final boolean trackCellValues;
 
     private final ObservableList<ColumnFilter<T,?>> columnFilters = FXCollections.observableArrayList();
 
@@ -63,11 +64,12 @@ public final class TableFilter<T> {
      */
     @Deprecated
     public TableFilter(TableView<T> tableView) {
-        this(tableView,false);
+        this(tableView,false,true);
     }
 
-    private TableFilter(TableView<T> tableView, boolean isLazy) {
+    private TableFilter(TableView<T> tableView, boolean isLazy, boolean trackCellValues) {
         this.tableView = tableView;
+        this.trackCellValues = trackCellValues;
         backingList = tableView.getItems();
         filteredList = new FilteredList<>(new SortedList<>(backingList));
         SortedList<T> sortedControlList = new SortedList<>(this.filteredList);
@@ -170,6 +172,28 @@ public final class TableFilter<T> {
         columnFilters.stream().filter(c -> c.getTableColumn() == column)
                 .forEach(ColumnFilter::unSelectAllValues);
     }
+    /**
+     * Returns whether a listener is attached to the cell value of every item in the
+     * backing list. When false, changes to cell values are only picked up from update
+     * events of the backing list (see {@link FXCollections#observableArrayList(javafx.util.Callback)})
+     * or by calling {@link #invalidate(Object)}.
+     */
+    public boolean isTrackingCellValues() {
+        return trackCellValues;
+    }
+
+    /**
+     * Notifies this TableFilter that cell values of the given item have changed, so the
+     * distinct values of each column are updated. This is only required when
+     * cell values are not tracked, and the backing list doesn't fire update events.
+     * @param item an item of the backing list
+     */
+    public void invalidate(T item) {
+        for (ColumnFilter<T,?> columnFilter : columnFilters) {
+            columnFilter.invalidate(item);
+        }
+    }
+
     public void executeFilter() {
         if (columnFilters.stream().anyMatch(ColumnFilter::isFiltered)) {
             filteredList.setPredicate(item -> columnFilters.stream()
@@ -229,6 +253,7 @@ public final class TableFilter<T> {
 
         private final TableView<T> tableView;
         private volatile boolean lazyInd = false;
+        private volatile boolean trackCellValues = true;
 
         private Builder(TableView<T> tableView) {
             this.tableView = tableView;
@@ -237,8 +262,19 @@ public final class TableFilter<T> {
             this.lazyInd = isLazy;
             return this;
         }
+        /**
+         * Sets whether a listener is attached to the cell value of every item, which is the
+         * default. Setting this to false saves one listener per cell for large tables: changes
+         * are then taken from update events of the backing list, which requires the list to be
+         * created with an extractor, or have to be notified with {@link TableFilter#invalidate(Object)}.
+         * @param trackCellValues
+         */
+        public Builder<T> trackCellValues(boolean trackCellValues) {
+            this.trackCellValues = trackCellValues;
+            return this;
+        }
         public TableFilter<T> apply() {
-            return new TableFilter<>(tableView, lazyInd);
+            return new TableFilter<>(tableView, lazyInd, trackCellValues);
         }
     }
 }
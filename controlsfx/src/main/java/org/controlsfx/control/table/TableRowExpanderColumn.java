@@ -28,14 +28,26 @@ package org.controlsfx.control.table;
 
 import impl.org.controlsfx.skin.ExpandableTableRowSkin;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.util.Callback;
 
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * The TableRowExpanderColumn enables a TableView to provide an expandable editor below each table row.
@@ -84,15 +96,145 @@ import java.util.Map;
  * The custom toggle cell utilizes the {@link TableRowExpanderColumn#toggleExpanded(int)} method to toggle
  * the row expander instead of param.toggleExpanded() like the editor does.
  *
+ * <h3>Caching</h3>
+ *
+ * The column keeps the expanded state of every item shown, and the expanded node of the expanded items. By default
+ * these are kept as long as the column. For tables whose items change over time, a {@link CachePolicy} can be set
+ * with {@link #setCachePolicy(CachePolicy)} to bound the cache: evicted nodes are passed to
+ * {@link #onExpandedNodeEvictedProperty()} and are created again with the expanded node callback when they are
+ * needed. The {@link #getCacheHitRate() hit rate} of the cache tells how often expanded nodes are reused.
+ *
  * @param <S> The item type of the TableView
  */
 public final class TableRowExpanderColumn<S> extends TableColumn<S, Boolean> {
     private static final String STYLE_CLASS = "expander-column";
     private static final String EXPANDER_BUTTON_STYLE_CLASS = "expander-button";
 
-    private final Map<S, Node> expandedNodeCache = new HashMap<>();
-    private final Map<S, BooleanProperty> expansionState = new HashMap<>();
+    /**
+     * The policies that bound the cache of expanded states and expanded nodes of a {@link TableRowExpanderColumn}.
+     */
+    public enum CachePolicy {
+        /**
+         * Expanded states are kept as long as the column, and expanded nodes until the row shows another item.
+         */
+        UNBOUNDED,
+
+        /**
+         * At most {@link #maxCacheSizeProperty() maxCacheSize} collapsed states and expanded nodes are kept, the
+         * least recently used ones are evicted. The states of expanded items, and the nodes currently shown in
+         * a row, are never evicted.
+         */
+        LRU,
+
+        /**
+         * Entries are kept as long as their item is referenced elsewhere, for instance by the items of the
+         * TableView. Expanded nodes are only weakly referenced, and are created again if they have been
+         * collected once they were no longer shown.
+         */
+        WEAK_KEYS
+    }
+
+    private Map<S, Supplier<Node>> expandedNodeCache = new HashMap<>();
+    private Map<S, BooleanProperty> expansionState = new HashMap<>();
     private Callback<TableRowDataFeatures<S>, Node> expandedNodeCallback;
+    private long cacheHitCount;
+    private long cacheMissCount;
+
+    // --- cachePolicy
+    /**
+     * The policy bounding the cache of expanded states and expanded nodes. It should be set before the column
+     * is used.
+     * Default is {@link CachePolicy#UNBOUNDED}
+     */
+    private final ObjectProperty<CachePolicy> cachePolicy = new SimpleObjectProperty<CachePolicy>(this, "cachePolicy", CachePolicy.UNBOUNDED) {
+        @Override
+        protected void invalidated() {
+            updateCachePolicy();
+        }
+    };
+    public final ObjectProperty<CachePolicy> cachePolicyProperty() { return cachePolicy; }
+    public final CachePolicy getCachePolicy() { return cachePolicy.get(); }
+    public final void setCachePolicy(CachePolicy value) { cachePolicy.set(value); }
+
+    // --- maxCacheSize
+    /**
+     * The maximum number of collapsed states, and of expanded nodes, kept with the {@link CachePolicy#LRU} policy.
+     * Default is 1000
+     */
+    private final IntegerProperty maxCacheSize = new SimpleIntegerProperty(this, "maxCacheSize", 1000) {
+        @Override
+        protected void invalidated() {
+            evict(0, 0);
+        }
+    };
+    public final IntegerProperty maxCacheSizeProperty() { return maxCacheSize; }
+    public final int getMaxCacheSize() { return maxCacheSize.get(); }
+    public final void setMaxCacheSize(int value) { maxCacheSize.set(value); }
+
+    // --- onExpandedNodeEvicted
+    /**
+     * Called with the expanded nodes evicted from the cache, so they can release their resources, for instance
+     * listeners added to their item.
+     * Default is null
+     */
+    private final ObjectProperty<Consumer<Node>> onExpandedNodeEvicted = new SimpleObjectProperty<>(this, "onExpandedNodeEvicted");
+    public final ObjectProperty<Consumer<Node>> onExpandedNodeEvictedProperty() { return onExpandedNodeEvicted; }
+    public final Consumer<Node> getOnExpandedNodeEvicted() { return onExpandedNodeEvicted.get(); }
+    public final void setOnExpandedNodeEvicted(Consumer<Node> value) { onExpandedNodeEvicted.set(value); }
+
+    /**
+     * Returns the number of expanded nodes currently cached.
+     *
+     * @return The number of cached expanded nodes
+     */
+    public int getCacheSize() {
+        return expandedNodeCache.size();
+    }
+
+    /**
+     * Returns the number of items whose expanded state is currently kept.
+     *
+     * @return The number of expanded states
+     */
+    public int getExpansionStateCount() {
+        return expansionState.size();
+    }
+
+    /**
+     * Returns the number of times an expanded node was found in the cache.
+     *
+     * @return The number of cache hits
+     */
+    public long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    /**
+     * Returns the number of times an expanded node had to be created.
+     *
+     * @return The number of cache misses
+     */
+    public long getCacheMissCount() {
+        return cacheMissCount;
+    }
+
+    /**
+     * Returns the ratio of the expanded node requests served by the cache, or 0 if there were none.
+     *
+     * @return The cache hit rate, between 0 and 1
+     */
+    public double getCacheHitRate() {
+        long requests = cacheHitCount + cacheMissCount;
+        return requests == 0 ? 0 : (double) cacheHitCount / requests;
+    }
+
+    /**
+     * Resets the cache hit and miss counts.
+     */
+    public void resetCacheStatistics() {
+        cacheHitCount = 0;
+        cacheMissCount = 0;
+    }
 
     /**
      * Returns a Boolean property that can be used to manipulate the expanded state for a row
@@ -104,7 +246,9 @@ public final class TableRowExpanderColumn<S> extends TableColumn<S, Boolean> {
     public BooleanProperty getExpandedProperty(S item) {
         BooleanProperty value = expansionState.get(item);
         if (value == null) {
-            value = new SimpleBooleanProperty(item, "expanded", false) {
+            // a weakly referenced item must not be referenced by its value
+            Object bean = getCachePolicy() == CachePolicy.WEAK_KEYS ? null : item;
+            value = new SimpleBooleanProperty(bean, "expanded", false) {
                 /**
                  * When the expanded state change we refresh the tableview.
                  */
@@ -113,6 +257,8 @@ public final class TableRowExpanderColumn<S> extends TableColumn<S, Boolean> {
                     getTableView().refresh();
                 }
             };
+            // make room first, so the new state is not evicted right away
+            evict(1, 0);
             expansionState.put(item, value);
         }
         return value;
@@ -128,10 +274,17 @@ public final class TableRowExpanderColumn<S> extends TableColumn<S, Boolean> {
         int index = tableRow.getIndex();
         if (index > -1 && index < getTableView().getItems().size()) {
             S item = getTableView().getItems().get(index);
-            Node node = expandedNodeCache.get(item);
+            Supplier<Node> cached = expandedNodeCache.get(item);
+            Node node = cached == null ? null : cached.get();
             if (node == null) {
+                cacheMissCount++;
                 node = expandedNodeCallback.call(new TableRowDataFeatures<>(tableRow, this, item));
-                expandedNodeCache.put(item, node);
+                evict(0, 1);
+                expandedNodeCache.put(item, reference(node));
+            } else {
+                cacheHitCount++;
+                // the state of a shown item is recently used too
+                expansionState.get(item);
             }
             return node;
         }
@@ -145,7 +298,92 @@ public final class TableRowExpanderColumn<S> extends TableColumn<S, Boolean> {
      * @return The removed expanded node, if it exists.
      */
     public Node removeExpandedNode(S item) {
-        return expandedNodeCache.remove(item);
+        Supplier<Node> cached = expandedNodeCache.remove(item);
+        return cached == null ? null : cached.get();
+    }
+
+    private Supplier<Node> reference(Node node) {
+        if (getCachePolicy() == CachePolicy.WEAK_KEYS) {
+            return new WeakReference<>(node)::get;
+        }
+        return () -> node;
+    }
+
+    private <K, V> Map<K, V> createCacheMap() {
+        switch (getCachePolicy()) {
+            case LRU:
+                return new LinkedHashMap<>(16, 0.75f, true);
+            case WEAK_KEYS:
+                return new WeakHashMap<>();
+            default:
+                return new HashMap<>();
+        }
+    }
+
+    private void updateCachePolicy() {
+        Map<S, Supplier<Node>> nodes = createCacheMap();
+        expandedNodeCache.forEach((item, cached) -> {
+            Node node = cached.get();
+            if (node != null) {
+                nodes.put(item, reference(node));
+            }
+        });
+        Map<S, BooleanProperty> states = createCacheMap();
+        states.putAll(expansionState);
+        expandedNodeCache = nodes;
+        expansionState = states;
+        evict(0, 0);
+    }
+
+    /**
+     * Evicts the least recently used entries beyond the maximum cache size, with the {@link CachePolicy#LRU} policy.
+     * Expanded states are only evicted when collapsed, along with their node, as the node keeps the state it was
+     * created with. Nodes shown in a row are never evicted.
+     *
+     * @param reservedStates The number of states about to be added
+     * @param reservedNodes The number of nodes about to be added
+     */
+    private void evict(int reservedStates, int reservedNodes) {
+        if (getCachePolicy() != CachePolicy.LRU) {
+            return;
+        }
+        int maxStates = Math.max(0, getMaxCacheSize() - reservedStates);
+        int maxNodes = Math.max(0, getMaxCacheSize() - reservedNodes);
+
+        if (expansionState.size() > maxStates) {
+            // iterating doesn't reorder the nodes, as expandedNodeCache.get() would
+            Set<S> shown = new HashSet<>();
+            for (Map.Entry<S, Supplier<Node>> entry : expandedNodeCache.entrySet()) {
+                Node node = entry.getValue().get();
+                if (node != null && node.getParent() != null) {
+                    shown.add(entry.getKey());
+                }
+            }
+            Iterator<Map.Entry<S, BooleanProperty>> states = expansionState.entrySet().iterator();
+            while (expansionState.size() > maxStates && states.hasNext()) {
+                Map.Entry<S, BooleanProperty> entry = states.next();
+                if (!entry.getValue().get() && !shown.contains(entry.getKey())) {
+                    states.remove();
+                    Supplier<Node> cached = expandedNodeCache.remove(entry.getKey());
+                    dispose(cached == null ? null : cached.get());
+                }
+            }
+        }
+
+        Iterator<Supplier<Node>> nodes = expandedNodeCache.values().iterator();
+        while (expandedNodeCache.size() > maxNodes && nodes.hasNext()) {
+            Node node = nodes.next().get();
+            if (node == null || node.getParent() == null) {
+                nodes.remove();
+                dispose(node);
+            }
+        }
+    }
+
+    private void dispose(Node node) {
+        if (node != null && getOnExpandedNodeEvicted() != null) {
+            getOnExpandedNodeEvicted().accept(node);
+        }
     }
 
     /**
@@ -0,0 +1,423 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2;
+
+import impl.org.controlsfx.tableview2.SortKeys;
+import impl.org.controlsfx.tableview2.SortUtils.SortEndedEvent;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.concurrent.Task;
+import javafx.scene.control.TablePosition;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TableView.TableViewFocusModel;
+import javafx.util.Callback;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * A sort policy for {@link TableView} and {@link TableView2} that sorts the 
+ * items in a background thread, so sorting large tables doesn't block the 
+ * JavaFX Application Thread.
+ * 
+ * <p>When the table is sorted, the values of the sort order columns are 
+ * extracted once, into primitive arrays where possible. Then an index 
+ * permutation is sorted with a parallel sort in the background, and finally
+ * the items are sorted on the JavaFX Application Thread by the rank each item 
+ * got in the background, with {@link FXCollections#sort(ObservableList, Comparator)}. 
+ * That is a single permutation for the lists that support it, so the selected 
+ * cells follow their items, and a single {@link ObservableList#setAll(java.util.Collection)}
+ * for any other list. If the table is sorted again before that, the running 
+ * sort is cancelled.
+ * 
+ * <p>Items that are added, removed or updated while a sort is running have no
+ * rank, or an outdated one: they are compared with the comparator of the table
+ * instead. Values that change without firing an update event are ordered by 
+ * the value they had when the sort started.
+ * 
+ * <p>If the items are a {@link SortedList}, the list can't be permuted, so 
+ * once the sort has finished the SortedList is given a comparator that orders 
+ * the items by their rank, which is cheaper than the table comparator. That 
+ * comparator is set to the SortedList if its comparator is not bound, and it is 
+ * also available through the {@link #comparatorProperty() comparator property}. 
+ * A {@link FilteredTableView} configured with 
+ * {@link FilteredTableView#configureForFiltering(FilteredTableView, ObservableList) configureForFiltering}
+ * binds its SortedList to that property while its sort policy is an 
+ * AsyncSortPolicy. A SortedList that is bound to the table comparator instead
+ * is sorted by the binding, as with the default sort policy, so this has no 
+ * benefit.
+ * 
+ * <h3>Progress</h3>
+ * 
+ * <p>With a {@link TableView2}, the sort events that are fired when the sort 
+ * starts and when it ends wrap the whole background sort. Alternatively, the
+ * {@link #runningProperty() running property} can be used, for instance to 
+ * show a progress indicator.
+ * 
+ * <h3>Code Example</h3>
+ * 
+ * <pre>
+ * {@code
+ * AsyncSortPolicy<Person> sortPolicy = new AsyncSortPolicy<>();
+ * table.setSortPolicy(sortPolicy);
+ * progressIndicator.visibleProperty().bind(sortPolicy.runningProperty());
+ * }</pre>
+ * 
+ * @param <S> The type of the objects contained within the TableView items list.
+ */
+public class AsyncSortPolicy<S> implements Callback<TableView<S>, Boolean> {
+
+    private static final Executor DEFAULT_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "AsyncSortPolicy");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor executor;
+
+    private SortTask sortTask;
+    
+    // listens to the source of a SortedList while its comparator is set
+    private ObservableList<? extends S> rankedSource;
+    private RankComparator<S> rankComparator;
+
+    /**
+     * Creates a new AsyncSortPolicy that sorts in a shared background thread.
+     */
+    public AsyncSortPolicy() {
+        this(DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates a new AsyncSortPolicy that sorts with the given executor.
+     * 
+     * @param executor the executor that runs the sort tasks
+     */
+    public AsyncSortPolicy(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**************************************************************************
+     * 
+     * Properties
+     * 
+     **************************************************************************/
+    
+    // --- running
+    private final ReadOnlyBooleanWrapper running = new ReadOnlyBooleanWrapper(this, "running", false); //$NON-NLS-1$
+    
+    /**
+     * Indicates whether a sort is currently running in the background.
+     * 
+     * @return A read-only property that is true while a sort is running.
+     */
+    public final ReadOnlyBooleanProperty runningProperty() {
+        return running.getReadOnlyProperty();
+    }
+    
+    /**
+     * Returns whether a sort is currently running in the background.
+     * 
+     * @return true if a sort is running
+     */
+    public final boolean isRunning() {
+        return running.get();
+    }
+
+    // --- comparator
+    private final ReadOnlyObjectWrapper<Comparator<S>> comparator = new ReadOnlyObjectWrapper<>(this, "comparator"); //$NON-NLS-1$
+
+    /**
+     * The comparator that orders the items of a {@link SortedList} as the 
+     * table comparator did when the last sort of a SortedList started. It is 
+     * set when that sort finishes, and it is null when the table is not sorted.
+     * The comparator of a SortedList can be bound to this property, instead of
+     * to the comparator of the table, so it is not sorted on the JavaFX 
+     * Application Thread every time the sort order changes.
+     * 
+     * @return A read-only property with the comparator of the last sort
+     */
+    public final ReadOnlyObjectProperty<Comparator<S>> comparatorProperty() {
+        return comparator.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the comparator of the last sort of a {@link SortedList}.
+     * 
+     * @return the comparator of the last sort, or null
+     */
+    public final Comparator<S> getComparator() {
+        return comparator.get();
+    }
+
+    /**************************************************************************
+     * 
+     * Public API
+     * 
+     **************************************************************************/
+    
+    /**
+     * Cancels the sort that is currently running, if any. The items keep their
+     * current order.
+     */
+    public void cancel() {
+        SortTask task = sortTask;
+        stop();
+        if (task != null && task.table instanceof TableView2) {
+            task.table.fireEvent(new SortEndedEvent<>(task.table, task.table));
+        }
+    }
+
+    /**
+     * Starts sorting the items of the given table in the background, with the
+     * current comparator of the table.
+     * 
+     * @param table the table to sort
+     * @return true, unless the sort can't be applied to the items of the table
+     */
+    @Override
+    public Boolean call(TableView<S> table) {
+        // the table has fired a new sort started event already
+        stop();
+        final ObservableList<S> items = table.getItems();
+        final Comparator<S> tableComparator = table.getComparator();
+
+        if (items instanceof SortedList) {
+            final SortedList<S> sortedList = (SortedList<S>) items;
+            final boolean bound = sortedList.comparatorProperty().isBound();
+            if (bound && sortedList.getComparator() == tableComparator) {
+                // the list is already sorted by the table comparator
+                return TableView.DEFAULT_SORT_POLICY.call(table);
+            }
+            if (tableComparator == null) {
+                setRankComparator(null, null);
+                comparator.set(null);
+                if (! bound) {
+                    sortedList.setComparator(null);
+                }
+                return true;
+            }
+            start(table, sortedList.getSource(), tableComparator, true, task -> {
+                setRankComparator(sortedList.getSource(), task.ranked);
+                comparator.set(task.ranked);
+                if (! bound) {
+                    sortedList.setComparator(task.ranked);
+                }
+            });
+            return true;
+        }
+        
+        setRankComparator(null, null);
+        if (items == null || items.isEmpty() || tableComparator == null) {
+            return true;
+        }
+        start(table, items, tableComparator, false, task -> {
+            try {
+                task.ranked.setRanks(task.sortKeys.rank(task.getValue()));
+                sort(table, items, task.ranked);
+            } catch (UnsupportedOperationException e) {
+                // the items can't be sorted, keep their order
+            }
+        });
+        return true;
+    }
+
+    /**************************************************************************
+     * 
+     * Private implementation
+     * 
+     **************************************************************************/
+    
+    private void start(TableView<S> table, ObservableList<? extends S> source, 
+            Comparator<S> comparator, boolean rank, Consumer<SortTask> apply) {
+        List<S> snapshot = new ArrayList<>(source);
+        SortKeys<S> sortKeys = SortKeys.extract(snapshot, table.getSortOrder());
+        sortTask = new SortTask(table, source, sortKeys, comparator, rank, apply);
+        running.set(true);
+        executor.execute(sortTask);
+    }
+
+    private void stop() {
+        if (sortTask != null) {
+            sortTask.cancel();
+            sortTask.dispose();
+            sortTask = null;
+        }
+        running.set(false);
+    }
+
+    /**
+     * Sorts the items, and moves the focused cell to the new index of its item,
+     * as the focus model doesn't follow permutations. 
+     */
+    private void sort(TableView<S> table, ObservableList<S> items, Comparator<S> comparator) {
+        final TableViewFocusModel<S> focusModel = table.getFocusModel();
+        final TablePosition<?, ?> focusedCell = focusModel == null ? null : focusModel.getFocusedCell();
+        final S focusedItem = focusedCell == null || focusedCell.getRow() < 0 ? null : focusModel.getFocusedItem();
+
+        FXCollections.sort(items, comparator);
+
+        if (focusedItem != null) {
+            focusModel.focus(items.indexOf(focusedItem), table.getVisibleLeafColumn(focusedCell.getColumn()));
+        }
+    }
+
+    private void setRankComparator(ObservableList<? extends S> source, RankComparator<S> comparator) {
+        if (rankedSource != null) {
+            rankedSource.removeListener(rankComparator);
+        }
+        rankedSource = source;
+        rankComparator = comparator;
+        if (rankedSource != null) {
+            rankedSource.addListener(rankComparator);
+        }
+    }
+    
+    private void finish(SortTask task) {
+        if (sortTask != task) {
+            return;
+        }
+        sortTask.dispose();
+        sortTask = null;
+        running.set(false);
+        if (task.table instanceof TableView2) {
+            task.table.fireEvent(new SortEndedEvent<>(task.table, task.table));
+        }
+    }
+
+    private final class SortTask extends Task<int[]> {
+
+        private final TableView<S> table;
+        private final ObservableList<? extends S> source;
+        private final SortKeys<S> sortKeys;
+        private final RankComparator<S> ranked;
+        private final boolean rank;
+        private Map<S, Integer> ranks;
+
+        SortTask(TableView<S> table, ObservableList<? extends S> source, SortKeys<S> sortKeys,
+                Comparator<S> comparator, boolean rank, Consumer<SortTask> apply) {
+            this.table = table;
+            this.source = source;
+            this.sortKeys = sortKeys;
+            this.rank = rank;
+            this.ranked = new RankComparator<>(comparator);
+            // items updated during the sort are compared with their current values
+            source.addListener(ranked);
+
+            setOnSucceeded(e -> {
+                if (sortTask == this) {
+                    if (ranks != null) {
+                        ranked.setRanks(ranks);
+                    }
+                    apply.accept(this);
+                }
+                finish(this);
+            });
+            setOnFailed(e -> finish(this));
+        }
+
+        @Override
+        protected int[] call() throws Exception {
+            int[] order = sortKeys.sort(this::isCancelled);
+            if (rank) {
+                ranks = sortKeys.rank(order);
+            }
+            return order;
+        }
+
+        void dispose() {
+            source.removeListener(ranked);
+        }
+    }
+
+    /**
+     * Compares the items by the rank they got in the background sort, and 
+     * falls back to the table comparator for items without a rank. Since equal
+     * keys get equal ranks, both ways of comparing agree with each other.
+     */
+    private static final class RankComparator<S> implements Comparator<S>, ListChangeListener<Object> {
+
+        private final Comparator<S> comparator;
+        private final List<Object> updated = new ArrayList<>();
+        private Map<S, Integer> ranks;
+
+        RankComparator(Comparator<S> comparator) {
+            this.comparator = comparator;
+        }
+
+        void setRanks(Map<S, Integer> ranks) {
+            this.ranks = ranks;
+            for (Object item : updated) {
+                ranks.remove(item);
+            }
+            updated.clear();
+        }
+
+        @Override
+        public int compare(S item1, S item2) {
+            Integer rank1 = ranks.get(item1);
+            Integer rank2 = ranks.get(item2);
+            if (rank1 != null && rank2 != null) {
+                return Integer.compare(rank1, rank2);
+            }
+            return comparator.compare(item1, item2);
+        }
+
+        @Override
+        public void onChanged(Change<?> c) {
+            while (c.next()) {
+                if (c.wasUpdated()) {
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        forget(c.getList().get(i));
+                    }
+                } else if (c.wasRemoved()) {
+                    c.getRemoved().forEach(this::forget);
+                }
+            }
+        }
+
+        private void forget(Object item) {
+            if (ranks == null) {
+                updated.add(item);
+            } else {
+                ranks.remove(item);
+            }
+        }
+    }
+}
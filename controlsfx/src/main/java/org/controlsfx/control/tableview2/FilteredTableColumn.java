@@ -80,14 +80,16 @@ public class FilteredTableColumn<S, T> extends TableColumn2<S, T> {
     
     private final ListChangeListener<S> backingListListener = lc -> {
         while (lc.next()) {
-            if (lc.wasAdded()) {
-                lc.getAddedSubList()
-                        .forEach(s -> addBackingItem(s, getCellObservableValue(s)));
-            }
+            // removed first, so items that are both removed and added by the
+            // same change (setAll) keep being tracked
             if (lc.wasRemoved()) {
                 lc.getRemoved()
                         .forEach(s -> removeBackingItem(s, getCellObservableValue(s)));
             }
+            if (lc.wasAdded()) {
+                lc.getAddedSubList()
+                        .forEach(s -> addBackingItem(s, getCellObservableValue(s)));
+            }
         }
     };
     private final WeakListChangeListener<S> weakListChangeListener = new WeakListChangeListener<>(backingListListener);
@@ -241,7 +243,9 @@ public class FilteredTableColumn<S, T> extends TableColumn2<S, T> {
         }
         //remove listener from cell
         ChangeListener<T> listener = trackedCells.remove(new CellIdentity<>(item));
-        cellValue.removeListener(listener);
+        if (listener != null) {
+            cellValue.removeListener(listener);
+        }
     }
     
     private void runOnFilteredTableView(Consumer<FilteredTableView> consumer) {
@@ -27,11 +27,13 @@
 package org.controlsfx.control.tableview2;
 
 import impl.org.controlsfx.tableview2.FilteredColumnPredicate;
+import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -44,6 +46,7 @@ import org.controlsfx.control.tableview2.filter.filtereditor.FilterEditor;
 import org.controlsfx.control.tableview2.filter.filtereditor.SouthFilter;
 import org.controlsfx.control.tableview2.filter.popupfilter.PopupFilter;
 
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -175,6 +178,12 @@ public class FilteredTableView<S> extends TableView2<S> {
      */
     private ObservableList<S> backingList;
 
+    /**
+     * The comparator the SortedList set by {@link #configureForFiltering(FilteredTableView, ObservableList)}
+     * is bound to.
+     */
+    private SortComparatorBinding<S> sortComparatorBinding;
+
     /**
      * The default {@link #filterPolicyProperty() filter policy} that this FilteredTableView
      * will use if no other policy is specified. The filter policy is a simple
@@ -251,7 +260,10 @@ public class FilteredTableView<S> extends TableView2<S> {
      * Convenient method to set the items for the {@link FilteredTableView}
      * by wrapping them with a {@link FilteredList} and a {@link SortedList}, that
      * are also bound properly to the table's {@link #predicateProperty() } and
-     * {@link TableView#comparatorProperty()}.
+     * {@link TableView#comparatorProperty()}. While the sort policy of the table 
+     * is an {@link AsyncSortPolicy}, the SortedList is bound to the
+     * {@link AsyncSortPolicy#comparatorProperty() comparator of the policy}
+     * instead, so it is sorted once the background sort has finished.
      *
      * @param <S> The type of the objects contained within the FilteredTableView items list
      * @param tableView The FilteredTableView
@@ -262,7 +274,8 @@ public class FilteredTableView<S> extends TableView2<S> {
         FilteredList<S> filteredData = new FilteredList<>(items);
         filteredData.predicateProperty().bind(tableView.predicateProperty());
         SortedList<S> sortedData = new SortedList<>(filteredData);
-        sortedData.comparatorProperty().bind(tableView.comparatorProperty());
+        tableView.sortComparatorBinding = new SortComparatorBinding<>(tableView);
+        sortedData.comparatorProperty().bind(tableView.sortComparatorBinding);
         tableView.setItems(sortedData);
     }
 
@@ -271,6 +284,19 @@ public class FilteredTableView<S> extends TableView2<S> {
      * * Public Methods * *
      **************************************************************************/
 
+    /**
+     * Overrides {@link TableView2#sort() } so the SortedList set by
+     * {@link #configureForFiltering(FilteredTableView, ObservableList) configureForFiltering}
+     * follows the comparator of the current sort policy before it runs.
+     */
+    @Override
+    public void sort() {
+        if (sortComparatorBinding != null) {
+            sortComparatorBinding.updateSortPolicy();
+        }
+        super.sort();
+    }
+
     /**
      * Sets the original observable list, before it is wrapped into a
      * {@link FilteredList} and a {@link SortedList}.
@@ -441,6 +467,9 @@ public class FilteredTableView<S> extends TableView2<S> {
         boolean success = filterPolicy.call(this);
         if (! success) {
             setPredicate(oldPredicate);
+        } else if (getPredicate() instanceof FilteredColumnPredicate) {
+            // all the items have been filtered, from now on only changed items are tested
+            ((FilteredColumnPredicate<S, ?>) getPredicate()).setFiltered();
         }
 
     }
@@ -471,4 +500,41 @@ public class FilteredTableView<S> extends TableView2<S> {
                 .map(f -> ((SouthFilter) f).getFilterEditor())
                 .forEach(FilterEditor::cancelFilter);
     }
+
+    /**
+     * The comparator of the table, or the comparator of its sort policy when 
+     * it sorts in the background. Only one of them is observed at a time, so
+     * the SortedList is not sorted twice. The table sorts itself as soon as 
+     * its sort policy changes, so the policy is checked when the table sorts, 
+     * rather than from a listener.
+     */
+    private static class SortComparatorBinding<S> extends ObjectBinding<Comparator<S>> {
+
+        private final TableView<S> tableView;
+        private ObservableValue<Comparator<S>> comparator;
+
+        SortComparatorBinding(TableView<S> tableView) {
+            this.tableView = tableView;
+            updateSortPolicy();
+        }
+
+        void updateSortPolicy() {
+            Callback<TableView<S>, Boolean> sortPolicy = tableView.getSortPolicy();
+            ObservableValue<Comparator<S>> value = sortPolicy instanceof AsyncSortPolicy ?
+                    ((AsyncSortPolicy<S>) sortPolicy).comparatorProperty() : tableView.comparatorProperty();
+            if (value != comparator) {
+                if (comparator != null) {
+                    unbind(comparator);
+                }
+                comparator = value;
+                bind(comparator);
+                invalidate();
+            }
+        }
+
+        @Override
+        protected Comparator<S> computeValue() {
+            return comparator.getValue();
+        }
+    }
 }
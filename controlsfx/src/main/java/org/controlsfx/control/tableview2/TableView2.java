@@ -695,6 +695,10 @@ public class TableView2<S> extends TableView<S> {
      * Overrides {@link TableView#sort() } in order to fire custom sort events
      * when sorting starts and finishes.
      *
+     * When the sort policy is an {@link AsyncSortPolicy}, the sort finishes
+     * once its background sort has been applied, so the event that indicates
+     * the end of the sort is fired by the policy.
+     *
      * See {@link TableView#sort() } for more details about calling directly this
      * method.
      */
@@ -705,6 +709,9 @@ public class TableView2<S> extends TableView<S> {
 
         super.sort();
 
+        if (getSortPolicy() instanceof AsyncSortPolicy && ((AsyncSortPolicy<?>) getSortPolicy()).isRunning()) {
+            return;
+        }
         SortEndedEvent<TableView<S>> sortEndedEvent = new SortEndedEvent<>(TableView2.this, TableView2.this);
         fireEvent(sortEndedEvent);
     }
@@ -30,6 +30,8 @@ import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.WeakChangeListener;
 import javafx.collections.FXCollections;
@@ -37,18 +39,29 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.WeakListChangeListener;
 import javafx.css.PseudoClass;
+import javafx.scene.Node;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.TableView;
 import javafx.scene.control.Tooltip;
+import javafx.scene.control.skin.ComboBoxListViewSkin;
+import javafx.scene.control.skin.VirtualFlow;
 import org.controlsfx.control.tableview2.FilteredTableColumn;
 import org.controlsfx.control.tableview2.filter.filtermenubutton.FilterMenuButton;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
  * The FilterEditor allows filtering the column by adding text to its editor or
  * by selecting an item from the popup list.
  * 
+ * By default, the popup list contains all the distinct values of the column.
+ * For columns with many distinct values, a {@link #suggestionLimitProperty() 
+ * suggestion limit} can be set instead, so the popup list only contains the
+ * values that begin with the text of the editor, a page at a time.
+ * 
  * @param <S> Type of the objects contained within the 
  *      {@link org.controlsfx.control.tableview2.FilteredTableView} items list.
  * @param <T> Type of the content to be filtered,
@@ -77,6 +90,9 @@ public class FilterEditor<S, T> extends ComboBox<T> {
         if (items != null) {
             items.addListener(weakListChangeListener);
         }
+        if (isSuggestionMode() && isShowing()) {
+            loadSuggestions(nv);
+        }
     };
     private final WeakChangeListener<String> weakEditorListener = new WeakChangeListener<>(editorListener);
     
@@ -104,6 +120,11 @@ public class FilterEditor<S, T> extends ComboBox<T> {
             }
         };
     private final WeakChangeListener<Boolean> weakMenuButtonListener = new WeakChangeListener<>(menuButtonListener);
+
+    private final SuggestionIndex<T> suggestionIndex = new SuggestionIndex<>();
+    private String suggestionText = "";
+    private int suggestionPosition;
+    private VirtualFlow<?> suggestionFlow;
     
     public FilterEditor(FilteredTableColumn<S, T> tableColumn) {
         this.tableColumn = tableColumn;
@@ -141,6 +162,61 @@ public class FilterEditor<S, T> extends ComboBox<T> {
         setOnAction(e -> e.consume());
         
         getEditor().textProperty().addListener(weakEditorListener);
+        
+        converterProperty().addListener((Observable o) -> {
+            suggestionIndex.invalidate();
+            // the suggestions are sorted and matched by their converted string
+            if (isSuggestionMode() && isShowing()) {
+                loadSuggestions(getEditor().getText());
+            }
+        });
+        showingProperty().addListener((obs, ov, nv) -> {
+            if (nv && isSuggestionMode()) {
+                loadSuggestions(getEditor().getText());
+                // the popup list is shown after the showing property changes
+                Platform.runLater(this::addSuggestionFlowListener);
+            }
+        });
+    }
+
+    /**************************************************************************
+     * 
+     * Properties
+     * 
+     **************************************************************************/
+    
+    // --- suggestion limit
+    private final IntegerProperty suggestionLimit = new SimpleIntegerProperty(this, "suggestionLimit", 0) { //$NON-NLS-1$
+        @Override
+        protected void invalidated() {
+            loadItems();
+        }
+    };
+    
+    /**
+     * The number of suggestions loaded at once in the popup list.
+     * 
+     * When it is greater than 0, the popup list only contains the distinct 
+     * values of the column that begin with the text of the editor (ignoring
+     * case), sorted by their string value, up to this number. More values are 
+     * loaded when the popup list is scrolled to its end, so the limit should be
+     * greater than the {@link #visibleRowCountProperty() visible row count}.
+     * The distinct values are only collected when the popup is shown after the
+     * items of the table have changed.
+     * 
+     * By default, 0, meaning that the popup list contains all the distinct 
+     * values of the column.
+     * 
+     * @return the suggestion limit property
+     */
+    public final IntegerProperty suggestionLimitProperty() {
+        return suggestionLimit;
+    }
+    public final int getSuggestionLimit() {
+        return suggestionLimit.get();
+    }
+    public final void setSuggestionLimit(int value) {
+        suggestionLimit.set(value);
     }
     
     private void setMenuButton() {
@@ -159,18 +235,88 @@ public class FilterEditor<S, T> extends ComboBox<T> {
     private void loadItems() {
         T selection = getValue();
         filterValues.clear();
+        suggestionIndex.invalidate();
         if (tableColumn != null && tableColumn.getTableView() != null && 
                 tableColumn.getTableView().getItems() != null) {
-            tableColumn.getTableView().getItems().stream()
-                    .filter((s) -> tableColumn.getCellData(s) != null)
-                    .map(tableColumn::getCellData)
-                    .distinct()
-                    .forEach(filterValues::add);
+            if (isSuggestionMode()) {
+                if (isShowing()) {
+                    loadSuggestions(getEditor().getText());
+                }
+            } else {
+                tableColumn.getTableView().getItems().stream()
+                        .filter((s) -> tableColumn.getCellData(s) != null)
+                        .map(tableColumn::getCellData)
+                        .distinct()
+                        .forEach(filterValues::add);
+            }
             setValue(selection);
         } else {
             setValue(null);
         }
     }
+
+    private boolean isSuggestionMode() {
+        return getSuggestionLimit() > 0;
+    }
+
+    /**
+     * Replaces the popup list with the first page of values that begin with
+     * the given text.
+     */
+    private void loadSuggestions(String text) {
+        final TableView<S> tableView = tableColumn.getTableView();
+        if (tableView == null || tableView.getItems() == null) {
+            return;
+        }
+        if (! suggestionIndex.isValid()) {
+            Set<T> distinctValues = new HashSet<>();
+            for (S item : tableView.getItems()) {
+                T value = tableColumn.getCellData(item);
+                if (value != null) {
+                    distinctValues.add(value);
+                }
+            }
+            suggestionIndex.build(distinctValues, getConverter());
+        }
+        suggestionText = text == null ? "" : text;
+        suggestionPosition = suggestionIndex.from(suggestionText);
+        List<T> suggestions = suggestionIndex.get(suggestionText, suggestionPosition, getSuggestionLimit());
+        suggestionPosition += suggestions.size();
+        
+        T selection = getValue();
+        filterValues.setAll(suggestions);
+        setValue(selection);
+    }
+
+    /**
+     * Appends the next page of values to the popup list.
+     */
+    private void loadMoreSuggestions() {
+        if (! suggestionIndex.isValid()) {
+            return;
+        }
+        List<T> suggestions = suggestionIndex.get(suggestionText, suggestionPosition, getSuggestionLimit());
+        if (! suggestions.isEmpty()) {
+            suggestionPosition += suggestions.size();
+            filterValues.addAll(suggestions);
+        }
+    }
+
+    private void addSuggestionFlowListener() {
+        if (suggestionFlow != null || ! (getSkin() instanceof ComboBoxListViewSkin)) {
+            return;
+        }
+        Node popupContent = ((ComboBoxListViewSkin<?>) getSkin()).getPopupContent();
+        Node flow = popupContent == null ? null : popupContent.lookup(".virtual-flow");
+        if (flow instanceof VirtualFlow) {
+            suggestionFlow = (VirtualFlow<?>) flow;
+            suggestionFlow.positionProperty().addListener((obs, ov, nv) -> {
+                if (isSuggestionMode() && nv.doubleValue() >= 1) {
+                    loadMoreSuggestions();
+                }
+            });
+        }
+    }
     
     private void updatePredicate(String text) {
         if (text == null || text.isEmpty()) {
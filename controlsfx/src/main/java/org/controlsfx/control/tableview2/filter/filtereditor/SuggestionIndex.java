@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.filter.filtereditor;
+
+import javafx.util.StringConverter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The distinct values of a column, sorted by their case folded string value,
+ * so the values that begin with the text of a {@link FilterEditor} can be 
+ * found with a binary search, and served a page at a time.
+ *
+ * @param <T> Type of the values
+ */
+final class SuggestionIndex<T> {
+
+    private String[] keys = new String[0];
+    private Object[] values = new Object[0];
+    private boolean valid = false;
+
+    void invalidate() {
+        valid = false;
+    }
+
+    boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Rebuilds the index from the given distinct values.
+     */
+    void build(Collection<? extends T> distinctValues, StringConverter<T> converter) {
+        final int size = distinctValues.size();
+        final String[] unsortedKeys = new String[size];
+        final Object[] unsortedValues = new Object[size];
+        int i = 0;
+        for (T value : distinctValues) {
+            unsortedKeys[i] = normalize(converter == null ? String.valueOf(value) : converter.toString(value));
+            unsortedValues[i++] = value;
+        }
+        Integer[] order = new Integer[size];
+        for (int j = 0; j < size; j++) {
+            order[j] = j;
+        }
+        Arrays.sort(order, Comparator.comparing(j -> unsortedKeys[j]));
+        keys = new String[size];
+        values = new Object[size];
+        for (int j = 0; j < size; j++) {
+            keys[j] = unsortedKeys[order[j]];
+            values[j] = unsortedValues[order[j]];
+        }
+        valid = true;
+    }
+
+    /**
+     * Returns the first position of the values that begin with the given text.
+     */
+    int from(String text) {
+        final String prefix = normalize(text);
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns up to limit values that begin with the given text, from the
+     * given position on.
+     */
+    @SuppressWarnings("unchecked")
+    List<T> get(String text, int from, int limit) {
+        final String prefix = normalize(text);
+        List<T> result = new ArrayList<>(Math.min(limit, Math.max(0, keys.length - from)));
+        for (int i = from; i < keys.length && result.size() < limit && keys[i].startsWith(prefix); i++) {
+            result.add((T) values[i]);
+        }
+        return result;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toUpperCase();
+    }
+}
@@ -26,6 +26,7 @@
  */
 package org.controlsfx.control.tableview2.filter.popupfilter;
 
+import impl.org.controlsfx.tableview2.FilteredColumnPredicate;
 import impl.org.controlsfx.tableview2.filter.parser.string.StringParser;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
@@ -36,6 +37,7 @@ import org.controlsfx.control.tableview2.FilteredTableColumn;
 import org.controlsfx.control.tableview2.filter.parser.Parser;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * PopupFilter to be used on {@link org.controlsfx.control.tableview2.FilteredTableView}
@@ -77,10 +79,14 @@ public class PopupStringFilter<S, T> extends PopupFilter<S, T> {
     public PopupStringFilter(FilteredTableColumn<S, T> tableColumn) {
         super(tableColumn);
         stringParser = new StringParser<>(caseSensitive.get(), getConverter());
+        // the parser caches the string of each cell value, that may change in place
+        Consumer<T> invalidator = stringParser::invalidate;
+        tableColumn.getProperties().put(FilteredColumnPredicate.CELL_VALUE_INVALIDATOR, invalidator);
         
         text.addListener((obs, ov, nv) -> {
             if (nv == null || nv.isEmpty()) {
                 tableColumn.setPredicate(null);
+                stringParser.invalidateAll();
             } else {
                 tableColumn.setPredicate(getParser().parse(nv));
             }
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import java.util.Objects;
+
+/**
+ * A {@link FilterCriterion} that combines two criteria, as typed in a filter
+ * with the "and" and "or" operators.
+ */
+public final class FilterAggregation implements FilterCriterion {
+
+    /**
+     * The way both criteria are combined
+     */
+    public enum Type {
+        /** Both criteria have to match */
+        AND,
+        /** At least one of the criteria has to match */
+        OR
+    }
+
+    private final Type type;
+    private final FilterCriterion left;
+    private final FilterCriterion right;
+
+    /**
+     * Creates a new aggregation of two criteria.
+     * 
+     * @param type the way both criteria are combined
+     * @param left the left hand side criterion
+     * @param right the right hand side criterion
+     */
+    public FilterAggregation(Type type, FilterCriterion left, FilterCriterion right) {
+        this.type = Objects.requireNonNull(type);
+        this.left = Objects.requireNonNull(left);
+        this.right = Objects.requireNonNull(right);
+    }
+
+    /**
+     * @return the way both criteria are combined
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the left hand side criterion
+     */
+    public FilterCriterion getLeft() {
+        return left;
+    }
+
+    /**
+     * @return the right hand side criterion
+     */
+    public FilterCriterion getRight() {
+        return right;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean test(Object value) {
+        return type == Type.AND ? 
+                left.test(value) && right.test(value) : 
+                left.test(value) || right.test(value);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + " " + type + " " + right + ")";
+    }
+}
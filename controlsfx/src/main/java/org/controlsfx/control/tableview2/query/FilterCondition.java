@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import javafx.util.StringConverter;
+
+import java.util.Objects;
+
+/**
+ * A {@link FilterCriterion} that compares the cell value with a given value.
+ * 
+ * Conditions on numbers have a {@link Number} value, and compare the double
+ * value of the cell value, which never matches a null or non numeric cell
+ * value. Conditions on strings have a {@link String} value, and compare the 
+ * string value of the cell value, optionally case sensitive. The string value
+ * is given by the {@link #getConverter() converter} of the condition, if any,
+ * and then a null cell value or string never matches. Otherwise it is the 
+ * result of {@code toString()}, where null is "null". These are the rules of the
+ * string filters of the columns.
+ */
+public final class FilterCondition implements FilterCriterion {
+
+    private final FilterOperator operator;
+    private final Object value;
+    private final boolean caseSensitive;
+    private final StringConverter<?> converter;
+
+    /**
+     * Creates a new condition.
+     * 
+     * @param operator the operator of the condition
+     * @param value a String or a Number to compare the cell values with
+     * @param caseSensitive whether strings are compared case sensitive
+     */
+    public FilterCondition(FilterOperator operator, Object value, boolean caseSensitive) {
+        this(operator, value, caseSensitive, null);
+    }
+
+    /**
+     * Creates a new condition, that converts the cell values to strings with 
+     * the given converter.
+     * 
+     * @param operator the operator of the condition
+     * @param value a String or a Number to compare the cell values with
+     * @param caseSensitive whether strings are compared case sensitive
+     * @param converter the converter of the cell values to strings, or null
+     */
+    public FilterCondition(FilterOperator operator, Object value, boolean caseSensitive, StringConverter<?> converter) {
+        this.operator = Objects.requireNonNull(operator);
+        this.value = Objects.requireNonNull(value);
+        this.caseSensitive = caseSensitive;
+        this.converter = converter;
+    }
+
+    /**
+     * @return the operator of this condition
+     */
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return the String or Number the cell values are compared with
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * @return whether strings are compared case sensitive
+     */
+    public boolean isCaseSensitive() {
+        return caseSensitive;
+    }
+
+    /**
+     * @return the converter of the cell values to strings, or null if 
+     * {@code toString()} is used
+     */
+    public StringConverter<?> getConverter() {
+        return converter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean test(Object cellValue) {
+        if (value instanceof Number) {
+            if (! (cellValue instanceof Number)) {
+                return false;
+            }
+            final double a = ((Number) cellValue).doubleValue();
+            final double b = ((Number) value).doubleValue();
+            switch (operator) {
+                case EQUALS: return a == b;
+                case NOT_EQUALS: return a != b;
+                case GREATER_THAN: return a > b;
+                case GREATER_THAN_OR_EQUALS: return a >= b;
+                case LESS_THAN: return a < b;
+                case LESS_THAN_OR_EQUALS: return a <= b;
+                default: return false;
+            }
+        }
+        final String string = toString(cellValue);
+        if (string == null) {
+            return false;
+        }
+        final String text = normalize(value.toString());
+        switch (operator) {
+            case BEGINS_WITH: return string.startsWith(text);
+            case ENDS_WITH: return string.endsWith(text);
+            case CONTAINS: return string.contains(text);
+            case EQUALS: return string.equals(text);
+            case NOT_EQUALS: return ! string.equals(text);
+            default: return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String toString(Object cellValue) {
+        if (converter == null) {
+            return normalize(cellValue == null ? "null" : cellValue.toString());
+        }
+        final String string = cellValue == null ? null : ((StringConverter<Object>) converter).toString(cellValue);
+        return string == null ? null : normalize(string);
+    }
+
+    private String normalize(String string) {
+        return caseSensitive ? string : string.toUpperCase();
+    }
+
+    @Override
+    public String toString() {
+        return "FilterCondition[" + operator + " " + value + (caseSensitive ? ", case sensitive" : "") +
+                (converter != null ? ", " + converter + "]" : "]");
+    }
+}
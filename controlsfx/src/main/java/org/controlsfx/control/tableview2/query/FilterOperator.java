@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+/**
+ * The operators of a {@link FilterCondition}, one for each of the operations
+ * supported by the parsers of the filter editors and popup filters of a 
+ * {@link org.controlsfx.control.tableview2.FilteredTableView}.
+ */
+public enum FilterOperator {
+
+    /** The string value begins with the condition value */
+    BEGINS_WITH,
+
+    /** The string value ends with the condition value */
+    ENDS_WITH,
+
+    /** The string value contains the condition value */
+    CONTAINS,
+
+    /** The value is equal to the condition value */
+    EQUALS,
+
+    /** The value is not equal to the condition value */
+    NOT_EQUALS,
+
+    /** The numeric value is greater than the condition value */
+    GREATER_THAN,
+
+    /** The numeric value is greater than or equal to the condition value */
+    GREATER_THAN_OR_EQUALS,
+
+    /** The numeric value is less than the condition value */
+    LESS_THAN,
+
+    /** The numeric value is less than or equal to the condition value */
+    LESS_THAN_OR_EQUALS
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable description of the rows a {@link QueryDataSource} has to 
+ * return: the filters of the columns of a 
+ * {@link org.controlsfx.control.tableview2.FilteredTableView}, its sort order
+ * and the requested page.
+ * 
+ * Columns are identified by their {@link javafx.scene.control.TableColumn#getId() id},
+ * or by their text if they have no id.
+ */
+public final class FilterQuery {
+
+    private final List<Filter> filters;
+    private final List<Sort> sortOrder;
+    private final int offset;
+    private final int limit;
+
+    /**
+     * Creates a new query.
+     * 
+     * @param filters the filters of the columns, all of them have to match
+     * @param sortOrder the sort order, by decreasing priority
+     * @param offset the index of the first requested row
+     * @param limit the maximum number of requested rows
+     */
+    public FilterQuery(List<Filter> filters, List<Sort> sortOrder, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit can't be negative");
+        }
+        this.filters = Collections.unmodifiableList(Objects.requireNonNull(filters));
+        this.sortOrder = Collections.unmodifiableList(Objects.requireNonNull(sortOrder));
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * @return the filters of the columns, all of them have to match
+     */
+    public List<Filter> getFilters() {
+        return filters;
+    }
+
+    /**
+     * @return the sort order, by decreasing priority
+     */
+    public List<Sort> getSortOrder() {
+        return sortOrder;
+    }
+
+    /**
+     * @return the index of the first requested row
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return the maximum number of requested rows
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "FilterQuery[filters=" + filters + ", sortOrder=" + sortOrder + 
+                ", offset=" + offset + ", limit=" + limit + "]";
+    }
+
+    /**
+     * The filter of a column.
+     */
+    public static final class Filter {
+
+        private final String columnId;
+        private final FilterCriterion criterion;
+        private final Predicate<?> predicate;
+
+        /**
+         * Creates a new filter.
+         * 
+         * @param columnId the id of the column
+         * @param criterion the structured form of the predicate, or null if the
+         * predicate was not created by a filter parser
+         * @param predicate the predicate of the column
+         */
+        public Filter(String columnId, FilterCriterion criterion, Predicate<?> predicate) {
+            this.columnId = Objects.requireNonNull(columnId);
+            this.criterion = criterion;
+            this.predicate = Objects.requireNonNull(predicate);
+        }
+
+        /**
+         * @return the id of the column
+         */
+        public String getColumnId() {
+            return columnId;
+        }
+
+        /**
+         * Returns the structured form of the filter, or null if the predicate
+         * of the column was set directly. In that case, only a data source that
+         * can evaluate the {@link #getPredicate() predicate} against the cell
+         * values can apply it.
+         * 
+         * @return the criterion of the filter, or null
+         */
+        public FilterCriterion getCriterion() {
+            return criterion;
+        }
+
+        /**
+         * @return the predicate of the column, that tests the cell values
+         */
+        public Predicate<?> getPredicate() {
+            return predicate;
+        }
+
+        @Override
+        public String toString() {
+            return columnId + ": " + (criterion != null ? criterion : predicate);
+        }
+    }
+
+    /**
+     * The sort of a column.
+     */
+    public static final class Sort {
+
+        private final String columnId;
+        private final boolean ascending;
+
+        /**
+         * Creates a new sort.
+         * 
+         * @param columnId the id of the column
+         * @param ascending true for an ascending sort, false for a descending one
+         */
+        public Sort(String columnId, boolean ascending) {
+            this.columnId = Objects.requireNonNull(columnId);
+            this.ascending = ascending;
+        }
+
+        /**
+         * @return the id of the column
+         */
+        public String getColumnId() {
+            return columnId;
+        }
+
+        /**
+         * @return true for an ascending sort, false for a descending one
+         */
+        public boolean isAscending() {
+            return ascending;
+        }
+
+        @Override
+        public String toString() {
+            return columnId + (ascending ? " ASC" : " DESC");
+        }
+    }
+}
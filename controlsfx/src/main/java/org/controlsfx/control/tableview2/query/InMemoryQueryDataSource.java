@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import javafx.scene.control.TableColumnBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reference {@link QueryDataSource} that executes the queries over a list 
+ * of rows in memory. It can be used to test a {@link QueryBinding}, or as an
+ * example of how a data source interprets a {@link FilterQuery}.
+ * 
+ * <p>Each column of the queries has to be registered with a function that
+ * returns its value for a given row, like the cell value factory of the 
+ * column. Filters are evaluated with their {@link FilterCriterion criterion}, 
+ * or with their predicate otherwise. Columns are sorted with 
+ * {@link TableColumnBase#DEFAULT_COMPARATOR}.
+ * 
+ * <h3>Code Example</h3>
+ * 
+ * <pre>
+ * {@code
+ * InMemoryQueryDataSource<Person> dataSource = new InMemoryQueryDataSource<>(persons);
+ * dataSource.addColumn("firstName", Person::getFirstName);
+ * dataSource.addColumn("age", Person::getAge);
+ * }</pre>
+ * 
+ * @param <S> The type of the rows
+ */
+public class InMemoryQueryDataSource<S> implements QueryDataSource<S> {
+
+    private final List<S> rows;
+    private final Map<String, Function<? super S, ?>> columns = new HashMap<>();
+
+    /**
+     * Creates a new data source. The rows shouldn't be modified while a query
+     * is being executed.
+     * 
+     * @param rows the rows of the data source
+     */
+    public InMemoryQueryDataSource(List<S> rows) {
+        this.rows = Objects.requireNonNull(rows);
+    }
+
+    /**
+     * Registers a column of the queries.
+     * 
+     * @param columnId the id of the column
+     * @param valueFactory returns the value of the column for a given row
+     */
+    public void addColumn(String columnId, Function<? super S, ?> valueFactory) {
+        columns.put(Objects.requireNonNull(columnId), Objects.requireNonNull(valueFactory));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public QueryResult<S> fetch(FilterQuery query) {
+        List<S> result = new ArrayList<>();
+        for (S row : rows) {
+            if (matches(row, query.getFilters())) {
+                result.add(row);
+            }
+        }
+
+        Comparator<S> comparator = null;
+        for (FilterQuery.Sort sort : query.getSortOrder()) {
+            final Function<? super S, ?> column = getColumn(sort.getColumnId());
+            @SuppressWarnings("unchecked")
+            final Comparator<Object> valueComparator = sort.isAscending() ?
+                    (Comparator<Object>) TableColumnBase.DEFAULT_COMPARATOR :
+                    ((Comparator<Object>) TableColumnBase.DEFAULT_COMPARATOR).reversed();
+            Comparator<S> columnComparator = (row1, row2) -> 
+                    valueComparator.compare(column.apply(row1), column.apply(row2));
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+        if (comparator != null) {
+            result.sort(comparator);
+        }
+
+        final int from = Math.min(query.getOffset(), result.size());
+        final int to = (int) Math.min((long) from + query.getLimit(), result.size());
+        return new QueryResult<>(from == to ? Collections.emptyList() : new ArrayList<>(result.subList(from, to)), 
+                result.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean matches(S row, List<FilterQuery.Filter> filters) {
+        for (FilterQuery.Filter filter : filters) {
+            final Object value = getColumn(filter.getColumnId()).apply(row);
+            final boolean match = filter.getCriterion() != null ?
+                    filter.getCriterion().test(value) :
+                    ((Predicate<Object>) filter.getPredicate()).test(value);
+            if (! match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Function<? super S, ?> getColumn(String columnId) {
+        Function<? super S, ?> column = columns.get(columnId);
+        if (column == null) {
+            throw new IllegalArgumentException("Unknown column: " + columnId);
+        }
+        return column;
+    }
+}
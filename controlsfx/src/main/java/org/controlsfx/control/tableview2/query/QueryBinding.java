@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import impl.org.controlsfx.tableview2.filter.parser.CriterionPredicate;
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import org.controlsfx.control.tableview2.FilteredTableColumn;
+import org.controlsfx.control.tableview2.FilteredTableView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * Binds a {@link FilteredTableView} to a {@link QueryDataSource}, so the 
+ * filters and the sort order of the table are executed by the data source, 
+ * and the table only holds the current page of rows.
+ * 
+ * <p>The binding sets the items, the filter policy and the sort policy of the
+ * table. Whenever a column filter or the sort order changes, as well as the 
+ * page or the page size, a {@link FilterQuery} is created and fetched from 
+ * the data source with the given executor. The rows of the result replace the
+ * items of the table on the JavaFX Application Thread, unless a newer query
+ * has been started meanwhile. A filter change goes back to the first page.
+ * 
+ * <p>The page can be bound bidirectionally to the current page index of a 
+ * {@link javafx.scene.control.Pagination}, so that going back to the first 
+ * page also updates the pagination. If the page property is bound 
+ * unidirectionally instead, a filter change keeps the bound page.
+ * 
+ * <h3>Code Example</h3>
+ * 
+ * <pre>
+ * {@code
+ * FilteredTableView<Person> table = new FilteredTableView<>();
+ * // columns with ids "firstName" and "age"...
+ * QueryBinding<Person> binding = new QueryBinding<>(table, query -> {
+ *     // translate the query into a database query
+ *     return new QueryResult<>(rows, totalCount);
+ * });
+ * binding.setPageSize(500);
+ * pagination.pageCountProperty().bind(binding.pageCountProperty());
+ * binding.pageProperty().bindBidirectional(pagination.currentPageIndexProperty());
+ * }</pre>
+ * 
+ * @param <S> The type of the rows
+ * @see InMemoryQueryDataSource
+ */
+public class QueryBinding<S> {
+
+    private static final Executor DEFAULT_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "QueryBinding");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final FilteredTableView<S> tableView;
+    private final QueryDataSource<S> dataSource;
+    private final Executor executor;
+    private final ObservableList<S> rows = FXCollections.observableArrayList();
+    private long lastRequest;
+
+    /**
+     * Creates a new binding that fetches the rows in a shared background thread.
+     * 
+     * @param tableView the table to bind
+     * @param dataSource the data source that executes the queries
+     */
+    public QueryBinding(FilteredTableView<S> tableView, QueryDataSource<S> dataSource) {
+        this(tableView, dataSource, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates a new binding that fetches the rows with the given executor.
+     * 
+     * @param tableView the table to bind
+     * @param dataSource the data source that executes the queries
+     * @param executor the executor that calls the data source
+     */
+    public QueryBinding(FilteredTableView<S> tableView, QueryDataSource<S> dataSource, Executor executor) {
+        this.tableView = Objects.requireNonNull(tableView);
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.executor = Objects.requireNonNull(executor);
+
+        page.addListener(o -> refresh());
+        pageSize.addListener(o -> refresh());
+
+        tableView.setBackingList(rows);
+        tableView.setItems(rows);
+        tableView.setSortPolicy(table -> {
+            refresh();
+            return true;
+        });
+        // setting the filter policy runs the first query
+        tableView.setFilterPolicy(table -> {
+            if (getPage() != 0 && ! page.isBound()) {
+                setPage(0);
+            } else {
+                refresh();
+            }
+            return true;
+        });
+    }
+
+    /**************************************************************************
+     * 
+     * Properties
+     * 
+     **************************************************************************/
+    
+    // --- page
+    private final IntegerProperty page = new SimpleIntegerProperty(this, "page", 0); //$NON-NLS-1$
+    
+    /**
+     * The index of the page of rows shown in the table, starting at 0.
+     * 
+     * @return the page property
+     */
+    public final IntegerProperty pageProperty() {
+        return page;
+    }
+    public final int getPage() {
+        return page.get();
+    }
+    public final void setPage(int value) {
+        page.set(value);
+    }
+
+    // --- page size
+    private final IntegerProperty pageSize = new SimpleIntegerProperty(this, "pageSize", 100); //$NON-NLS-1$
+    
+    /**
+     * The maximum number of rows shown in the table. By default, 100.
+     * 
+     * @return the page size property
+     */
+    public final IntegerProperty pageSizeProperty() {
+        return pageSize;
+    }
+    public final int getPageSize() {
+        return pageSize.get();
+    }
+    public final void setPageSize(int value) {
+        pageSize.set(value);
+    }
+
+    // --- total count
+    private final ReadOnlyIntegerWrapper totalCount = new ReadOnlyIntegerWrapper(this, "totalCount", 0); //$NON-NLS-1$
+    
+    /**
+     * The number of rows that match the filters, in all the pages, as returned
+     * by the last query.
+     * 
+     * @return the total count property
+     */
+    public final ReadOnlyIntegerProperty totalCountProperty() {
+        return totalCount.getReadOnlyProperty();
+    }
+    public final int getTotalCount() {
+        return totalCount.get();
+    }
+
+    // --- page count
+    private final ReadOnlyIntegerWrapper pageCount = new ReadOnlyIntegerWrapper(this, "pageCount", 0); //$NON-NLS-1$
+    
+    /**
+     * The number of pages of rows that match the filters, as returned by the 
+     * last query.
+     * 
+     * @return the page count property
+     */
+    public final ReadOnlyIntegerProperty pageCountProperty() {
+        return pageCount.getReadOnlyProperty();
+    }
+    public final int getPageCount() {
+        return pageCount.get();
+    }
+
+    // --- loading
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(this, "loading", false); //$NON-NLS-1$
+    
+    /**
+     * Indicates whether a query is being fetched from the data source.
+     * 
+     * @return the loading property
+     */
+    public final ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+    public final boolean isLoading() {
+        return loading.get();
+    }
+
+    // --- query
+    private final ReadOnlyObjectWrapper<FilterQuery> query = new ReadOnlyObjectWrapper<>(this, "query"); //$NON-NLS-1$
+    
+    /**
+     * The query of the rows currently shown in the table.
+     * 
+     * @return the query property
+     */
+    public final ReadOnlyObjectProperty<FilterQuery> queryProperty() {
+        return query.getReadOnlyProperty();
+    }
+    public final FilterQuery getQuery() {
+        return query.get();
+    }
+
+    // --- exception
+    private final ReadOnlyObjectWrapper<Throwable> exception = new ReadOnlyObjectWrapper<>(this, "exception"); //$NON-NLS-1$
+    
+    /**
+     * The exception thrown by the data source on the last query, or null if 
+     * it succeeded.
+     * 
+     * @return the exception property
+     */
+    public final ReadOnlyObjectProperty<Throwable> exceptionProperty() {
+        return exception.getReadOnlyProperty();
+    }
+    public final Throwable getException() {
+        return exception.get();
+    }
+
+    /**************************************************************************
+     * 
+     * Public API
+     * 
+     **************************************************************************/
+    
+    /**
+     * @return the table bound to the data source
+     */
+    public final FilteredTableView<S> getTableView() {
+        return tableView;
+    }
+
+    /**
+     * Creates a query from the current state of the table, and fetches it from
+     * the data source. This has to be called from the JavaFX Application 
+     * Thread, and it is only required when the data of the data source has 
+     * changed.
+     */
+    public void refresh() {
+        final FilterQuery filterQuery = createQuery();
+        final long request = ++lastRequest;
+        loading.set(true);
+        executor.execute(() -> {
+            try {
+                final QueryResult<S> result = dataSource.fetch(filterQuery);
+                runOnFxThread(() -> {
+                    if (request == lastRequest) {
+                        rows.setAll(result.getRows());
+                        totalCount.set(result.getTotalCount());
+                        final int size = Math.max(1, getPageSize());
+                        pageCount.set((int) ((result.getTotalCount() + (long) size - 1) / size));
+                        query.set(filterQuery);
+                        exception.set(null);
+                        loading.set(false);
+                    }
+                });
+            } catch (Exception e) {
+                runOnFxThread(() -> {
+                    if (request == lastRequest) {
+                        exception.set(e);
+                        loading.set(false);
+                    }
+                });
+            } finally {
+                // an Error thrown by the data source doesn't leave the binding loading
+                runOnFxThread(() -> {
+                    if (request == lastRequest) {
+                        loading.set(false);
+                    }
+                });
+            }
+        });
+    }
+
+    /**************************************************************************
+     * 
+     * Private implementation
+     * 
+     **************************************************************************/
+    
+    private FilterQuery createQuery() {
+        List<FilterQuery.Filter> filters = new ArrayList<>();
+        for (TableColumn<S, ?> column : tableView.getVisibleLeafColumns()) {
+            if (column instanceof FilteredTableColumn) {
+                final FilteredTableColumn<S, ?> filteredColumn = (FilteredTableColumn<S, ?>) column;
+                final Predicate<?> predicate = filteredColumn.getPredicate();
+                if (filteredColumn.isFilterable() && predicate != null) {
+                    filters.add(new FilterQuery.Filter(getColumnId(column), 
+                            CriterionPredicate.getCriterion(predicate), predicate));
+                }
+            }
+        }
+
+        List<FilterQuery.Sort> sortOrder = new ArrayList<>();
+        for (TableColumn<S, ?> column : tableView.getSortOrder()) {
+            // same columns as the table comparator
+            if (column.getSortType() != null && column.isSortable()) {
+                sortOrder.add(new FilterQuery.Sort(getColumnId(column), 
+                        column.getSortType() == TableColumn.SortType.ASCENDING));
+            }
+        }
+
+        final int size = Math.max(0, getPageSize());
+        final long offset = Math.max(0, getPage()) * (long) size;
+        return new FilterQuery(filters, sortOrder, (int) Math.min(offset, Integer.MAX_VALUE), size);
+    }
+
+    private static String getColumnId(TableColumn<?, ?> column) {
+        return column.getId() != null ? column.getId() : String.valueOf(column.getText());
+    }
+
+    private static void runOnFxThread(Runnable runnable) {
+        if (Platform.isFxApplicationThread()) {
+            runnable.run();
+        } else {
+            Platform.runLater(runnable);
+        }
+    }
+}
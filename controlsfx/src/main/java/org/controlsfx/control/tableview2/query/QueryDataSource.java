@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+/**
+ * A source of rows that executes the filters and the sort order of a 
+ * {@link org.controlsfx.control.tableview2.FilteredTableView} itself, for 
+ * instance by translating them into a database query, instead of having all
+ * the rows filtered and sorted in memory.
+ * 
+ * @param <S> The type of the rows
+ * @see QueryBinding
+ * @see InMemoryQueryDataSource
+ */
+@FunctionalInterface
+public interface QueryDataSource<S> {
+
+    /**
+     * Returns the page of rows requested by the query. This is called from a
+     * background thread, unless the {@link QueryBinding} was created with an 
+     * executor that runs on the JavaFX Application Thread.
+     * 
+     * @param query the filters, sort order and page to fetch
+     * @return the requested page and the total number of matching rows
+     * @throws Exception if the rows can't be fetched
+     */
+    QueryResult<S> fetch(FilterQuery query) throws Exception;
+}
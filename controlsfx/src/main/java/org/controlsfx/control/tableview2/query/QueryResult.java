@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A page of rows returned by a {@link QueryDataSource}, with the total number
+ * of rows that match the filters of the query.
+ * 
+ * @param <S> The type of the rows
+ */
+public final class QueryResult<S> {
+
+    private final List<S> rows;
+    private final int totalCount;
+
+    /**
+     * Creates a new result.
+     * 
+     * @param rows the rows of the requested page
+     * @param totalCount the number of rows that match the filters of the query,
+     * in all the pages
+     */
+    public QueryResult(List<S> rows, int totalCount) {
+        this.rows = Collections.unmodifiableList(Objects.requireNonNull(rows));
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * @return the rows of the requested page
+     */
+    public List<S> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return the number of rows that match the filters, in all the pages
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.textfield;
+
+import impl.org.controlsfx.autocompletion.CachingSuggestionProvider;
+import impl.org.controlsfx.autocompletion.CompletionStagePublisher;
+import javafx.util.Duration;
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * A suggestion provider that doesn't block while the suggestions are looked up,
+ * and that can deliver them in several batches: each batch published is added 
+ * to the suggestions of the {@link AutoCompletionBinding} as soon as it arrives,
+ * instead of waiting for all of them.
+ *
+ * When the user input changes, the subscription to the previous publisher is 
+ * cancelled, and {@link ISuggestionRequest#isCancelled()} returns true.
+ *
+ * <h3>Code Example</h3>
+ * <pre>
+ * AutoCompletionBinding&lt;String&gt; binding = TextFields.bindAutoCompletion(textField, possibleSuggestions);
+ * binding.setAsyncSuggestionProvider(AsyncSuggestionProvider
+ *         .of((ISuggestionRequest request) -&gt; service.findNames(request.getUserText()))
+ *         .cached(100, Duration.minutes(1)));
+ * </pre>
+ *
+ * @param <T> Type of suggestions
+ * @see AutoCompletionBinding#setAsyncSuggestionProvider(AsyncSuggestionProvider)
+ */
+@FunctionalInterface
+public interface AsyncSuggestionProvider<T> {
+
+    /**
+     * Returns a publisher of the batches of suggestions for the given request.
+     * It is called on the {@link AutoCompletionBinding#executorProperty() executor}
+     * of the binding.
+     *
+     * @param request The suggestion request
+     * @return a publisher of the suggestions
+     */
+    Flow.Publisher<Collection<T>> fetch(ISuggestionRequest request);
+
+    /**
+     * Returns a provider that caches the suggestions of this provider, once all of 
+     * them have been published, for the given time. The cache is keyed by the user
+     * text, trimmed and lower cased, and keeps at most the given number of entries,
+     * discarding the least recently used ones.
+     *
+     * @param maxSize The maximum number of cached results
+     * @param timeToLive How long the results are cached
+     * @return a caching provider
+     */
+    default AsyncSuggestionProvider<T> cached(int maxSize, Duration timeToLive) {
+        return new CachingSuggestionProvider<>(this, maxSize, timeToLive);
+    }
+
+    /**
+     * Creates a provider that publishes all the suggestions at once, when the
+     * {@link CompletionStage} returned by the given function completes.
+     *
+     * @param provider Function that looks up the suggestions asynchronously
+     * @param <T> Type of suggestions
+     * @return a provider
+     */
+    static <T> AsyncSuggestionProvider<T> of(Function<ISuggestionRequest, ? extends CompletionStage<? extends Collection<T>>> provider) {
+        return request -> new CompletionStagePublisher<>(provider.apply(request));
+    }
+}
@@ -32,6 +32,7 @@ import impl.org.controlsfx.skin.AutoCompletePopupSkin;
 import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.concurrent.Task;
 import javafx.event.*;
 import javafx.scene.Node;
@@ -42,6 +43,15 @@ import javafx.util.StringConverter;
 
 import java.util.Collection;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 
@@ -59,6 +69,25 @@ import javafx.beans.property.IntegerProperty;
  */
 public abstract class AutoCompletionBinding<T> implements EventTarget {
 
+    /**
+     * Schedules the debounced fetches of all bindings: it only waits for the
+     * delay to elapse, the fetches themselves run on the {@link #executorProperty() executor}.
+     */
+    private static final ScheduledExecutorService DEBOUNCER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "AutoCompletionBinding-Debouncer"); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Default executor shared by all bindings, bounded to the number of processors.
+     */
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+        Thread thread = new Thread(r, "AutoCompletionBinding-Fetcher"); //$NON-NLS-1$
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /***************************************************************************
      *                                                                         *
@@ -70,7 +99,10 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
     private final Object suggestionsTaskLock = new Object();
 
     private FetchSuggestionsTask suggestionsTask = null;
+    private StreamingSuggestionsRequest streamingRequest = null;
+    private ScheduledFuture<?> scheduledFetch = null;
     private Callback<ISuggestionRequest, Collection<T>> suggestionProvider = null;
+    private volatile AsyncSuggestionProvider<T> asyncSuggestionProvider = null;
     private boolean ignoreInputChanges = false;
     private long delay = 250;
 
@@ -110,6 +142,22 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
         });
     }
 
+    /**
+     * Creates a new AutoCompletionBinding that fetches the suggestions from an
+     * asynchronous suggestion provider
+     * 
+     * @param completionTarget The target node to which auto-completion shall be added
+     * @param asyncSuggestionProvider The asynchronous strategy to retrieve suggestions 
+     * @param converter The converter to be used to convert suggestions to strings 
+     * @see #setAsyncSuggestionProvider(AsyncSuggestionProvider)
+     */
+    protected AutoCompletionBinding(Node completionTarget, 
+            AsyncSuggestionProvider<T> asyncSuggestionProvider,
+            StringConverter<T> converter){
+        this(completionTarget, (Callback<ISuggestionRequest, Collection<T>>) null, converter);
+        this.asyncSuggestionProvider = asyncSuggestionProvider;
+    }
+
     /***************************************************************************
      *                                                                         *
      * Public API                                                              *
@@ -138,6 +186,8 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
 
     /**
      * Sets the delay in ms between a key press and the suggestion popup being displayed.
+     * Key presses within this delay are coalesced: the suggestion provider is only
+     * called once the user input hasn't changed for the given delay.
      *
      * @param delay
      */
@@ -145,6 +195,59 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
         this.delay = delay;
     }
 
+    /**
+     * The executor on which the suggestion provider is called. By default, an
+     * executor with a bounded number of daemon threads shared by all the
+     * bindings is used. If set to null, the default executor is used.
+     */
+    private final ObjectProperty<Executor> executor = new SimpleObjectProperty<>(this, "executor", DEFAULT_EXECUTOR); //$NON-NLS-1$
+
+    /**
+     * Sets the executor on which the suggestion provider is called.
+     *
+     * @param value
+     */
+    public final void setExecutor(Executor value) {
+        executor.set(value);
+    }
+
+    /**
+     * Returns the executor on which the suggestion provider is called.
+     *
+     * @return the executor on which the suggestion provider is called.
+     */
+    public final Executor getExecutor() {
+        return executor.get();
+    }
+
+    /**
+     * Return the property associated with the executor.
+     * @return the property associated with the executor.
+     */
+    public final ObjectProperty<Executor> executorProperty() {
+        return executor;
+    }
+
+    /**
+     * Sets an asynchronous suggestion provider, which is used instead of the
+     * suggestion provider given to the binding as long as it is not null. The
+     * suggestions it publishes are shown as soon as they arrive.
+     *
+     * @param value the asynchronous suggestion provider, or null
+     */
+    public final void setAsyncSuggestionProvider(AsyncSuggestionProvider<T> value) {
+        this.asyncSuggestionProvider = value;
+    }
+
+    /**
+     * Returns the asynchronous suggestion provider, if any.
+     *
+     * @return the asynchronous suggestion provider, or null
+     */
+    public final AsyncSuggestionProvider<T> getAsyncSuggestionProvider() {
+        return asyncSuggestionProvider;
+    }
+
     /**
      * Gets the target node for auto completion
      * @return the target node for auto completion
@@ -343,16 +446,54 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
      */
     private final void onUserInputChanged(final String userText){
         synchronized (suggestionsTaskLock) {
-            if(suggestionsTask != null && suggestionsTask.isRunning()){
-                // cancel the current running task
-                suggestionsTask.cancel(); 
+            if(scheduledFetch != null){
+                // drop the pending fetch, if it hasn't started yet
+                scheduledFetch.cancel(false);
+                scheduledFetch = null;
+            }
+            if(suggestionsTask != null){
+                // cancel the current task, so the provider can stop early
+                suggestionsTask.outdate();
+                suggestionsTask = null;
+            }
+            if(streamingRequest != null){
+                streamingRequest.cancel();
+                streamingRequest = null;
             }
             // create a new fetcher task
-            suggestionsTask = new FetchSuggestionsTask(userText, delay);
-            new Thread(suggestionsTask).start();
+            final Runnable fetch;
+            final ISuggestionRequest request;
+            AsyncSuggestionProvider<T> asyncProvider = asyncSuggestionProvider;
+            if(asyncProvider != null){
+                streamingRequest = new StreamingSuggestionsRequest(userText, asyncProvider);
+                fetch = streamingRequest;
+                request = streamingRequest;
+            }else{
+                suggestionsTask = new FetchSuggestionsTask(userText);
+                fetch = suggestionsTask;
+                request = suggestionsTask;
+            }
+            if(delay > 0){
+                scheduledFetch = DEBOUNCER.schedule(() -> submit(fetch, request), delay, TimeUnit.MILLISECONDS);
+            }else{
+                submit(fetch, request);
+            }
         }
     }
 
+    /**
+     * Runs the given fetch on the executor, unless its request has been cancelled meanwhile
+     * @param fetch
+     * @param request
+     */
+    private void submit(Runnable fetch, ISuggestionRequest request){
+        if(request.isCancelled()){
+            return;
+        }
+        Executor taskExecutor = getExecutor();
+        (taskExecutor != null ? taskExecutor : DEFAULT_EXECUTOR).execute(fetch);
+    }
+
     /**
      * Shall changes to the user input be ignored?
      * @return
@@ -400,30 +541,43 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
 
     /**
      * This task is responsible to fetch suggestions asynchronous
-     * by using the current defined suggestionProvider
+     * by using the current defined suggestionProvider. It is cancelled
+     * as soon as the user input changes again.
      *
      */
     private class FetchSuggestionsTask extends Task<Void> implements ISuggestionRequest {
         private final String userText;
-        private final long delay;
+        private volatile boolean outdated;
 
-        public FetchSuggestionsTask(String userText, long delay){
+        public FetchSuggestionsTask(String userText){
             this.userText = userText;
-            this.delay = delay;
+        }
+
+        /**
+         * Cancels this task, after a newer user input. A task that has returned
+         * can't be cancelled anymore, but its suggestions are outdated all the same.
+         */
+        void outdate() {
+            outdated = true;
+            cancel();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return outdated || super.isCancelled();
         }
 
         @Override
         protected Void call() throws Exception {
             Callback<ISuggestionRequest, Collection<T>> provider = suggestionProvider;
             if(provider != null){
-                long startTime = System.currentTimeMillis();
-                long sleepTime = startTime + delay - System.currentTimeMillis();
-                if (sleepTime > 0 && !isCancelled()) {
-                    Thread.sleep(sleepTime);
-                }
                 if(!isCancelled()){
                     final Collection<T> fetchedSuggestions = provider.call(this);
                     Platform.runLater(() -> {
+                        if(isCancelled()){
+                            // outdated by a newer user input
+                            return;
+                        }
                         // check whether completionTarget is still valid
                         boolean validNode = completionTarget.getScene() != null
                                             && completionTarget.getScene().getWindow() != null;
@@ -438,7 +592,7 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
                 }
             }else {
                 // No suggestion provider
-                hidePopup();
+                Platform.runLater(AutoCompletionBinding.this::hidePopup);
             }
             return null;
         }
@@ -449,6 +603,107 @@ public abstract class AutoCompletionBinding<T> implements EventTarget {
         }
     }
 
+    /**
+     * This request subscribes to the publisher of the asynchronous suggestion
+     * provider, and adds each batch of suggestions to the popup as soon as
+     * it arrives. Cancelling it cancels the subscription.
+     *
+     */
+    private class StreamingSuggestionsRequest implements ISuggestionRequest, Runnable, Flow.Subscriber<Collection<T>> {
+        private final String userText;
+        private final AsyncSuggestionProvider<T> provider;
+        private volatile boolean cancelled;
+        private volatile Flow.Subscription subscription;
+        // accessed on the JavaFX Application Thread only
+        private boolean firstBatch = true;
+
+        public StreamingSuggestionsRequest(String userText, AsyncSuggestionProvider<T> provider){
+            this.userText = userText;
+            this.provider = provider;
+        }
+
+        @Override
+        public void run() {
+            if(cancelled){
+                return;
+            }
+            Flow.Publisher<Collection<T>> publisher = provider.fetch(this);
+            if(publisher != null){
+                publisher.subscribe(this);
+            }else{
+                onComplete();
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription s = subscription;
+            if(s != null){
+                s.cancel();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if(cancelled){
+                subscription.cancel();
+            }else{
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(Collection<T> batch) {
+            Platform.runLater(() -> {
+                if(cancelled){
+                    return;
+                }
+                if(firstBatch){
+                    autoCompletionPopup.getSuggestions().setAll(batch);
+                    firstBatch = false;
+                }else{
+                    autoCompletionPopup.getSuggestions().addAll(batch);
+                }
+                // check whether completionTarget is still valid
+                boolean validNode = completionTarget.getScene() != null
+                                    && completionTarget.getScene().getWindow() != null;
+                if(!autoCompletionPopup.getSuggestions().isEmpty() && validNode && !autoCompletionPopup.isShowing()){
+                    showPopup();
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if(!cancelled){
+                Logger.getLogger(AutoCompletionBinding.class.getName()).log(Level.WARNING, 
+                        "Failed to fetch the suggestions for \"" + userText + "\"", throwable); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            onComplete();
+        }
+
+        @Override
+        public void onComplete() {
+            Platform.runLater(() -> {
+                if(!cancelled && (firstBatch || autoCompletionPopup.getSuggestions().isEmpty())){
+                    // No suggestions found, so hide the popup
+                    hidePopup();
+                }
+            });
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public String getUserText() {
+            return userText;
+        }
+    }
+
     /***************************************************************************
      *                                                                         *
      * Events                                                                  *
@@ -27,6 +27,7 @@
 package org.controlsfx.control.textfield;
 
 import impl.org.controlsfx.autocompletion.AutoCompletionTextFieldBinding;
+import impl.org.controlsfx.autocompletion.FuzzySuggestionProvider;
 import impl.org.controlsfx.autocompletion.SuggestionProvider;
 import javafx.animation.FadeTransition;
 import javafx.beans.InvalidationListener;
@@ -187,5 +188,36 @@ public class TextFields {
 		return new AutoCompletionTextFieldBinding<>(textField,
 				SuggestionProvider.create(possibleSuggestions));
 	}
+
+    /**
+     * Create a new auto-completion binding between the given textField and the 
+     * given asynchronous suggestion provider, which shows the suggestions as 
+     * soon as they are published.
+     * 
+     * @param textField The {@link TextField} to which auto-completion shall be added
+     * @param suggestionProvider An asynchronous suggestion-provider strategy to use
+     * @return The AutoCompletionBinding
+     */
+	public static <T> AutoCompletionBinding<T> bindAsyncAutoCompletion(TextField textField,
+			AsyncSuggestionProvider<T> suggestionProvider) {
+		return new AutoCompletionTextFieldBinding<>(textField, suggestionProvider);
+	}
+
+    /**
+     * Create a new auto-completion binding between the given {@link TextField} 
+     * using the given auto-complete suggestions, that tolerates typos: the 
+     * suggestions containing the user text with at most one wrong, missing or
+     * extra character are suggested too, ranked after the exact matches.
+     * 
+     * @param textField The {@link TextField} to which auto-completion shall be added
+     * @param possibleSuggestions Possible auto-complete suggestions
+     * @return The AutoCompletionBinding
+     */
+	public static <T> AutoCompletionBinding<T> bindFuzzyAutoCompletion(
+			TextField textField, Collection<T> possibleSuggestions) {
+		FuzzySuggestionProvider<T> suggestionProvider = new FuzzySuggestionProvider<>();
+		suggestionProvider.addPossibleSuggestions(possibleSuggestions);
+		return new AutoCompletionTextFieldBinding<>(textField, suggestionProvider);
+	}
 }
 
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import javafx.util.Duration;
+import org.controlsfx.control.textfield.AsyncSuggestionProvider;
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CachingSuggestionProviderTest {
+
+    private AtomicInteger calls;
+    private AsyncSuggestionProvider<String> slowProvider;
+
+    @Before
+    public void setup() {
+        calls = new AtomicInteger();
+        // stand-in for a remote service, with some latency
+        slowProvider = AsyncSuggestionProvider.of((ISuggestionRequest request) -> {
+            calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> Arrays.asList(request.getUserText() + "1", request.getUserText() + "2"),
+                    CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+        });
+    }
+
+    @Test
+    public void cachesByNormalizedText() throws InterruptedException {
+        AsyncSuggestionProvider<String> provider = slowProvider.cached(10, Duration.minutes(1));
+        assertEquals(Arrays.asList("ab1", "ab2"), fetch(provider, "ab"));
+        assertEquals(Arrays.asList("ab1", "ab2"), fetch(provider, " AB "));
+        assertEquals(1, calls.get());
+
+        assertEquals(Arrays.asList("abc1", "abc2"), fetch(provider, "abc"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedAndExpiredResults() throws InterruptedException {
+        AsyncSuggestionProvider<String> provider = slowProvider.cached(2, Duration.minutes(1));
+        fetch(provider, "a");
+        fetch(provider, "b");
+        fetch(provider, "a");
+        fetch(provider, "c");
+        assertEquals(3, calls.get());
+        fetch(provider, "a");
+        assertEquals(3, calls.get());
+        fetch(provider, "b");
+        assertEquals(4, calls.get());
+
+        provider = slowProvider.cached(2, Duration.millis(1));
+        fetch(provider, "a");
+        Thread.sleep(5);
+        fetch(provider, "a");
+        assertEquals(6, calls.get());
+    }
+
+    private static List<String> fetch(AsyncSuggestionProvider<String> provider, String text) throws InterruptedException {
+        List<String> suggestions = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        provider.fetch(request(text)).subscribe(new Flow.Subscriber<Collection<String>>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Collection<String> batch) {
+                suggestions.addAll(batch);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                latch.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        return suggestions;
+    }
+
+    private static ISuggestionRequest request(String text) {
+        return new ISuggestionRequest() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public String getUserText() {
+                return text;
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CompletionStagePublisherTest {
+
+    @Test
+    public void deliversResultOnceRequested() {
+        CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new CompletionStagePublisher<>(future).subscribe(subscriber);
+
+        future.complete(Arrays.asList("a", "b"));
+        assertTrue(subscriber.events.isEmpty());
+
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList("next [a, b]", "complete"), subscriber.events);
+    }
+
+    @Test
+    public void cancelCancelsTheStage() {
+        CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new CompletionStagePublisher<>(future).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        assertTrue(future.isCancelled());
+        assertTrue(subscriber.events.isEmpty());
+    }
+
+    @Test
+    public void cancelIgnoresStagesThatCantBeCancelled() {
+        CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new CompletionStagePublisher<>(future.minimalCompletionStage()).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        future.complete(Arrays.asList("a"));
+        assertTrue(subscriber.events.isEmpty());
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<Collection<String>> {
+        private final List<String> events = new ArrayList<>();
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Collection<String> item) {
+            events.add("next " + item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            events.add("error " + throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            events.add("complete");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FuzzySuggestionProviderTest {
+
+    private FuzzySuggestionProvider<String> provider;
+
+    @Before
+    public void setup() {
+        provider = new FuzzySuggestionProvider<>();
+        provider.addPossibleSuggestions(Arrays.asList("Banana", "apple", "Pineapple", "Apricot", "grape", "Grapefruit", "applesauce"));
+    }
+
+    @Test
+    public void typosAreRankedByErrors() {
+        assertEquals(Arrays.asList("grape", "Grapefruit"), provider.call(request("grape")));
+        assertEquals(Arrays.asList("apple", "applesauce", "Pineapple"), provider.call(request("appel")));
+        assertEquals(Arrays.asList("Grapefruit"), provider.call(request("grapfruit")));
+    }
+
+    @Test
+    public void shortTextsAllowNoErrors() {
+        // "ap" is shorter than three characters, so "an" doesn't match it
+        assertEquals(new HashSet<>(Arrays.asList("apple", "Pineapple", "Apricot", "grape", "Grapefruit", "applesauce")),
+                new HashSet<>(provider.call(request("ap"))));
+        assertTrue(provider.call(request("xp")).isEmpty());
+    }
+
+    @Test
+    public void limitAndUpdates() {
+        provider.setLimit(2);
+        assertEquals(Arrays.asList("apple", "applesauce"), provider.call(request("apple")));
+
+        provider.addPossibleSuggestions(Arrays.asList("Apples"));
+        assertEquals(Arrays.asList("apple", "Apples"), provider.call(request("apple")));
+
+        provider.clearSuggestions();
+        assertTrue(provider.call(request("apple")).isEmpty());
+    }
+
+    @Test
+    public void matchesSameSuggestionsAsBruteForce() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            words.add(randomWord(random, 1 + random.nextInt(12)));
+        }
+        provider.clearSuggestions();
+        provider.addPossibleSuggestions(words);
+        provider.setLimit(0);
+
+        for (int maxErrors = 0; maxErrors <= 3; maxErrors++) {
+            provider.setMaxErrors(maxErrors);
+            for (int i = 0; i < 40; i++) {
+                String text = randomWord(random, 1 + random.nextInt(9));
+                int allowed = Math.min(maxErrors, text.length() / 3);
+                Set<String> expected = new HashSet<>();
+                for (String word : words) {
+                    if (distance(text.toLowerCase(), word.toLowerCase()) <= allowed) {
+                        expected.add(word);
+                    }
+                }
+                List<String> actual = new ArrayList<>(provider.call(request(text)));
+                assertEquals(text + " / " + maxErrors, expected, new HashSet<>(actual));
+
+                // the matches are ranked by errors first
+                int previous = 0;
+                for (String word : actual) {
+                    int errors = distance(text.toLowerCase(), word.toLowerCase());
+                    assertTrue(text + " / " + word, errors >= previous);
+                    previous = errors;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void cancelledRequestReturnsNothing() {
+        ISuggestionRequest cancelled = new ISuggestionRequest() {
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+
+            @Override
+            public String getUserText() {
+                return "apple";
+            }
+        };
+        assertTrue(provider.call(cancelled).isEmpty());
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int j = 0; j < length; j++) {
+            word.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    /**
+     * Returns the least number of inserted, deleted or substituted characters 
+     * of the text in any substring of the key.
+     */
+    private static int distance(String text, String key) {
+        int[] previous = new int[key.length() + 1];
+        int[] current = new int[key.length() + 1];
+        for (int i = 1; i <= text.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= key.length(); j++) {
+                int cost = text.charAt(i - 1) == key.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int value : previous) {
+            best = Math.min(best, value);
+        }
+        return best;
+    }
+
+    private static ISuggestionRequest request(String text) {
+        return new ISuggestionRequest() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public String getUserText() {
+                return text;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedSuggestionProviderTest {
+
+    private IndexedSuggestionProvider<String> provider;
+
+    @Before
+    public void setup() {
+        provider = new IndexedSuggestionProvider<>();
+        provider.addPossibleSuggestions("Banana", "apple", "Pineapple", "Apricot", "grape", "Grapefruit", "applesauce");
+    }
+
+    @Test
+    public void prefixMatchesComeFirst() {
+        assertEquals(Arrays.asList("apple", "applesauce", "Pineapple"), provider.call(request("APP")));
+        assertEquals(Arrays.asList("apple", "applesauce", "Apricot", "grape", "Grapefruit", "Pineapple"), provider.call(request("ap")));
+    }
+
+    @Test
+    public void limitAndUpdates() {
+        provider.setLimit(2);
+        assertEquals(Arrays.asList("apple", "applesauce"), provider.call(request("ap")));
+
+        provider.addPossibleSuggestions("Apex");
+        assertEquals(Arrays.asList("Apex", "apple"), provider.call(request("ap")));
+
+        provider.clearSuggestions();
+        assertTrue(provider.call(request("ap")).isEmpty());
+    }
+
+    @Test
+    public void showAllIfEmpty() {
+        assertTrue(provider.call(request("")).isEmpty());
+        provider.setShowAllIfEmpty(true);
+        assertEquals(7, provider.call(request("")).size());
+    }
+
+    @Test
+    public void matchesSameSuggestionsAsDefaultProvider() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int j = random.nextInt(10); j >= 0; j--) {
+                word.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(4)));
+            }
+            words.add(word.toString());
+        }
+        provider.clearSuggestions();
+        provider.addPossibleSuggestions(words);
+        provider.setLimit(0);
+        SuggestionProvider<String> reference = SuggestionProvider.create(words);
+
+        for (String text : Arrays.asList("a", "Ab", "abc", "dcba", "aaaa", "bcdab", "e")) {
+            Collection<String> expected = reference.call(request(text));
+            Collection<String> actual = provider.call(request(text));
+            assertEquals(text, expected.size(), actual.size());
+            assertEquals(text, new HashSet<>(expected), new HashSet<>(actual));
+        }
+    }
+
+    private static ISuggestionRequest request(String text) {
+        return new ISuggestionRequest() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public String getUserText() {
+                return text;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.autocompletion;
+
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RefinementCacheTest {
+
+    @Test
+    public void testBestSupersetIsTheSmallest() {
+        RefinementCache cache = new RefinementCache();
+        int[] j = {1, 2, 3, 4, 5};
+        int[] jo = {1, 2, 3};
+        int[] oh = {2, 3};
+        cache.put("j", j);
+        cache.put("jo", jo);
+        cache.put("oh", oh);
+        cache.put("x", new int[] {9});
+
+        assertSame(oh, cache.getSuperset("john"));
+        assertSame(jo, cache.getSuperset("jon"));
+        assertSame(j, cache.getSuperset("ja"));
+        assertSame(jo, cache.get("jo"));
+        assertNull(cache.get("john"));
+        assertNull(cache.getSuperset("abc"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        RefinementCache cache = new RefinementCache();
+        for (int i = 0; i < 16; i++) {
+            cache.put("t" + i, new int[] {i});
+        }
+        // refresh the two eldest entries, by a lookup and as a superset
+        assertNotNull(cache.get("t0"));
+        assertArrayEquals(new int[] {1}, cache.getSuperset("t1x"));
+
+        cache.put("u", new int[0]);
+        assertNotNull(cache.get("t0"));
+        assertNotNull(cache.get("t1"));
+        assertNull(cache.get("t2"));
+        for (int i = 3; i < 16; i++) {
+            assertNotNull(cache.get("t" + i));
+        }
+        assertNotNull(cache.get("u"));
+
+        cache.clear();
+        assertNull(cache.get("u"));
+        assertNull(cache.getSuperset("t0"));
+    }
+
+    @Test
+    public void testBackspaceFallsBackToFullSearch() {
+        RefinementCache cache = new RefinementCache();
+        cache.put("joh", new int[] {0});
+        cache.put("john", new int[] {0});
+        assertNull(cache.getSuperset("jo"));
+
+        List<String> names = Arrays.asList("John", "Joanna", "Johnny", "Mojo", "Bob");
+        SuggestionProvider<String> provider = SuggestionProvider.create(names);
+        assertEquals(Arrays.asList("John", "Johnny"), provider.call(request("joh")));
+        assertEquals(Arrays.asList("John", "Johnny"), provider.call(request("john")));
+        // the matches of "jo" are not contained in the matches of "joh"
+        assertEquals(Arrays.asList("Joanna", "John", "Johnny", "Mojo"), provider.call(request("jo")));
+        assertEquals(Arrays.asList("Joanna"), provider.call(request("joa")));
+    }
+
+    private static ISuggestionRequest request(String text) {
+        return new ISuggestionRequest() {
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+
+            @Override
+            public String getUserText() {
+                return text;
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.collections;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ListTransferTest {
+
+    @Test
+    public void testMoveKeepsSourceOrderWithSingleChanges() {
+        ObservableList<String> from = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        ObservableList<String> to = FXCollections.observableArrayList("x");
+        AtomicInteger fromChanges = countChanges(from);
+        AtomicInteger toChanges = countChanges(to);
+
+        List<String> moved = ListTransfer.move(from, to, Arrays.asList("e", "b", "d", "z"), null);
+
+        assertEquals(Arrays.asList("b", "d", "e"), moved);
+        assertEquals(Arrays.asList("a", "c"), from);
+        assertEquals(Arrays.asList("x", "b", "d", "e"), to);
+        assertEquals(1, fromChanges.get());
+        assertEquals(1, toChanges.get());
+    }
+
+    @Test
+    public void testMoveFindsItemsByIdentity() {
+        String first = new String("a");
+        String second = new String("a");
+        ObservableList<String> from = FXCollections.observableArrayList(first, second);
+        ObservableList<String> to = FXCollections.observableArrayList();
+
+        ListTransfer.move(from, to, Arrays.asList(second), null);
+
+        assertEquals(1, from.size());
+        assertSame(first, from.get(0));
+        assertSame(second, to.get(0));
+    }
+
+    @Test
+    public void testMoveFallsBackToEquality() {
+        Integer first = new Integer(1000);
+        String second = new String("b");
+        ObservableList<Object> from = FXCollections.observableArrayList(first, "a", second, first);
+        ObservableList<Object> to = FXCollections.observableArrayList();
+
+        ListTransfer.move(from, to, Arrays.asList(new String("b"), first, new Integer(1000)), null);
+
+        assertEquals(Arrays.asList("a"), from);
+        assertEquals(Arrays.asList(first, second, first), to);
+        assertSame(second, to.get(1));
+    }
+
+    @Test
+    public void testSortedInsertion() {
+        ObservableList<String> from = FXCollections.observableArrayList("d", "a", "f");
+        ObservableList<String> to = FXCollections.observableArrayList("b", "c", "e");
+        AtomicInteger toChanges = countChanges(to);
+
+        ListTransfer.moveAll(from, to, Comparator.naturalOrder());
+
+        assertEquals(0, from.size());
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f"), to);
+        assertEquals(1, toChanges.get());
+    }
+
+    private static AtomicInteger countChanges(ObservableList<String> list) {
+        AtomicInteger changes = new AtomicInteger();
+        list.addListener((ListChangeListener<String>) c -> changes.incrementAndGet());
+        return changes;
+    }
+}
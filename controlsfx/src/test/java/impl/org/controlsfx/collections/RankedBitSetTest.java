@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.collections;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RankedBitSetTest {
+
+    private static final int BITS = 1000;
+
+    @Test
+    public void testRangesAcrossWords() {
+        RankedBitSet bits = new RankedBitSet(0);
+        BitSet expected = new BitSet();
+
+        assertEquals(200, bits.set(60, 260));
+        expected.set(60, 260);
+        assertSameBits(expected, bits);
+
+        assertEquals(100, bits.set(0, 300));
+        expected.set(0, 300);
+        assertSameBits(expected, bits);
+
+        assertEquals(130, bits.clear(63, 193));
+        expected.clear(63, 193);
+        assertSameBits(expected, bits);
+
+        // clearing past the last word doesn't grow the set
+        assertEquals(107, bits.clear(193, 5000));
+        expected.clear(193, 5000);
+        assertSameBits(expected, bits);
+    }
+
+    @Test
+    public void testGrowthKeepsRanks() {
+        RankedBitSet bits = new RankedBitSet(0);
+        BitSet expected = new BitSet();
+        // every set past the capacity rebuilds the tree from the words
+        for (int index = 3; index < BITS; index = index * 2 + 1) {
+            assertTrue(bits.set(index));
+            expected.set(index);
+            assertSameBits(expected, bits);
+        }
+        assertFalse(bits.set(7));
+    }
+
+    @Test
+    public void testRandomOperationsMatchBitSet() {
+        Random random = new Random(42);
+        RankedBitSet bits = new RankedBitSet(0);
+        BitSet expected = new BitSet();
+        for (int step = 0; step < 2000; step++) {
+            int from = random.nextInt(BITS);
+            int to = Math.min(BITS, from + random.nextInt(200));
+            switch (random.nextInt(5)) {
+                case 0:
+                    assertEquals(!expected.get(from), bits.set(from));
+                    expected.set(from);
+                    break;
+                case 1:
+                    assertEquals(expected.get(from), bits.clear(from));
+                    expected.clear(from);
+                    break;
+                case 2: {
+                    int added = to - from - expected.get(from, to).cardinality();
+                    assertEquals(added, bits.set(from, to));
+                    expected.set(from, to);
+                    break;
+                }
+                case 3: {
+                    int removed = expected.get(from, to).cardinality();
+                    assertEquals(removed, bits.clear(from, to));
+                    expected.clear(from, to);
+                    break;
+                }
+                default:
+                    RankedBitSet copy = bits.copy();
+                    assertSameBits(expected, copy);
+                    copy.clear();
+                    assertTrue(copy.isEmpty());
+                    break;
+            }
+            if (step % 20 == 0) {
+                assertSameBits(expected, bits);
+            }
+        }
+        assertSameBits(expected, bits);
+    }
+
+    private static void assertSameBits(BitSet expected, RankedBitSet bits) {
+        assertEquals(expected.cardinality(), bits.cardinality());
+        assertEquals(expected.isEmpty(), bits.isEmpty());
+        assertEquals(expected.length(), bits.length());
+        int rank = 0;
+        for (int index = 0; index < BITS + 130; index++) {
+            assertEquals("get " + index, expected.get(index), bits.get(index));
+            assertEquals("rank " + index, rank, bits.rank(index));
+            assertEquals("next " + index, expected.nextSetBit(index), bits.nextSetBit(index));
+            assertEquals("previous " + index, expected.previousSetBit(index), bits.previousSetBit(index));
+            if (expected.get(index)) {
+                assertEquals("select " + rank, index, bits.select(rank));
+                rank++;
+            }
+        }
+        assertEquals(-1, bits.select(rank));
+        assertEquals(-1, bits.select(-1));
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.skin;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import org.controlsfx.control.GridCell;
+import org.controlsfx.control.GridView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+public class GridViewSkinTest {
+
+    private ObservableList<Item> items;
+    private GridView<Item> gridView;
+    private Map<Integer, Integer> updates;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        items = FXCollections.observableArrayList();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item("item " + i));
+        }
+        updates = new HashMap<>();
+        FxToolkit.setupStage(stage -> {
+            gridView = new GridView<>(items);
+            gridView.setCellFactory(g -> new GridCell<Item>() {
+                @Override protected void updateItem(Item item, boolean empty) {
+                    super.updateItem(item, empty);
+                    if (!empty) {
+                        updates.merge(getIndex(), 1, Integer::sum);
+                    }
+                    setText(empty ? "" : item.text);
+                }
+            });
+            stage.setScene(new Scene(new StackPane(gridView), 800, 600));
+            stage.show();
+        });
+    }
+
+    @Test
+    public void replacingWithSameInstanceReloadsCell() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            Item item = items.get(3);
+            item.text = "changed";
+            items.set(3, item);
+            layout();
+        });
+        assertEquals("changed", cellAt(3).getText());
+    }
+
+    @Test
+    public void replacingReloadsOnlyReplacedCells() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            updates.clear();
+            items.set(5, new Item("new 5"));
+            layout();
+        });
+        assertEquals("new 5", cellAt(5).getText());
+        assertEquals(Integer.valueOf(1), updates.get(5));
+        assertEquals(null, updates.get(4));
+        assertEquals(null, updates.get(6));
+
+        FxToolkit.setupFixture(() -> {
+            updates.clear();
+            items.set(2, items.get(2));
+            layout();
+        });
+        assertEquals(Integer.valueOf(1), updates.get(2));
+        assertEquals(null, updates.get(5));
+    }
+
+    @Test
+    public void appendingDoesNotReloadVisibleCells() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            updates.clear();
+            items.add(new Item("last"));
+            layout();
+        });
+        assertEquals(null, updates.get(0));
+        assertEquals("item 0", cellAt(0).getText());
+    }
+
+    private void layout() {
+        gridView.getScene().getRoot().applyCss();
+        gridView.getScene().getRoot().layout();
+    }
+
+    @SuppressWarnings("unchecked")
+    private GridCell<Item> cellAt(int index) {
+        for (Node node : gridView.lookupAll(".grid-cell")) {
+            GridCell<Item> cell = (GridCell<Item>) node;
+            if (cell.getIndex() == index) {
+                return cell;
+            }
+        }
+        assertNotNull("no cell at " + index, null);
+        return null;
+    }
+
+    private static final class Item {
+        private String text;
+
+        Item(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.skin;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class SearchableItemsIndexTest {
+
+    private static final List<String> ITEMS = Arrays.asList("Berlin", "Bern", "Munich", "Paris", "New York", "Alberta");
+
+    private AtomicInteger conversions;
+    private SearchableItemsIndex<String> index;
+
+    @Before
+    public void setup() {
+        conversions = new AtomicInteger();
+        index = new SearchableItemsIndex<>(item -> {
+            conversions.incrementAndGet();
+            return item;
+        });
+    }
+
+    @Test
+    public void matchesItemsContainingAllWords() {
+        assertEquals(Arrays.asList("Berlin", "Bern", "Alberta"), search(ITEMS, "ber"));
+        assertEquals(Arrays.asList("Berlin"), search(ITEMS, "ber", "in"));
+        assertEquals(Arrays.asList("New York"), search(ITEMS, "york", "new"));
+        assertEquals(Arrays.asList(), search(ITEMS, "rome"));
+        // the display texts are converted once
+        assertEquals(ITEMS.size(), conversions.get());
+    }
+
+    @Test
+    public void refinedSearchTestsLastMatchesOnly() {
+        assertEquals(Arrays.asList("Berlin", "Bern", "Alberta"), search(ITEMS, "ber"));
+
+        SearchableItemsIndex.Search<String> search = index.prepare(ITEMS, new String[] {"bern"});
+        assertEquals(3, search.size());
+        assertEquals(Arrays.asList("Bern"), search.run());
+        search.complete();
+
+        search = index.prepare(ITEMS, new String[] {"bern", "b"});
+        assertEquals(1, search.size());
+
+        // not a refinement: all the items are tested again
+        search = index.prepare(ITEMS, new String[] {"be"});
+        assertEquals(ITEMS.size(), search.size());
+        assertEquals(Arrays.asList("Berlin", "Bern", "Alberta"), search.run());
+    }
+
+    @Test
+    public void searchNotCompletedIsNotRefined() {
+        index.prepare(ITEMS, new String[] {"ber"}).run();
+        assertEquals(ITEMS.size(), index.prepare(ITEMS, new String[] {"bern"}).size());
+    }
+
+    @Test
+    public void invalidateDiscardsTextsAndMatches() {
+        search(ITEMS, "ber");
+        SearchableItemsIndex.Search<String> outdated = index.prepare(ITEMS, new String[] {"berl"});
+        List<String> outdatedMatches = outdated.run();
+
+        List<String> items = Arrays.asList("Bergen", "Berlin", "Oslo");
+        index.invalidate();
+        outdated.complete();
+        assertEquals(Arrays.asList("Berlin"), outdatedMatches);
+
+        // the outdated search isn't refined, and the new items are converted
+        SearchableItemsIndex.Search<String> search = index.prepare(items, new String[] {"berl"});
+        assertEquals(items.size(), search.size());
+        assertEquals(Arrays.asList("Berlin"), search.run());
+        assertEquals(ITEMS.size() + items.size(), conversions.get());
+    }
+
+    private List<String> search(List<String> items, String... words) {
+        SearchableItemsIndex.Search<String> search = index.prepare(items, words);
+        List<String> matches = search.run();
+        search.complete();
+        return matches;
+    }
+}
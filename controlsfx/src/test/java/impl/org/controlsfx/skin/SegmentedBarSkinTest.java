@@ -12,7 +12,10 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.testfx.api.FxToolkit;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
@@ -75,4 +78,51 @@ public class SegmentedBarSkinTest {
         Assert.assertEquals(w, segmentView2.getWidth(), 0.0);
         Assert.assertEquals(h, segmentView2.getHeight(), 0.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSegmentChangesReuseSegmentNodes() {
+        SegmentedBar<SegmentedBar.Segment> control = new SegmentedBar<>();
+        control.setOrientation(orientation);
+        List<SegmentedBar.Segment> created = new ArrayList<>();
+        control.setSegmentViewFactory(segment -> {
+            created.add(segment);
+            return new StackPane();
+        });
+        SegmentedBar.Segment first = new SegmentedBar.Segment(1.0);
+        SegmentedBar.Segment second = new SegmentedBar.Segment(2.0);
+        control.getSegments().addAll(first, second);
+        new SegmentedBarSkin<>(control);
+        List<Node> nodes = new ArrayList<>(control.getChildrenUnmodifiable());
+        assertPositions(control, "first-segment", "last-segment");
+
+        SegmentedBar.Segment third = new SegmentedBar.Segment(3.0);
+        control.getSegments().add(third);
+        Assert.assertEquals(Arrays.asList(first, second, third), created);
+        Assert.assertEquals(nodes, control.getChildrenUnmodifiable().subList(0, 2));
+        assertPositions(control, "first-segment", "middle-segment", "last-segment");
+
+        first.setValue(10.0);
+        control.getSegments().remove(first);
+        Assert.assertEquals(3, created.size());
+        Assert.assertEquals(nodes.get(1), control.getChildrenUnmodifiable().get(0));
+        assertPositions(control, "first-segment", "last-segment");
+
+        control.getSegments().sort(Comparator.comparingDouble(SegmentedBar.Segment::getValue).reversed());
+        Assert.assertEquals(3, created.size());
+        Assert.assertEquals(nodes.get(1), control.getChildrenUnmodifiable().get(1));
+        assertPositions(control, "first-segment", "last-segment");
+
+        control.getSegments().remove(third);
+        Assert.assertEquals(3, created.size());
+        assertPositions(control, "only-segment");
+    }
+
+    private static void assertPositions(SegmentedBar<?> control, String... styleClasses) {
+        List<Node> children = control.getChildrenUnmodifiable();
+        Assert.assertEquals(styleClasses.length, children.size());
+        for (int i = 0; i < styleClasses.length; i++) {
+            List<String> styleClass = children.get(i).getStyleClass();
+            Assert.assertEquals(Arrays.asList("segment", styleClasses[i]), styleClass);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.skin;
+
+import javafx.collections.ListChangeListener;
+import javafx.concurrent.Task;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+import org.controlsfx.control.TaskProgressView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class TaskProgressViewSkinTest {
+
+    private TaskProgressView<TestTask> view;
+    private ListView<TestTask> listView;
+    private TestTask task;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() throws TimeoutException {
+        FxToolkit.setupStage(stage -> {
+            view = new TaskProgressView<>();
+            task = new TestTask("first");
+            view.getTasks().add(task);
+            stage.setScene(new Scene(new StackPane(view), 400, 400));
+            stage.show();
+            listView = (ListView<TestTask>) view.lookup(".list-view");
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    @Test
+    public void boundByDefault() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            task.message("running");
+            task.progress(0.5);
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals("running", message());
+        assertEquals(0.5, progress(), 0);
+    }
+
+    @Test
+    public void switchingModes() throws Exception {
+        FxToolkit.setupFixture(() -> {
+            view.setUpdateInterval(Duration.millis(100));
+            task.message("sampled");
+            // not applied before the interval elapsed
+            assertEquals("", message());
+        });
+        waitFor(() -> "sampled".equals(message()));
+
+        // the timer is idle, but starts again on the next change
+        Thread.sleep(300);
+        FxToolkit.setupFixture(() -> task.progress(0.25));
+        waitFor(() -> progress() == 0.25);
+
+        FxToolkit.setupFixture(() -> {
+            view.setUpdateInterval(Duration.ZERO);
+            task.message("bound");
+            assertEquals("bound", message());
+        });
+    }
+
+    @Test
+    public void indefiniteIntervalUpdatesOnEveryChange() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            view.setUpdateInterval(Duration.INDEFINITE);
+            task.message("bound");
+            assertEquals("bound", message());
+        });
+    }
+
+    @Test
+    public void tasksAreAddedInOneBatch() throws Exception {
+        AtomicInteger changes = new AtomicInteger();
+        TestTask[] added = {new TestTask("second"), new TestTask("third"), new TestTask("fourth")};
+        FxToolkit.setupFixture(() -> {
+            view.setUpdateInterval(Duration.millis(100));
+            listView.getItems().addListener((ListChangeListener<TestTask>) c -> changes.incrementAndGet());
+            for (TestTask t : added) {
+                view.getTasks().add(t);
+            }
+            assertEquals(1, listView.getItems().size());
+        });
+        waitFor(() -> listView.getItems().size() == 4);
+        assertEquals(Arrays.asList(task, added[0], added[1], added[2]), listView.getItems());
+        assertEquals(1, changes.get());
+    }
+
+    private String message() {
+        return ((Label) listView.lookup(".task-message")).getText();
+    }
+
+    private double progress() {
+        return ((ProgressBar) listView.lookup(".task-progress-bar")).getProgress();
+    }
+
+    private static void waitFor(Callable<Boolean> condition) throws TimeoutException {
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, condition);
+    }
+
+    private static final class TestTask extends Task<Void> {
+
+        TestTask(String title) {
+            updateTitle(title);
+        }
+
+        void message(String message) {
+            updateMessage(message);
+        }
+
+        void progress(double progress) {
+            updateProgress(progress, 1);
+        }
+
+        @Override
+        protected Void call() {
+            return null;
+        }
+    }
+}
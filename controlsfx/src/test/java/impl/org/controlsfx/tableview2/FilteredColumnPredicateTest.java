@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tableview2;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.controlsfx.control.tableview2.FilteredTableColumn;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FilteredColumnPredicateTest {
+
+    private FilteredTableColumn<Integer, Integer> neverRejects;
+    private FilteredTableColumn<Integer, Integer> oftenRejects;
+    private TableView<Integer> tableView;
+    private ObservableList<TableColumn<Integer, ?>> columns;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() {
+        neverRejects = column("never", i -> i);
+        neverRejects.setPredicate(i -> i >= 0);
+        oftenRejects = column("often", i -> i % 10);
+        oftenRejects.setPredicate(i -> i == 0);
+        tableView = new TableView<>();
+        tableView.getColumns().setAll(Arrays.asList(neverRejects, oftenRejects));
+        columns = tableView.getVisibleLeafColumns();
+    }
+
+    private static FilteredTableColumn<Integer, Integer> column(String text, Function<Integer, Integer> value) {
+        FilteredTableColumn<Integer, Integer> column = new FilteredTableColumn<>(text);
+        column.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(value.apply(p.getValue())));
+        return column;
+    }
+
+    @Test
+    public void testResultMatchesAndOfColumnPredicates() {
+        FilteredColumnPredicate<Integer, Integer> predicate = new FilteredColumnPredicate<>(columns);
+        Random random = new Random(7);
+        for (int n = 0; n < 10_000; n++) {
+            int i = random.nextInt(1000) - 100;
+            assertEquals("test " + i, i >= 0 && i % 10 == 0, predicate.test(i));
+        }
+    }
+
+    @Test
+    public void testRejectingColumnIsEvaluatedFirst() {
+        FilteredColumnPredicate<Integer, Integer> predicate = new FilteredColumnPredicate<>(columns);
+        assertEquals(Arrays.asList(neverRejects, oftenRejects), predicate.getEvaluationOrder());
+        for (int i = 0; i < 1000; i++) {
+            predicate.test(i);
+        }
+        assertEquals(Arrays.asList(oftenRejects, neverRejects), predicate.getEvaluationOrder());
+        assertEquals(0.9, predicate.getStatistics(oftenRejects).getRejectionRate(), 0.05);
+        assertEquals(0, predicate.getStatistics(neverRejects).getRejectionRate(), 0);
+    }
+
+    @Test
+    public void testStatisticsResetOnPredicateChange() {
+        FilteredColumnPredicate<Integer, Integer> predicate = new FilteredColumnPredicate<>(columns);
+        for (int i = 0; i < 1000; i++) {
+            predicate.test(i);
+        }
+        long samples = predicate.getStatistics(neverRejects).getSampleCount();
+
+        oftenRejects.setPredicate(i -> i >= 0);
+        assertEquals(0, predicate.getStatistics(oftenRejects).getSampleCount());
+        assertEquals(samples, predicate.getStatistics(neverRejects).getSampleCount());
+
+        // both columns are sampled again during the warm-up
+        for (int i = 0; i < 10; i++) {
+            predicate.test(i);
+        }
+        assertEquals(10, predicate.getStatistics(oftenRejects).getSampleCount());
+        assertEquals(samples + 10, predicate.getStatistics(neverRejects).getSampleCount());
+    }
+
+    @Test
+    public void testPlanRebuiltOnColumnsChange() {
+        FilteredColumnPredicate<Integer, Integer> predicate = new FilteredColumnPredicate<>(columns);
+        for (int i = 0; i < 1000; i++) {
+            predicate.test(i);
+        }
+        FilteredTableColumn<Integer, Integer> negative = column("negative", i -> -i);
+        negative.setPredicate(i -> i < -5);
+        tableView.getColumns().add(negative);
+        assertEquals(Arrays.asList(neverRejects, oftenRejects, negative), predicate.getEvaluationOrder());
+        assertEquals(0, predicate.getStatistics(oftenRejects).getSampleCount());
+        assertEquals(false, predicate.test(0));
+        assertEquals(true, predicate.test(10));
+
+        oftenRejects.setVisible(false);
+        assertNull(predicate.getStatistics(oftenRejects));
+        assertEquals(true, predicate.test(11));
+
+        // a removed column doesn't reset the statistics anymore
+        predicate.test(12);
+        oftenRejects.setPredicate(null);
+        assertEquals(2, predicate.getStatistics(neverRejects).getSampleCount());
+        negative.setPredicate(i -> i < -6);
+        assertEquals(0, predicate.getStatistics(negative).getSampleCount());
+        assertEquals(2, predicate.getStatistics(neverRejects).getSampleCount());
+    }
+}
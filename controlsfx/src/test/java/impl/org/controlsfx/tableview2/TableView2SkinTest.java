@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tableview2;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import org.controlsfx.control.tableview2.TableView2;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TableView2SkinTest {
+
+    private ObservableList<Integer> items;
+    private TableView2<Integer> tableView;
+    private TableColumn<Integer, Integer> column1;
+    private TableColumn<Integer, Integer> column2;
+    private TableView2Skin<Integer> skin;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        items = FXCollections.observableArrayList(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        FxToolkit.setupStage(stage -> {
+            tableView = new TableView2<>(items);
+            column1 = new TableColumn<>("Column 1");
+            column1.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue()));
+            column2 = new TableColumn<>("Column 2");
+            column2.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue() * 2));
+            tableView.getColumns().setAll(Arrays.asList(column1, column2));
+            stage.setScene(new Scene(tableView, 400, 400));
+            stage.show();
+        });
+        FxToolkit.setupFixture(() -> skin = (TableView2Skin<Integer>) tableView.getSkin());
+    }
+
+    private double sumOfRowHeights(List<Integer> rows) {
+        return rows.stream().mapToDouble(skin::getRowHeight).sum();
+    }
+
+    @Test
+    public void testFixedRowsAndColumns() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            tableView.getFixedRows().setAll(3, 1, 5);
+            tableView.getFixedColumns().setAll(column2);
+        });
+        FxToolkit.setupFixture(() -> {
+            assertTrue(skin.isFixedRow(1) && skin.isFixedRow(3) && skin.isFixedRow(5));
+            assertFalse(skin.isFixedRow(0) || skin.isFixedRow(2) || skin.isFixedRow(-1));
+            // the table keeps the fixed rows sorted
+            assertEquals(0, skin.getFixedRowPosition(1));
+            assertEquals(1, skin.getFixedRowPosition(3));
+            assertEquals(2, skin.getFixedRowPosition(5));
+            assertEquals(-1, skin.getFixedRowPosition(4));
+            assertTrue(skin.isFixedColumn(column2));
+            assertFalse(skin.isFixedColumn(column1));
+
+            tableView.getFixedRows().remove(Integer.valueOf(1));
+            tableView.getFixedColumns().setAll(column1);
+            assertFalse(skin.isFixedRow(1));
+            assertEquals(0, skin.getFixedRowPosition(3));
+            assertEquals(1, skin.getFixedRowPosition(5));
+            assertTrue(skin.isFixedColumn(column1));
+            assertFalse(skin.isFixedColumn(column2));
+        });
+    }
+
+    @Test
+    public void testFixedRowOffsetsAfterRowHeightChanges() throws TimeoutException {
+        FxToolkit.setupFixture(() -> tableView.getFixedRows().setAll(2, 4, 6));
+        FxToolkit.setupFixture(() -> {
+            assertEquals(0, skin.getFixedRowOffset(0), 0);
+            assertEquals(sumOfRowHeights(Arrays.asList(2, 4)), skin.getFixedRowOffset(2), 0);
+
+            skin.rowHeightMap.put(2, 50d);
+            skin.rowHeightMap.put(4, 70d);
+            assertEquals(120, skin.getFixedRowOffset(2), 0);
+            assertEquals(120 + skin.getRowHeight(6), skin.getFixedRowOffset(3), 0);
+
+            // a row that is not fixed doesn't change the offsets
+            skin.rowHeightMap.put(3, 90d);
+            assertEquals(120, skin.getFixedRowOffset(2), 0);
+        });
+    }
+
+    @Test
+    public void testFixedRowOffsetsAfterFixedCellSizeChanges() throws TimeoutException {
+        FxToolkit.setupFixture(() -> tableView.getFixedRows().setAll(2, 4, 6));
+        FxToolkit.setupFixture(() -> {
+            skin.getFixedRowOffset(3);
+            tableView.setFixedCellSize(30);
+            assertEquals(90, skin.getFixedRowOffset(3), 0);
+            tableView.setFixedCellSize(40);
+            assertEquals(80, skin.getFixedRowOffset(2), 0);
+        });
+    }
+
+    @Test
+    public void testFixedRowOffsetsAfterItemCountChanges() throws TimeoutException {
+        FxToolkit.setupFixture(() -> tableView.getFixedRows().setAll(2, 4, 6));
+        FxToolkit.setupFixture(() -> {
+            skin.rowHeightMap.put(2, 50d);
+            skin.rowHeightMap.put(4, 70d);
+            skin.rowHeightMap.put(6, 90d);
+            assertEquals(210, skin.getFixedRowOffset(3), 0);
+
+            // rows beyond the item count get the default height
+            items.remove(5, items.size());
+            assertEquals(120 + skin.getRowHeight(6), skin.getFixedRowOffset(3), 0);
+            assertTrue(skin.getRowHeight(6) != 90);
+        });
+    }
+}
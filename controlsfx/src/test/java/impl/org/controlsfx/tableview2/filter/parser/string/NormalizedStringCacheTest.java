@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tableview2.filter.parser.string;
+
+import javafx.util.StringConverter;
+import org.junit.Test;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NormalizedStringCacheTest {
+
+    /*
+     * Equal by id, shown by name
+     */
+    private static class Item {
+        private final int id;
+        private String name;
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Item && ((Item) obj).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Test
+    public void testEqualValuesWithDifferentStrings() {
+        NormalizedStringCache<Item> cache = new NormalizedStringCache<>(null, false);
+        Item anna = new Item(1, "Anna");
+        Item bob = new Item(1, "Bob");
+
+        assertEquals("ANNA", cache.get(anna));
+        assertEquals("BOB", cache.get(bob));
+        assertEquals("ANNA", cache.get(anna));
+    }
+
+    @Test
+    public void testValueChangedInPlace() {
+        NormalizedStringCache<Item> cache = new NormalizedStringCache<>(null, false);
+        Item item = new Item(1, "Anna");
+        assertEquals("ANNA", cache.get(item));
+
+        item.name = "Bob";
+        assertTrue(cache.invalidate(item));
+        assertEquals("BOB", cache.get(item));
+        assertFalse(cache.invalidate(new Item(1, "Bob")));
+    }
+
+    @Test
+    public void testConverter() {
+        StringConverter<Item> converter = new StringConverter<Item>() {
+            @Override public String toString(Item item) {
+                return item == null ? null : item.name + "#" + item.id;
+            }
+
+            @Override public Item fromString(String string) {
+                return null;
+            }
+        };
+        NormalizedStringCache<Item> cache = new NormalizedStringCache<>(converter, true);
+        assertEquals("Anna#1", cache.get(new Item(1, "Anna")));
+        assertEquals(null, cache.get(null));
+    }
+
+    @Test
+    public void testEntriesAreCollected() throws InterruptedException {
+        NormalizedStringCache<Item> cache = new NormalizedStringCache<>(null, false);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(new Item(i, "Item " + i));
+        }
+        for (int i = 0; i < 50 && cache.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testParserPredicatesAfterInvalidation() {
+        StringParser<Item> parser = new StringParser<>(false);
+        String contains = parser.operators().get(2); // contains
+        Predicate<Item> predicate = parser.parse(contains + " \"bo\"");
+        Item item = new Item(1, "Anna");
+        assertFalse(predicate.test(item));
+        assertTrue(predicate.test(new Item(1, "Bob")));
+
+        item.name = "Bob";
+        assertFalse(predicate.test(item));
+        assertTrue(parser.invalidate(item));
+        assertTrue(predicate.test(item));
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.tools;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.ComboBox;
+import javafx.util.StringConverter;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrefixSelectionIndexTest {
+
+    private Random random;
+    private ObservableList<Item> items;
+    private ComboBox<Item> indexedComboBox;
+    private ComboBox<Item> comboBox;
+    private ChoiceBox<Item> indexedChoiceBox;
+    private ChoiceBox<Item> choiceBox;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        random = new Random(42);
+        items = FXCollections.observableArrayList();
+        for (int i = 0; i < 500; i++) {
+            items.add(new Item(randomString(1 + random.nextInt(4))));
+        }
+        FxToolkit.setupFixture(() -> {
+            indexedComboBox = new ComboBox<>(items);
+            comboBox = new ComboBox<>(items);
+            indexedChoiceBox = new ChoiceBox<>(items);
+            choiceBox = new ChoiceBox<>(items);
+        });
+        PrefixSelectionCustomizer.setIndexed(indexedComboBox, true);
+        PrefixSelectionCustomizer.setIndexed(indexedChoiceBox, true);
+        assertTrue(PrefixSelectionCustomizer.isIndexed(indexedComboBox));
+        assertFalse(PrefixSelectionCustomizer.isIndexed(comboBox));
+    }
+
+    @Test
+    public void duplicateAndCaseVariantKeys() {
+        items.setAll(new Item("b"), new Item("Ab"), new Item("ab"), new Item("AB"), new Item("a"), new Item("ab"));
+        assertSame(items.get(1), lookup(indexedComboBox, "ab").get());
+        assertSame(items.get(1), lookup(indexedComboBox, "a").get());
+        assertSame(items.get(0), lookup(indexedComboBox, "B").get());
+        assertFalse(lookup(indexedComboBox, "abc").isPresent());
+        assertSameAsLinearLookup();
+    }
+
+    @Test
+    public void randomKeys() {
+        assertSameAsLinearLookup();
+    }
+
+    @Test
+    public void listChanges() {
+        assertSameAsLinearLookup();
+
+        items.remove(0, 100);
+        items.add(0, new Item("a"));
+        items.set(200, new Item("Aa"));
+        assertSameAsLinearLookup();
+
+        List<Item> others = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            others.add(new Item(randomString(1 + random.nextInt(3))));
+        }
+        ObservableList<Item> otherItems = FXCollections.observableArrayList(others);
+        indexedComboBox.setItems(otherItems);
+        comboBox.setItems(otherItems);
+        indexedChoiceBox.setItems(otherItems);
+        choiceBox.setItems(otherItems);
+        assertSameAsLinearLookup();
+
+        otherItems.add(0, null);
+        otherItems.add(new Item(""));
+        otherItems.sort(Comparator.nullsLast(Comparator.comparing((Item item) -> item.name).reversed()));
+        assertSameAsLinearLookup();
+    }
+
+    @Test
+    public void converterChanges() {
+        assertSameAsLinearLookup();
+
+        StringConverter<Item> reversed = new StringConverter<Item>() {
+            @Override
+            public String toString(Item item) {
+                return new StringBuilder(item.name).reverse().toString();
+            }
+
+            @Override
+            public Item fromString(String string) {
+                return null;
+            }
+        };
+        indexedComboBox.setConverter(reversed);
+        comboBox.setConverter(reversed);
+        indexedChoiceBox.setConverter(reversed);
+        choiceBox.setConverter(reversed);
+        assertSameAsLinearLookup();
+    }
+
+    private void assertSameAsLinearLookup() {
+        List<String> prefixes = new ArrayList<>();
+        for (Item item : indexedComboBox.getItems()) {
+            if (item != null) {
+                for (int i = 1; i <= item.name.length(); i++) {
+                    prefixes.add(item.name.substring(0, i));
+                }
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            prefixes.add(randomString(1 + random.nextInt(5)));
+        }
+        for (String prefix : prefixes) {
+            assertSameItem(prefix, lookup(comboBox, prefix), lookup(indexedComboBox, prefix));
+            assertSameItem(prefix, lookup(choiceBox, prefix), lookup(indexedChoiceBox, prefix));
+        }
+    }
+
+    private static void assertSameItem(String prefix, Optional<?> expected, Optional<?> actual) {
+        assertEquals(prefix, expected.isPresent(), actual.isPresent());
+        if (expected.isPresent()) {
+            assertSame(prefix, expected.get(), actual.get());
+        }
+    }
+
+    private static Optional<?> lookup(ComboBox<Item> comboBox, String prefix) {
+        return PrefixSelectionCustomizer.DEFAULT_LOOKUP_COMBOBOX.apply(comboBox, prefix);
+    }
+
+    private static Optional<?> lookup(ChoiceBox<Item> choiceBox, String prefix) {
+        return PrefixSelectionCustomizer.DEFAULT_LOOKUP_CHOICEBOX.apply(choiceBox, prefix);
+    }
+
+    private String randomString(int length) {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            s.append((char) ((random.nextBoolean() ? 'a' : 'A') + random.nextInt(3)));
+        }
+        return s.toString();
+    }
+
+    /**
+     * An item with identity equality, so the lookups must find the same instance.
+     */
+    private static final class Item {
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.worldmap;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Properties;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class WorldMapGeometryTest {
+
+    private static WorldMapGeometry parse(String country, String path) {
+        Properties data = new Properties();
+        data.setProperty(country, path);
+        return WorldMapGeometry.parse(data);
+    }
+
+    @Test
+    public void testParseRelativeCommands() {
+        WorldMapGeometry geometry = parse("AA", "M10,10l5,0h5v5L10,15z;M0,0L1,0L1,1z");
+
+        assertEquals(2, geometry.getPathCount("AA"));
+        assertEquals("M10.0,10.0L15.0,10.0L20.0,10.0L20.0,15.0L10.0,15.0z", geometry.getContent("AA", 0, 0));
+        assertArrayEquals(new double[] {0, 0, 20, 15}, geometry.getBounds("AA"), 0);
+    }
+
+    @Test
+    public void testCurvesKeepTheirOriginalContent() {
+        String curve = "M0,0C10,0 10,10 0,10z";
+        WorldMapGeometry geometry = parse("AA", "M0,0L1,0L1,1z;" + curve);
+
+        assertEquals(2, geometry.getPathCount("AA"));
+        assertEquals("M0.0,0.0L1.0,0.0L1.0,1.0z", geometry.getContent("AA", 0, 0));
+        int coarsest = WorldMapGeometry.getLevel(0.01);
+        assertEquals(curve, geometry.getContent("AA", 1, 0));
+        assertSame(geometry.getContent("AA", 1, 0), geometry.getContent("AA", 1, coarsest));
+        assertArrayEquals(new double[] {0, 0, 1, 1}, geometry.getBounds("AA"), 0);
+        assertEquals(3, geometry.getPointCount(coarsest));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCurvesHaveNoBinaryForm() throws IOException {
+        parse("AA", "M0,0Q10,0 0,10z").write(new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        WorldMapGeometry geometry = parse("AA", "M619.87,393.72L620.37,393.57L620.48,394.41zM1,2l3,4l-5,1z");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        geometry.write(out);
+        WorldMapGeometry read = WorldMapGeometry.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(geometry.getContent("AA", 0, 0), read.getContent("AA", 0, 0));
+        assertEquals(geometry.getPointCount(0), read.getPointCount(0));
+    }
+
+    @Test
+    public void testSimplificationKeepsShapeWithinTolerance() {
+        // a square with many points along its edges
+        StringBuilder path = new StringBuilder("M0,0");
+        for (int i = 1; i <= 10; i++) {
+            path.append("L").append(i * 10).append(",0.1");
+        }
+        for (int i = 1; i <= 10; i++) {
+            path.append("L100,").append(i * 10);
+        }
+        path.append("L0,100z;M500,500L500.1,500L500.1,500.1L500,500.1z");
+        WorldMapGeometry geometry = parse("AA", path.toString());
+
+        int coarsest = WorldMapGeometry.getLevel(0.01);
+        assertTrue(geometry.getPointCount(coarsest) < geometry.getPointCount(0));
+        assertEquals("M0.0,0.0L100.0,0.1L100.0,100.0L0.0,100.0z", geometry.getContent("AA", 0, coarsest));
+        // small islands keep at least three points
+        assertEquals(7, geometry.getPointCount(coarsest));
+        assertEquals(0, WorldMapGeometry.getLevel(10));
+    }
+
+    @Test
+    public void testUnchangedPathsShareContent() {
+        StringBuilder path = new StringBuilder("M0,0");
+        for (int i = 1; i <= 10; i++) {
+            path.append("L").append(i * 10).append(",0.1");
+        }
+        path.append("L100,100L0,100z;M500,500L510,500L510,510z");
+        WorldMapGeometry geometry = parse("AA", path.toString());
+
+        int coarsest = WorldMapGeometry.getLevel(0.01);
+        assertNotEquals(geometry.getContent("AA", 0, 0), geometry.getContent("AA", 0, coarsest));
+        // the triangle can't be simplified
+        assertSame(geometry.getContent("AA", 1, 0), geometry.getContent("AA", 1, coarsest));
+        assertSame(geometry.getContent("AA", 1, 0), geometry.getContent("AA", 1, 1));
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package impl.org.controlsfx.worldmap;
+
+import javafx.scene.Scene;
+import org.controlsfx.control.WorldMapView;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class WorldMapViewSkinTest {
+
+    private static final String CURVE = "M0,0C10,0 10,10 0,10z";
+    private static final String POLYGON = "M20,0L30,0L30,10z";
+
+    private static class CustomDataSkin extends WorldMapViewSkin {
+
+        CustomDataSkin(WorldMapView view) {
+            super(view);
+        }
+
+        @Override
+        protected WorldMapGeometry loadGeometry() {
+            return WorldMapGeometry.parse(loadData());
+        }
+
+        @Override
+        protected Properties loadData() {
+            Properties data = new Properties();
+            data.setProperty("FR", CURVE);
+            data.setProperty("DE", POLYGON);
+            return data;
+        }
+    }
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Test
+    public void testCustomDataWithCurves() throws TimeoutException {
+        List<WorldMapView.CountryView> views = new ArrayList<>();
+        FxToolkit.setupStage(stage -> {
+            WorldMapView worldMapView = new WorldMapView() {
+                @Override
+                protected CustomDataSkin createDefaultSkin() {
+                    return new CustomDataSkin(this);
+                }
+            };
+            worldMapView.setCountryViewFactory(country -> {
+                WorldMapView.CountryView view = new WorldMapView.CountryView(country);
+                views.add(view);
+                return view;
+            });
+            stage.setScene(new Scene(worldMapView, 400, 300));
+            stage.show();
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(2, views.size());
+        for (WorldMapView.CountryView view : views) {
+            if (view.getCountry() == WorldMapView.Country.FR) {
+                assertEquals(CURVE, view.getContent());
+            } else {
+                assertEquals(WorldMapView.Country.DE, view.getCountry());
+                assertEquals("M20.0,0.0L30.0,0.0L30.0,10.0z", view.getContent());
+            }
+        }
+    }
+
+    @Test
+    public void testDefaultData() throws TimeoutException {
+        List<WorldMapView.CountryView> views = new ArrayList<>();
+        FxToolkit.setupStage(stage -> {
+            WorldMapView worldMapView = new WorldMapView();
+            worldMapView.setCountryViewFactory(country -> {
+                WorldMapView.CountryView view = new WorldMapView.CountryView(country);
+                views.add(view);
+                return view;
+            });
+            stage.setScene(new Scene(worldMapView, 400, 300));
+            stage.show();
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertTrue(views.size() > 100);
+        for (WorldMapView.CountryView view : views) {
+            assertTrue(view.getContent().startsWith("M"));
+        }
+    }
+}
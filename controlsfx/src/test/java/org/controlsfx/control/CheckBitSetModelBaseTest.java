@@ -33,7 +33,10 @@ import javafx.collections.ObservableList;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.text.MessageFormat;
@@ -130,6 +133,60 @@ public class CheckBitSetModelBaseTest {
         assertTrue(model.isChecked(3));
     }
 
+    @Test
+    public void testCheckRangeCallsListenerOnce() {
+        model.check(2);
+        List<String> added = new ArrayList<>();
+        AtomicInteger count = new AtomicInteger();
+        model.getCheckedItems().addListener((ListChangeListener<String>) change -> {
+            count.getAndIncrement();
+            while (change.next()) {
+                assertFalse(change.wasRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        model.checkRange(1, 4);
+        assertEquals(1, count.get());
+        assertEquals(Arrays.asList(ROW_2_VALUE, ROW_4_VALUE), added);
+        assertEquals(Arrays.asList(ROW_2_VALUE, ROW_3_VALUE, ROW_4_VALUE), model.getCheckedItems());
+        assertEquals(Arrays.asList(1, 2, 3), model.getCheckedIndices());
+
+        model.checkAll();
+        assertEquals(2, count.get());
+        assertEquals(items, model.getCheckedItems());
+    }
+
+    @Test
+    public void testClearRangeCallsListenerOnce() {
+        model.checkAll();
+        List<String> removed = new ArrayList<>();
+        AtomicInteger count = new AtomicInteger();
+        model.getCheckedItems().addListener((ListChangeListener<String>) change -> {
+            count.getAndIncrement();
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        model.clearRange(1, 3);
+        assertEquals(1, count.get());
+        assertEquals(Arrays.asList(ROW_2_VALUE, ROW_3_VALUE), removed);
+        assertEquals(Arrays.asList(0, 3, 4), model.getCheckedIndices());
+        assertEquals(2, model.getCheckedIndices().indexOf(4));
+    }
+
+    @Test
+    public void testItemIndexFollowsItemChanges() {
+        assertEquals(3, model.getItemIndex(ROW_4_VALUE));
+        items.remove(ROW_1_VALUE);
+        assertEquals(2, model.getItemIndex(ROW_4_VALUE));
+        assertEquals(-1, model.getItemIndex(ROW_1_VALUE));
+        items.add(ROW_1_VALUE);
+        model.check(ROW_1_VALUE);
+        assertTrue(model.isChecked(4));
+    }
+
     @Test
     public void testClearChecksCallsListenerOnce() {
         model.checkIndices(1, 2, 3);
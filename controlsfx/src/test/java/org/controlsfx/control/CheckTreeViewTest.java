@@ -27,13 +27,20 @@
 
 package org.controlsfx.control;
 
+import javafx.collections.ListChangeListener;
 import javafx.scene.control.CheckBoxTreeItem;
 import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TreeItem;
 import org.junit.*;
 import org.testfx.api.FxRobot;
 import org.testfx.api.FxToolkit;
 
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class CheckTreeViewTest extends FxRobot {
     
@@ -85,4 +92,25 @@ public class CheckTreeViewTest extends FxRobot {
        checkTreeView.getCheckModel().checkAll();
        checkTreeView.getCheckModel().clearChecks();
     }
+
+    @Test
+    public void testBulkChecksFireSingleChange() {
+        AtomicInteger count = new AtomicInteger();
+        checkTreeView.getCheckModel().getCheckedItems().addListener((ListChangeListener<TreeItem<String>>) c -> count.incrementAndGet());
+
+        checkTreeView.getCheckModel().checkAll();
+        assertEquals(1, count.get());
+        assertEquals(5, checkTreeView.getCheckModel().getCheckedItems().size());
+        assertTrue(checkTreeView.getCheckModel().isChecked(treeItem_Samir));
+
+        checkTreeView.clearSubtree(treeItem_Henry);
+        assertEquals(2, count.get());
+        assertFalse(checkTreeView.getCheckModel().isChecked(treeItem_Henry));
+        assertFalse(treeItem_Henry.isSelected());
+
+        checkTreeView.getCheckModel().clearChecks();
+        assertEquals(3, count.get());
+        assertTrue(checkTreeView.getCheckModel().isEmpty());
+        assertFalse(treeItem_Eugene.isSelected());
+    }
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+
+/**
+ * Measures how many cell updates and how much time a {@link GridView} needs to
+ * follow appends, inserts and removals on a large item list.
+ * Not a unit test: run the main method, optionally passing the number of items.
+ */
+public class GridViewBenchmark {
+
+    private static final int OPERATIONS = 2_000;
+
+    private static int cellUpdates;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+
+        CountDownLatch startup = new CountDownLatch(1);
+        Platform.startup(startup::countDown);
+        startup.await();
+
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                ObservableList<Integer> items = FXCollections.observableArrayList();
+                for (int i = 0; i < size; i++) {
+                    items.add(i);
+                }
+                GridView<Integer> gridView = new GridView<>(items);
+                gridView.setCellFactory(g -> new GridCell<Integer>() {
+                    private final Rectangle graphic = new Rectangle(60, 60);
+
+                    {
+                        setGraphic(graphic);
+                    }
+
+                    @Override protected void updateItem(Integer item, boolean empty) {
+                        super.updateItem(item, empty);
+                        cellUpdates++;
+                        graphic.setVisible(!empty);
+                    }
+                });
+                Stage stage = new Stage();
+                stage.setScene(new Scene(new StackPane(gridView), 800, 600));
+                stage.show();
+
+                // the first round warms up
+                for (int round = 0; round < 2; round++) {
+                    boolean report = round > 0;
+                    run(gridView, report, "append", i -> items.add(size + i));
+                    run(gridView, report, "insert at top", i -> items.add(0, -i));
+                    run(gridView, report, "insert at end of view", i -> items.add(100, -i));
+                    run(gridView, report, "remove at top", i -> items.remove(0));
+                    run(gridView, report, "remove at end", i -> items.remove(items.size() - 1));
+                    run(gridView, report, "replace hidden", i -> items.set(items.size() - 1 - i, i));
+                    run(gridView, report, "replace at top", i -> items.set(i % 10, i));
+                    // back to the initial size
+                    items.remove(size, items.size());
+                }
+
+                stage.hide();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+    private static void run(GridView<Integer> gridView, boolean report, String operation, IntConsumer change) {
+        cellUpdates = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            change.accept(i);
+            // lay out after each change, as a pulse would
+            gridView.getScene().getRoot().applyCss();
+            gridView.getScene().getRoot().layout();
+        }
+        long time = System.nanoTime() - start;
+        if (!report) {
+            return;
+        }
+        System.out.printf("%-22s %,d items: %,8.0f ops/s, %,6d cell updates per op%n",
+                operation, gridView.getItems().size(), OPERATIONS * 1e9 / time, cellUpdates / OPERATIONS);
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.cell;
+
+import javafx.scene.image.Image;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ThumbnailLoaderTest {
+
+    // a 10x10 thumbnail uses 400 bytes
+    private static final long TWO_THUMBNAILS = 800;
+
+    private File folder;
+    private BlockingServer server;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws IOException {
+        folder = Files.createTempDirectory("thumbnails").toFile();
+        server = new BlockingServer(png(20, 20));
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        server.close();
+        for (File file : folder.listFiles()) {
+            file.delete();
+        }
+        folder.delete();
+    }
+
+    @Test
+    public void cacheKeepsRecentlyUsedThumbnailsWithinBudget() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(2, TWO_THUMBNAILS);
+        String a = file("a", 20, 20);
+        String b = file("b", 20, 20);
+        String c = file("c", 20, 20);
+
+        Image imageA = load(loader, a);
+        assertEquals(10, imageA.getWidth(), 0);
+        load(loader, b);
+        assertSame(imageA, loader.getCached(a, 10, 10));
+
+        // b is the least recently used thumbnail
+        load(loader, c);
+        assertNotNull(loader.getCached(a, 10, 10));
+        assertNull(loader.getCached(b, 10, 10));
+        assertNotNull(loader.getCached(c, 10, 10));
+
+        // another size is another thumbnail
+        assertNull(loader.getCached(a, 5, 5));
+        load(loader, a, 5, 5);
+        assertNotNull(loader.getCached(a, 5, 5));
+
+        loader.clear();
+        assertNull(loader.getCached(a, 10, 10));
+    }
+
+    @Test
+    public void loadsOfSameThumbnailAreShared() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(2, TWO_THUMBNAILS);
+        CompletableFuture<Image> first = new CompletableFuture<>();
+        CompletableFuture<Image> second = new CompletableFuture<>();
+        CompletableFuture<Image> cancelled = new CompletableFuture<>();
+        loader.load(server.url(), 10, 10, first::complete);
+        loader.load(server.url(), 10, 10, second::complete);
+        loader.load(server.url(), 10, 10, cancelled::complete).cancel();
+        server.release();
+
+        Image image = first.get(5, TimeUnit.SECONDS);
+        assertFalse(image.isError());
+        assertSame(image, second.get(5, TimeUnit.SECONDS));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertFalse(cancelled.isDone());
+        assertEquals(1, server.requests.get());
+    }
+
+    @Test
+    public void cancelledLoadIsSkipped() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(1, TWO_THUMBNAILS);
+        String a = file("a", 20, 20);
+        String b = file("b", 20, 20);
+        CompletableFuture<Image> blocked = new CompletableFuture<>();
+        CompletableFuture<Image> cancelled = new CompletableFuture<>();
+        // the only thread waits for the server, so the next load doesn't start
+        loader.load(server.url(), 10, 10, blocked::complete);
+        ThumbnailLoader.Request request = loader.load(a, 10, 10, cancelled::complete);
+        request.cancel();
+        assertTrue(request.isCancelled());
+        server.release();
+
+        assertNotNull(blocked.get(5, TimeUnit.SECONDS));
+        load(loader, b);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertFalse(cancelled.isDone());
+        assertNull(loader.getCached(a, 10, 10));
+
+        // a new request loads it again
+        assertFalse(load(loader, a).isError());
+    }
+
+    @Test
+    public void invalidSourceCompletesWithErrorImage() throws Exception {
+        ThumbnailLoader loader = new ThumbnailLoader(1, TWO_THUMBNAILS);
+        assertTrue(load(loader, "foo:bar").isError());
+        // the failed load doesn't block the next requests
+        assertTrue(load(loader, "foo:bar").isError());
+        assertTrue(load(loader, new File(folder, "missing.png").getPath()).isError());
+        assertNull(loader.getCached("foo:bar", 10, 10));
+    }
+
+    private static Image load(ThumbnailLoader loader, String source) throws Exception {
+        return load(loader, source, 10, 10);
+    }
+
+    private static Image load(ThumbnailLoader loader, String source, double width, double height) throws Exception {
+        CompletableFuture<Image> future = new CompletableFuture<>();
+        loader.load(source, width, height, future::complete);
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    private String file(String name, int width, int height) throws IOException {
+        File file = new File(folder, name + ".png");
+        Files.write(file.toPath(), png(width, height));
+        return file.getPath();
+    }
+
+    /**
+     * Returns a gray RGB png image.
+     */
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'});
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(width);
+        headerOut.writeInt(height);
+        headerOut.write(new byte[] {8, 2, 0, 0, 0});
+        chunk(out, "IHDR", header.toByteArray());
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(data)) {
+            byte[] row = new byte[1 + 3 * width];
+            for (int i = 1; i < row.length; i++) {
+                row[i] = (byte) 0x80;
+            }
+            for (int y = 0; y < height; y++) {
+                deflater.write(row);
+            }
+        }
+        chunk(out, "IDAT", data.toByteArray());
+        chunk(out, "IEND", new byte[0]);
+        return bytes.toByteArray();
+    }
+
+    private static void chunk(DataOutputStream out, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        out.writeInt(data.length);
+        out.write(typeBytes);
+        out.write(data);
+        out.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Serves an image over http once it is released, so the loads from it 
+     * stay in progress until then.
+     */
+    private static final class BlockingServer {
+        private final ServerSocket socket;
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger requests = new AtomicInteger();
+        private final Thread thread;
+
+        BlockingServer(byte[] image) throws IOException {
+            socket = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+            thread = new Thread(() -> {
+                while (!socket.isClosed()) {
+                    try (Socket client = socket.accept()) {
+                        requests.incrementAndGet();
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+                        String line;
+                        while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                            // skips the request headers
+                        }
+                        released.await();
+                        OutputStream out = client.getOutputStream();
+                        out.write(("HTTP/1.0 200 OK\r\nContent-Type: image/png\r\nContent-Length: " + image.length + "\r\n\r\n")
+                                .getBytes(StandardCharsets.US_ASCII));
+                        out.write(image);
+                        out.flush();
+                    } catch (IOException | InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        String url() {
+            return "http://" + socket.getInetAddress().getHostAddress() + ":" + socket.getLocalPort() + "/image.png";
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        void close() throws IOException {
+            released.countDown();
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnFilterTest {
+
+    private TableView<String> tableView;
+    private TableFilter<String> tableFilter;
+    private ColumnFilter<String,String> columnFilter;
+
+    @BeforeClass
+    public static void setupSpec() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void setup(ObservableList<String> items) {
+        tableView = new TableView<>(items);
+        TableColumn<String,String> column = new TableColumn<>("Value");
+        column.setCellValueFactory(param -> new SimpleStringProperty(param.getValue()));
+        tableView.getColumns().add(column);
+        tableFilter = TableFilter.forTableView(tableView).apply();
+        columnFilter = (ColumnFilter<String,String>) tableFilter.getColumnFilter(column).get();
+    }
+
+    @Test
+    public void testBulkChangeProducesSingleFilterValuesChange() {
+        ObservableList<String> items = FXCollections.observableArrayList("a", "b", "c", "d");
+        setup(items);
+        assertEquals(4, columnFilter.getFilterValues().size());
+
+        AtomicInteger changes = new AtomicInteger();
+        columnFilter.getFilterValues().addListener((ListChangeListener<FilterValue<String,String>>) c -> changes.incrementAndGet());
+
+        items.removeAll(Arrays.asList("a", "b", "c"));
+        assertEquals(1, changes.get());
+        assertEquals(1, columnFilter.getFilterValues().size());
+
+        changes.set(0);
+        items.addAll(Arrays.asList("e", "f", "g", "e"));
+        assertEquals(1, changes.get());
+        assertEquals(4, columnFilter.getFilterValues().size());
+
+        // a replacement results in at most one removal and one addition
+        changes.set(0);
+        items.setAll(Arrays.asList("a", "d"));
+        assertEquals(2, changes.get());
+        assertEquals(2, columnFilter.getFilterValues().size());
+    }
+
+    @Test
+    public void testSelectValueResolvesThroughIndex() {
+        ObservableList<String> items = FXCollections.observableArrayList("a", "b", "c");
+        setup(items);
+
+        columnFilter.unselectValue("b");
+        assertFalse(columnFilter.getFilterValue("b").selectedProperty().get());
+        assertTrue(columnFilter.getFilterValue("a").selectedProperty().get());
+        tableFilter.executeFilter();
+        assertEquals(Arrays.asList("a", "c"), tableView.getItems());
+
+        columnFilter.selectValue("b");
+        assertTrue(columnFilter.getFilterValue("b").selectedProperty().get());
+        tableFilter.executeFilter();
+        assertEquals(Arrays.asList("a", "b", "c"), tableView.getItems());
+
+        // values added later are indexed as well, removed ones are dropped
+        items.add("d");
+        tableFilter.unselectValue(tableView.getColumns().get(0), "d");
+        assertFalse(columnFilter.getFilterValue("d").selectedProperty().get());
+        items.remove("a");
+        assertNull(columnFilter.getFilterValue("a"));
+
+        // unknown values are ignored
+        columnFilter.unselectValue("x");
+        assertEquals(3, columnFilter.getFilterValues().size());
+        assertNotNull(columnFilter.getFilterValue("c"));
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class FilterValueSearchIndexTest {
+
+    // the search strategy of the column filters before the index
+    private static final BiPredicate<String,String> CONTAINS_SCAN =
+            (inputString, subjectString) -> subjectString.toLowerCase().contains(inputString.toLowerCase());
+
+    private static final BiPredicate<String,String> STARTS_WITH_SCAN =
+            (inputString, subjectString) -> subjectString.toLowerCase().startsWith(inputString.toLowerCase());
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "", "a", "A", "ab", "Ab", "abc", "ABC", "bca", "cab", "aaa", "abab", "null", "xyz", "b c", " ", "ÄB");
+
+    @BeforeClass
+    public static void setupSpec() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Test
+    public void testContainsIndexMatchesScan() {
+        ColumnFilter<String[],String> columnFilter = createColumnFilter();
+        assertSameMatches(columnFilter, IndexedSearchStrategy.CONTAINS_IGNORE_CASE, CONTAINS_SCAN);
+    }
+
+    @Test
+    public void testStartsWithIndexMatchesScan() {
+        ColumnFilter<String[],String> columnFilter = createColumnFilter();
+        assertSameMatches(columnFilter, IndexedSearchStrategy.STARTS_WITH_IGNORE_CASE, STARTS_WITH_SCAN);
+    }
+
+    @Test
+    public void testIndexFollowsValueChanges() {
+        ColumnFilter<String[],String> columnFilter = createColumnFilter();
+        ObservableList<String[]> items = columnFilter.getTableFilter().getBackingList();
+        assertSameMatches(columnFilter, IndexedSearchStrategy.CONTAINS_IGNORE_CASE, CONTAINS_SCAN);
+
+        items.add(new String[] {"Zabcz"});
+        items.remove(0, 10);
+        assertSameMatches(columnFilter, IndexedSearchStrategy.CONTAINS_IGNORE_CASE, CONTAINS_SCAN);
+    }
+
+    private static ColumnFilter<String[],String> createColumnFilter() {
+        // short strings over a small alphabet, with duplicates, case variants and nulls
+        Random random = new Random(42);
+        String alphabet = "abcABC Äx";
+        ObservableList<String[]> items = FXCollections.observableArrayList();
+        for (int i = 0; i < 2000; i++) {
+            String value = null;
+            if (random.nextInt(50) != 0) {
+                StringBuilder sb = new StringBuilder();
+                for (int j = random.nextInt(8); j > 0; j--) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                value = sb.toString();
+            }
+            items.add(new String[] {value});
+        }
+
+        TableView<String[]> tableView = new TableView<>(items);
+        TableColumn<String[],String> column = new TableColumn<>("Value");
+        column.setCellValueFactory(param -> new SimpleStringProperty(param.getValue()[0]));
+        tableView.getColumns().add(column);
+
+        TableFilter<String[]> tableFilter = TableFilter.forTableView(tableView).apply();
+        @SuppressWarnings("unchecked")
+        ColumnFilter<String[],String> columnFilter =
+                (ColumnFilter<String[],String>) tableFilter.getColumnFilter(column).get();
+        columnFilter.initialize();
+        return columnFilter;
+    }
+
+    private static void assertSameMatches(ColumnFilter<String[],String> columnFilter,
+                                          IndexedSearchStrategy strategy, BiPredicate<String,String> scan) {
+        columnFilter.setSearchStrategy(strategy);
+        for (String input : INPUTS) {
+            Predicate<FilterValue<?,?>> inScope = columnFilter.search(input);
+            List<String> expected = columnFilter.getFilterValues().stream()
+                    .filter(value -> scan.test(input, value.toString()))
+                    .map(FilterValue::toString)
+                    .collect(Collectors.toList());
+            List<String> actual = columnFilter.getFilterValues().stream()
+                    .filter(inScope)
+                    .map(FilterValue::toString)
+                    .collect(Collectors.toList());
+            assertEquals("input '" + input + "'", expected, actual);
+        }
+    }
+}
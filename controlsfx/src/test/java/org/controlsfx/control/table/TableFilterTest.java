@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TableFilterTest {
+
+    @BeforeClass
+    public static void setupSpec() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Test
+    public void testListenersFollowValueChanges() {
+        ObservableList<Row> items = FXCollections.observableArrayList(new Row("a"), new Row("b"), new Row("b"));
+        TableFilter<Row> tableFilter = createTableFilter(items, true);
+        assertTrue(tableFilter.isTrackingCellValues());
+        assertEquals(set("a", "b"), values(tableFilter));
+
+        items.get(0).name.set("c");
+        assertEquals(set("b", "c"), values(tableFilter));
+        items.get(1).name.set("d");
+        assertEquals(set("b", "c", "d"), values(tableFilter));
+    }
+
+    @Test
+    public void testUpdateEventsFollowValueChangesWithoutListeners() {
+        ObservableList<Row> items = FXCollections.observableArrayList(Row::observables);
+        items.addAll(new Row("a"), new Row("b"), new Row("b"));
+        TableFilter<Row> tableFilter = createTableFilter(items, false);
+        assertFalse(tableFilter.isTrackingCellValues());
+        assertEquals(set("a", "b"), values(tableFilter));
+
+        items.get(0).name.set("c");
+        assertEquals(set("b", "c"), values(tableFilter));
+        items.get(1).name.set("d");
+        assertEquals(set("b", "c", "d"), values(tableFilter));
+
+        items.remove(2);
+        assertEquals(set("c", "d"), values(tableFilter));
+    }
+
+    @Test
+    public void testInvalidateFollowsValueChangesWithoutListeners() {
+        ObservableList<Row> items = FXCollections.observableArrayList(new Row("a"), new Row("b"));
+        TableFilter<Row> tableFilter = createTableFilter(items, false);
+        assertEquals(set("a", "b"), values(tableFilter));
+
+        Row row = items.get(0);
+        row.name.set("c");
+        // no update event and no listener: the change is not seen yet
+        assertEquals(set("a", "b"), values(tableFilter));
+
+        tableFilter.invalidate(row);
+        assertEquals(set("b", "c"), values(tableFilter));
+
+        // the last known value is removed with the item
+        items.remove(row);
+        assertEquals(set("b"), values(tableFilter));
+    }
+
+    private static TableFilter<Row> createTableFilter(ObservableList<Row> items, boolean trackCellValues) {
+        TableView<Row> tableView = new TableView<>(items);
+        TableColumn<Row,String> column = new TableColumn<>("Name");
+        column.setCellValueFactory(param -> param.getValue().name);
+        tableView.getColumns().add(column);
+        return TableFilter.forTableView(tableView).trackCellValues(trackCellValues).apply();
+    }
+
+    private static Set<String> values(TableFilter<Row> tableFilter) {
+        return tableFilter.getColumnFilters().get(0).getFilterValues().stream()
+                .map(FilterValue::toString)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> set(String... values) {
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    private static final class Row {
+        private final StringProperty name;
+
+        Row(String name) {
+            this.name = new SimpleStringProperty(name);
+        }
+
+        Observable[] observables() {
+            return new Observable[] {name};
+        }
+    }
+}
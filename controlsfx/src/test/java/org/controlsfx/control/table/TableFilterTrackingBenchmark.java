@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2026, ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import javafx.application.Platform;
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares heap usage and setup time of a {@link TableFilter} tracking every cell
+ * with a listener against one relying on update events of the backing list.
+ * Not a unit test: run the main method, optionally passing the number of rows.
+ */
+public class TableFilterTrackingBenchmark {
+
+    private static final int COLUMNS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        CountDownLatch startup = new CountDownLatch(1);
+        Platform.startup(startup::countDown);
+        startup.await();
+
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                // warm up both code paths first
+                run(rows / 10, true);
+                run(rows / 10, false);
+                report("listeners", rows, run(rows, true));
+                report("update events", rows, run(rows, false));
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+    private static long[] run(int rows, boolean trackCellValues) {
+        ObservableList<Row> items = FXCollections.observableArrayList(Row::observables);
+        for (int i = 0; i < rows; i++) {
+            items.add(new Row(i));
+        }
+        TableView<Row> tableView = new TableView<>(items);
+        for (int c = 0; c < COLUMNS; c++) {
+            final int column = c;
+            TableColumn<Row, Number> tableColumn = new TableColumn<>("Column " + c);
+            tableColumn.setCellValueFactory(f -> f.getValue().values[column]);
+            tableView.getColumns().add(tableColumn);
+        }
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        TableFilter<Row> tableFilter = TableFilter.forTableView(tableView)
+                .trackCellValues(trackCellValues)
+                .apply();
+        long setup = System.nanoTime() - start;
+        long heap = usedHeap() - heapBefore;
+
+        start = System.nanoTime();
+        for (int i = 0; i < rows; i += 100) {
+            items.get(i).values[0].set(-i);
+        }
+        long updates = System.nanoTime() - start;
+
+        if (tableFilter.getColumnFilters().size() != COLUMNS) {
+            throw new IllegalStateException();
+        }
+        return new long[] { setup, heap, updates };
+    }
+
+    private static void report(String mode, int rows, long[] result) {
+        System.out.printf("%-14s %,d rows x %d columns: setup %,d ms, retained heap %,d KB, %,d updates %,d ms%n",
+                mode, rows, COLUMNS, result[0] / 1_000_000, result[1] / 1024, rows / 100, result[2] / 1_000_000);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static final class Row {
+        private final IntegerProperty[] values = new IntegerProperty[COLUMNS];
+
+        Row(int index) {
+            for (int c = 0; c < COLUMNS; c++) {
+                values[c] = new SimpleIntegerProperty(index % (1000 * (c + 1)));
+            }
+        }
+
+        Observable[] observables() {
+            return values;
+        }
+    }
+}
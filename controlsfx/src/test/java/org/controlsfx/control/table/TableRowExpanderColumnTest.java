@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.table;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableRow;
+import javafx.scene.control.TableView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class TableRowExpanderColumnTest {
+
+    private ObservableList<Item> items;
+    private TableRowExpanderColumn<Item> column;
+    private List<String> evicted;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        items = FXCollections.observableArrayList();
+        for (String name : Arrays.asList("a", "b", "c", "d", "e")) {
+            items.add(new Item(name));
+        }
+        evicted = new ArrayList<>();
+        FxToolkit.setupFixture(() -> {
+            column = new TableRowExpanderColumn<>(features -> new Label(features.getValue().name));
+            column.setOnExpandedNodeEvicted(node -> evicted.add(((Label) node).getText()));
+            TableView<Item> tableView = new TableView<>(items);
+            tableView.getColumns().add(column);
+        });
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsedNodes() {
+        column.setCachePolicy(TableRowExpanderColumn.CachePolicy.LRU);
+        column.setMaxCacheSize(2);
+        Node a = node(0);
+        node(1);
+        assertSame(a, node(0));
+
+        node(2);
+        assertEquals(Arrays.asList("b"), evicted);
+        assertEquals(2, column.getCacheSize());
+        assertEquals(2, column.getExpansionStateCount());
+        assertSame(a, node(0));
+
+        // expanded states are kept
+        column.getExpandedProperty(items.get(0)).set(true);
+        node(3);
+        node(4);
+        assertEquals(Arrays.asList("b", "c", "d"), evicted);
+        assertEquals(true, column.getExpandedProperty(items.get(0)).get());
+        assertSame(a, node(0));
+    }
+
+    @Test
+    public void lruKeepsShownNodes() {
+        column.setCachePolicy(TableRowExpanderColumn.CachePolicy.LRU);
+        column.setMaxCacheSize(1);
+        Node a = node(0);
+        Group row = new Group(a);
+        node(1);
+        assertEquals(Arrays.asList(), evicted);
+        assertSame(a, node(0));
+
+        row.getChildren().clear();
+        node(2);
+        assertEquals(Arrays.asList("a", "b"), evicted);
+    }
+
+    @Test
+    public void evictingStatesDoesNotReorderNodes() {
+        column.setCachePolicy(TableRowExpanderColumn.CachePolicy.LRU);
+        column.setMaxCacheSize(3);
+        Group row = new Group(node(0));
+        node(1);
+        column.getExpandedProperty(items.get(1)).set(true);
+
+        // evicts the collapsed state of an item without node, skipping the shown node of a
+        column.getExpandedProperty(new Item("x"));
+        column.getExpandedProperty(new Item("y"));
+        row.getChildren().clear();
+        column.getExpandedProperty(items.get(0)).set(true);
+        node(2);
+        column.getExpandedProperty(items.get(2)).set(true);
+        assertEquals(Arrays.asList(), evicted);
+
+        // the node of a is still the least recently used one
+        node(3);
+        assertEquals(Arrays.asList("a"), evicted);
+    }
+
+    @Test
+    public void weakKeysReleaseRemovedItems() throws Exception {
+        column.setCachePolicy(TableRowExpanderColumn.CachePolicy.WEAK_KEYS);
+        node(0);
+        node(1);
+        assertEquals(2, column.getCacheSize());
+        assertEquals(2, column.getExpansionStateCount());
+
+        FxToolkit.setupFixture(() -> items.remove(0));
+        for (int i = 0; i < 20 && column.getCacheSize() > 1; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        assertEquals(1, column.getCacheSize());
+        assertEquals(1, column.getExpansionStateCount());
+    }
+
+    @Test
+    public void weakKeysCreateCollectedNodesAgain() throws Exception {
+        column.setCachePolicy(TableRowExpanderColumn.CachePolicy.WEAK_KEYS);
+        int hash = System.identityHashCode(node(0));
+        for (int i = 0; i < 20 && column.getCacheMissCount() < 2; i++) {
+            System.gc();
+            Thread.sleep(50);
+            // a miss once the node has been collected
+            Node node = node(0);
+            if (System.identityHashCode(node) != hash) {
+                break;
+            }
+        }
+        assertEquals(2, column.getCacheMissCount());
+    }
+
+    @Test
+    public void hitAndMissCounts() {
+        assertEquals(0, column.getCacheHitRate(), 0);
+        Node a = node(0);
+        assertSame(a, node(0));
+        assertSame(a, node(0));
+        assertNotSame(a, node(1));
+        assertEquals(2, column.getCacheHitCount());
+        assertEquals(2, column.getCacheMissCount());
+        assertEquals(0.5, column.getCacheHitRate(), 0);
+
+        column.resetCacheStatistics();
+        assertEquals(0, column.getCacheHitCount());
+        assertEquals(0, column.getCacheMissCount());
+        assertEquals(0, column.getCacheHitRate(), 0);
+
+        assertSame(a, column.removeExpandedNode(items.get(0)));
+        assertNotSame(a, node(0));
+        assertEquals(1, column.getCacheMissCount());
+    }
+
+    private Node node(int index) {
+        TableRow<Item> row = new TableRow<>();
+        row.updateIndex(index);
+        return column.getOrCreateExpandedNode(row);
+    }
+
+    private static final class Item {
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableColumn.SortType;
+import javafx.scene.control.TableView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncSortPolicyTest {
+
+    private static class Row {
+        private final Integer key;
+        private final Double value;
+        private final String name;
+
+        Row(Integer key, Double value, String name) {
+            this.key = key;
+            this.value = value;
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return key + " " + value + " " + name;
+        }
+    }
+
+    /*
+     * Holds the sort tasks until they are run on the test thread
+     */
+    private static class QueueExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+            WaitForAsyncUtils.waitForFxEvents();
+        }
+    }
+
+    private QueueExecutor executor;
+    private AsyncSortPolicy<Row> sortPolicy;
+    private TableColumn<Row, Integer> keyColumn;
+    private TableColumn<Row, Double> valueColumn;
+    private TableColumn<Row, String> nameColumn;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() {
+        executor = new QueueExecutor();
+        sortPolicy = new AsyncSortPolicy<>(executor);
+        keyColumn = new TableColumn<>("Key");
+        keyColumn.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue().key));
+        valueColumn = new TableColumn<>("Value");
+        valueColumn.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue().value));
+        nameColumn = new TableColumn<>("Name");
+        nameColumn.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue().name));
+    }
+
+    private static List<Row> createRows(int count, long seed) {
+        Random random = new Random(seed);
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(random.nextInt(10) == 0 ? null : random.nextInt(count / 4 + 1),
+                    random.nextInt(10) == 0 ? null : (double) random.nextInt(20),
+                    random.nextInt(10) == 0 ? null : "name " + random.nextInt(50)));
+        }
+        return rows;
+    }
+
+    private TableView<Row> createTable(ObservableList<Row> items) {
+        TableView<Row> table = new TableView2<>(items);
+        table.getColumns().setAll(Arrays.asList(keyColumn, valueColumn, nameColumn));
+        table.setSortPolicy(sortPolicy);
+        return table;
+    }
+
+    private static <S> List<S> sortedCopy(List<S> items, TableView<S> table) {
+        List<S> sorted = new ArrayList<>(items);
+        sorted.sort(table.getComparator());
+        return sorted;
+    }
+
+    private static void fx(Runnable runnable) {
+        try {
+            FxToolkit.setupFixture(runnable);
+        } catch (TimeoutException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testSortIsAppliedWithOneChange() {
+        ObservableList<Row> items = FXCollections.observableArrayList(createRows(2000, 1));
+        List<Row> original = new ArrayList<>(items);
+        TableView<Row> table = createTable(items);
+        Row selected = items.get(42);
+        Row focused = items.get(7);
+        AtomicInteger changes = new AtomicInteger();
+        fx(() -> {
+            table.getSelectionModel().select(selected);
+            table.getFocusModel().focus(7);
+            keyColumn.setSortType(SortType.DESCENDING);
+            table.getSortOrder().setAll(Arrays.asList(keyColumn, valueColumn));
+        });
+        assertTrue(sortPolicy.isRunning());
+        assertEquals(original, items);
+
+        AtomicInteger permutations = new AtomicInteger();
+        items.addListener((ListChangeListener<Row>) c -> {
+            changes.incrementAndGet();
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    permutations.incrementAndGet();
+                }
+            }
+        });
+        executor.runAll();
+        assertFalse(sortPolicy.isRunning());
+        assertEquals(1, changes.get());
+        assertEquals(1, permutations.get());
+        // the sort is stable, as the default sort policy
+        assertEquals(sortedCopy(original, table), items);
+        assertEquals(Arrays.asList(selected), table.getSelectionModel().getSelectedItems());
+        assertSame(focused, table.getFocusModel().getFocusedItem());
+    }
+
+    @Test
+    public void testLargeSortMatchesTableComparator() {
+        ObservableList<Row> items = FXCollections.observableArrayList(createRows(100_000, 2));
+        List<Row> original = new ArrayList<>(items);
+        TableView<Row> table = createTable(items);
+        fx(() -> {
+            valueColumn.setSortType(SortType.DESCENDING);
+            table.getSortOrder().setAll(Arrays.asList(nameColumn, valueColumn, keyColumn));
+        });
+        executor.runAll();
+        assertEquals(sortedCopy(original, table), items);
+    }
+
+    @Test
+    public void testItemsChangedDuringSort() {
+        ObservableList<Row> items = FXCollections.observableArrayList(createRows(500, 3));
+        TableView<Row> table = createTable(items);
+        fx(() -> table.getSortOrder().setAll(Arrays.asList(keyColumn, nameColumn)));
+        Row first = new Row(-1, null, null);
+        Row last = new Row(1_000, null, null);
+        fx(() -> {
+            items.remove(10, 20);
+            items.add(0, last);
+            items.add(first);
+        });
+        List<Row> current = new ArrayList<>(items);
+        executor.runAll();
+        assertEquals(sortedCopy(current, table), items);
+        // null keys are sorted first
+        assertEquals(items.stream().filter(row -> row.key == null).count(), items.indexOf(first));
+        assertSame(last, items.get(items.size() - 1));
+    }
+
+    @Test
+    public void testSortAgainCancelsRunningSort() {
+        ObservableList<Row> items = FXCollections.observableArrayList(createRows(500, 4));
+        List<Row> original = new ArrayList<>(items);
+        TableView<Row> table = createTable(items);
+        fx(() -> table.getSortOrder().setAll(Arrays.asList(keyColumn)));
+        fx(() -> keyColumn.setSortType(SortType.DESCENDING));
+        AtomicInteger changes = new AtomicInteger();
+        items.addListener((ListChangeListener<Row>) c -> changes.incrementAndGet());
+        executor.runAll();
+        assertEquals(1, changes.get());
+        assertEquals(sortedCopy(original, table), items);
+    }
+
+    @Test
+    public void testFilteredTableViewSortsInBackground() {
+        ObservableList<Row> rows = FXCollections.observableArrayList(createRows(2000, 5));
+        FilteredTableView<Row> table = new FilteredTableView<>();
+        FilteredTableColumn<Row, Integer> filteredKeyColumn = new FilteredTableColumn<>("Key");
+        filteredKeyColumn.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue().key));
+        fx(() -> {
+            FilteredTableView.configureForFiltering(table, rows);
+            table.getColumns().setAll(Arrays.asList(filteredKeyColumn, nameColumn));
+            table.setSortPolicy(sortPolicy);
+            table.getSortOrder().setAll(Arrays.asList(filteredKeyColumn, nameColumn));
+        });
+        // the sorted list isn't sorted by the table comparator on the FX thread
+        assertTrue(sortPolicy.isRunning());
+        assertEquals(rows, table.getItems());
+
+        executor.runAll();
+        assertEquals(sortedCopy(rows, table), table.getItems());
+        assertSame(sortPolicy.getComparator(), ((SortedList<Row>) table.getItems()).getComparator());
+
+        // filtering and updates keep the sort order
+        fx(() -> {
+            filteredKeyColumn.setPredicate(key -> key != null && key % 2 == 0);
+            rows.add(new Row(0, null, "first"));
+        });
+        List<Row> expected = new ArrayList<>(rows);
+        expected.removeIf(row -> row.key == null || row.key % 2 != 0);
+        assertEquals(sortedCopy(expected, table), table.getItems());
+        assertEquals("first", table.getItems().get(0).name);
+        assertEquals(rows, table.getBackingList());
+
+        // back to the default sort policy, the sorted list is bound to the table comparator
+        fx(() -> {
+            table.setSortPolicy(t -> TableView.DEFAULT_SORT_POLICY.call(t));
+            nameColumn.setSortType(SortType.DESCENDING);
+        });
+        assertFalse(sortPolicy.isRunning());
+        assertEquals(sortedCopy(expected, table), table.getItems());
+    }
+}
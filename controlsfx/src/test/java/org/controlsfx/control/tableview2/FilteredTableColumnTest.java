@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FilteredTableColumnTest {
+
+    private static class Person {
+        private final StringProperty name = new SimpleStringProperty();
+
+        Person(String name) {
+            this.name.set(name);
+        }
+    }
+
+    private ObservableList<Person> people;
+    private FilteredTableView<Person> tableView;
+    private FilteredTableColumn<Person, String> column;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        people = FXCollections.observableArrayList(new Person("Anna"), new Person("Bob"), new Person("Carl"));
+        FxToolkit.setupFixture(() -> {
+            tableView = new FilteredTableView<>();
+            column = new FilteredTableColumn<>("Name");
+            column.setCellValueFactory(p -> p.getValue().name);
+            tableView.getColumns().add(column);
+            FilteredTableView.configureForFiltering(tableView, people);
+            column.setPredicate(name -> name.startsWith("A"));
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    @Test
+    public void testRowsKeptBySetAllAreStillTracked() throws TimeoutException {
+        Person anna = people.get(0);
+        Person bob = people.get(1);
+        assertEquals(Arrays.asList(anna), tableView.getItems());
+
+        FxToolkit.setupFixture(() -> people.setAll(anna, bob));
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // a change of the cell value filters the table again
+        FxToolkit.setupFixture(() -> bob.name.set("Andrew"));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(Arrays.asList(anna, bob), tableView.getItems());
+
+        // and the row can be removed later on: list listeners report their
+        // exceptions to the uncaught exception handler
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        FxToolkit.setupFixture(() -> {
+            Thread thread = Thread.currentThread();
+            Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+            thread.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+            try {
+                people.remove(bob);
+            } finally {
+                thread.setUncaughtExceptionHandler(handler);
+            }
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        assertNull(failure.get());
+        assertEquals(Arrays.asList(anna), tableView.getItems());
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.filter.filtereditor;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.layout.VBox;
+import javafx.util.StringConverter;
+import org.controlsfx.control.tableview2.FilteredTableColumn;
+import org.controlsfx.control.tableview2.FilteredTableView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class FilterEditorTest {
+
+    private ObservableList<Integer> items;
+    private FilterEditor<Integer, Integer> filterEditor;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        items = FXCollections.observableArrayList(IntStream.rangeClosed(1, 30).boxed().collect(Collectors.toList()));
+        FxToolkit.setupStage(stage -> {
+            FilteredTableView<Integer> tableView = new FilteredTableView<>();
+            FilteredTableView.configureForFiltering(tableView, items);
+            FilteredTableColumn<Integer, Integer> column = new FilteredTableColumn<>("Value");
+            column.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue()));
+            tableView.getColumns().add(column);
+            SouthFilter<Integer, Integer> southFilter = new SouthFilter<>(column, Integer.class);
+            filterEditor = southFilter.getFilterEditor();
+            filterEditor.setSuggestionLimit(5);
+            stage.setScene(new Scene(new VBox(southFilter, tableView), 400, 400));
+            stage.show();
+        });
+    }
+
+    @Test
+    public void testSuggestionsReloadedOnConverterChange() throws TimeoutException {
+        FxToolkit.setupFixture(() -> filterEditor.show());
+        WaitForAsyncUtils.waitForFxEvents();
+        // sorted by their string value
+        assertEquals(Arrays.asList(1, 10, 11, 12, 13), filterEditor.getItems());
+
+        FxToolkit.setupFixture(() -> filterEditor.setConverter(new StringConverter<Integer>() {
+            @Override public String toString(Integer value) {
+                return value == null ? "" : String.format("%03d", value);
+            }
+
+            @Override public Integer fromString(String string) {
+                return string == null || string.isEmpty() ? null : Integer.valueOf(string);
+            }
+        }));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), filterEditor.getItems());
+        FxToolkit.setupFixture(() -> filterEditor.hide());
+    }
+
+    @Test
+    public void testSuggestionsReloadedOnItemsChange() throws TimeoutException {
+        FxToolkit.setupFixture(() -> filterEditor.show());
+        WaitForAsyncUtils.waitForFxEvents();
+        FxToolkit.setupFixture(() -> items.removeIf(i -> i == 1 || i == 11));
+        assertEquals(Arrays.asList(10, 12, 13, 14, 15), filterEditor.getItems());
+        FxToolkit.setupFixture(() -> filterEditor.hide());
+    }
+}
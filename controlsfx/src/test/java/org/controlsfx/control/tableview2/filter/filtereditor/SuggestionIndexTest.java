@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.filter.filtereditor;
+
+import javafx.util.StringConverter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SuggestionIndexTest {
+
+    private static final List<String> NAMES = Arrays.asList("bob", "Anna", "anton", "Bert", "carla", "Ann", "Hannah");
+
+    @Test
+    public void testPrefixIgnoresCase() {
+        SuggestionIndex<String> index = new SuggestionIndex<>();
+        assertFalse(index.isValid());
+        index.build(NAMES, null);
+        assertTrue(index.isValid());
+
+        assertEquals(Arrays.asList("Ann", "Anna", "anton"), index.get("an", index.from("an"), 10));
+        assertEquals(Arrays.asList("Ann", "Anna", "anton"), index.get("AN", index.from("AN"), 10));
+        assertEquals(Arrays.asList("Bert", "bob"), index.get("b", index.from("b"), 10));
+        assertEquals(Collections.emptyList(), index.get("z", index.from("z"), 10));
+        assertEquals(NAMES.size(), index.get("", index.from(""), 10).size());
+
+        index.invalidate();
+        assertFalse(index.isValid());
+    }
+
+    @Test
+    public void testPages() {
+        SuggestionIndex<String> index = new SuggestionIndex<>();
+        index.build(NAMES, null);
+        int position = index.from("a");
+        List<String> page = index.get("a", position, 2);
+        assertEquals(Arrays.asList("Ann", "Anna"), page);
+        position += page.size();
+        assertEquals(Arrays.asList("anton"), index.get("a", position, 2));
+        assertEquals(Collections.emptyList(), index.get("a", position + 1, 2));
+    }
+
+    @Test
+    public void testConverter() {
+        StringConverter<Integer> converter = new StringConverter<Integer>() {
+            @Override public String toString(Integer value) {
+                return String.format("%03d", value);
+            }
+
+            @Override public Integer fromString(String string) {
+                return Integer.valueOf(string);
+            }
+        };
+        List<Integer> values = Arrays.asList(1, 10, 2, 100, 20);
+        SuggestionIndex<Integer> index = new SuggestionIndex<>();
+        index.build(values, null);
+        assertEquals(Arrays.asList(1, 10, 100), index.get("1", index.from("1"), 10));
+        index.build(values, converter);
+        assertEquals(Arrays.asList(1, 2, 10, 20, 100), index.get("", index.from(""), 10));
+        assertEquals(Arrays.asList(1, 2), index.get("00", index.from("00"), 10));
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.filter.popupfilter;
+
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.util.StringConverter;
+import org.controlsfx.control.tableview2.FilteredTableColumn;
+import org.controlsfx.control.tableview2.FilteredTableView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PopupStringFilterTest {
+
+    private static class Person {
+        private final StringProperty name = new SimpleStringProperty();
+
+        Person(String name) {
+            this.name.set(name);
+        }
+
+        @Override
+        public String toString() {
+            return name.get();
+        }
+    }
+
+    private ObservableList<Person> people;
+    private FilteredTableView<Person> tableView;
+    private PopupStringFilter<Person, Person> popupFilter;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws Exception {
+        people = FXCollections.observableArrayList(p -> new Observable[] { p.name });
+        people.addAll(new Person("Anna"), new Person("Bob"), new Person("Carl"));
+        FxToolkit.setupFixture(() -> {
+            tableView = new FilteredTableView<>();
+            FilteredTableView.configureForFiltering(tableView, people);
+            FilteredTableColumn<Person, Person> column = new FilteredTableColumn<>("Person");
+            column.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue()));
+            tableView.getColumns().add(column);
+            popupFilter = new PopupStringFilter<>(column);
+            popupFilter.setText(popupFilter.getOperations().get(2) + " \"Bo\""); // contains
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
+    @Test
+    public void testUpdatedItemIsFilteredAgain() throws Exception {
+        Person anna = people.get(0);
+        assertEquals(1, tableView.getItems().size());
+        assertFalse(tableView.getItems().contains(anna));
+
+        FxToolkit.setupFixture(() -> anna.name.set("Bobby"));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(2, tableView.getItems().size());
+        assertTrue(tableView.getItems().contains(anna));
+
+        FxToolkit.setupFixture(() -> anna.name.set("Anna"));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(1, tableView.getItems().size());
+        assertFalse(tableView.getItems().contains(anna));
+    }
+
+    @Test
+    public void testItemSetAgainIsFilteredAgain() throws Exception {
+        Person carl = people.get(2);
+        carl.name.set("Bo");
+        FxToolkit.setupFixture(() -> people.set(2, carl));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(tableView.getItems().contains(carl));
+    }
+
+    @Test
+    public void testOnlyChangedItemIsConvertedAgain() throws Exception {
+        AtomicInteger conversions = new AtomicInteger();
+        FxToolkit.setupFixture(() -> {
+            popupFilter.setConverter(new StringConverter<Person>() {
+                @Override public String toString(Person person) {
+                    conversions.incrementAndGet();
+                    return person.name.get();
+                }
+
+                @Override public Person fromString(String string) {
+                    return null;
+                }
+            });
+            popupFilter.setText(popupFilter.getOperations().get(2) + " \"Car\"");
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(1, tableView.getItems().size());
+
+        conversions.set(0);
+        Person anna = people.get(0);
+        FxToolkit.setupFixture(() -> anna.name.set("Caroline"));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertEquals(2, tableView.getItems().size());
+        assertTrue(tableView.getItems().contains(anna));
+        assertEquals(1, conversions.get());
+    }
+}
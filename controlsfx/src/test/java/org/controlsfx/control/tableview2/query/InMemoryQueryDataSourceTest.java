@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import impl.org.controlsfx.tableview2.filter.parser.CriterionPredicate;
+import impl.org.controlsfx.tableview2.filter.parser.number.NumberParser;
+import impl.org.controlsfx.tableview2.filter.parser.string.StringParser;
+import javafx.util.StringConverter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryQueryDataSourceTest {
+
+    private static class Person {
+        private final String name;
+        private final Integer age;
+
+        Person(String name, Integer age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    private List<Person> persons;
+    private InMemoryQueryDataSource<Person> dataSource;
+
+    @Before
+    public void setup() {
+        persons = Arrays.asList(
+                new Person("Anna", 31), new Person("anton", 25), new Person("Bob", null),
+                new Person("Bert", 25), new Person(null, 40), new Person("Carla", 52),
+                new Person("Nat", 31), new Person("Hannah", 18));
+        dataSource = new InMemoryQueryDataSource<>(persons);
+        dataSource.addColumn("name", p -> p.name);
+        dataSource.addColumn("age", p -> p.age);
+    }
+
+    @Test
+    public void testStringCriteriaMatchParserPredicates() {
+        for (boolean caseSensitive : new boolean[] {true, false}) {
+            StringParser<String> parser = new StringParser<>(caseSensitive);
+            for (String operator : parser.operators()) {
+                String text = operator + " \"an\" ";
+                if (! parser.isValid(text.trim())) {
+                    continue;
+                }
+                assertSameRows(parser.parse(text.trim()), "name", p -> p.name);
+            }
+        }
+    }
+
+    @Test
+    public void testStringCriteriaWithConverterMatchParserPredicates() {
+        // converted strings, with null for some values and for null
+        StringConverter<Integer> converter = new StringConverter<Integer>() {
+            @Override public String toString(Integer age) {
+                return age == null || age > 50 ? null : age + " Years";
+            }
+
+            @Override public Integer fromString(String string) {
+                return null;
+            }
+        };
+        for (boolean caseSensitive : new boolean[] {true, false}) {
+            StringParser<Integer> parser = new StringParser<>(caseSensitive, converter);
+            for (String operator : parser.operators()) {
+                for (String value : new String[] {"\"1 y\"", "\"31 Years\"", "\"null\""}) {
+                    String text = operator + " " + value;
+                    if (parser.isValid(text)) {
+                        Predicate<Integer> predicate = parser.parse(text);
+                        assertSame(converter, ((FilterCondition) CriterionPredicate.getCriterion(predicate)).getConverter());
+                        assertSameRows(predicate, "age", p -> p.age);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNumberCriteriaMatchParserPredicates() {
+        NumberParser<Integer> parser = new NumberParser<>();
+        for (String operator : parser.operators()) {
+            if (parser.isValid(operator + " 31")) {
+                assertSameRows(parser.parse(operator + " 31"), "age", p -> p.age);
+            }
+        }
+    }
+
+    @Test
+    public void testAggregationCriteria() {
+        NumberParser<Integer> parser = new NumberParser<>();
+        String text = parser.operators().get(3) + " 20 " + parser.operators().get(6).trim() + " " + 
+                parser.operators().get(5) + " 40";
+        Predicate<Integer> predicate = parser.parse(text);
+        assertNotNull(predicate);
+        assertTrue(CriterionPredicate.getCriterion(predicate) instanceof FilterAggregation);
+        assertSameRows(predicate, "age", p -> p.age);
+    }
+
+    @Test
+    public void testCustomPredicateHasNoCriterion() {
+        Predicate<Integer> predicate = age -> age != null && age % 2 == 0;
+        assertNull(CriterionPredicate.getCriterion(predicate));
+        assertSameRows(predicate, "age", p -> p.age);
+    }
+
+    @Test
+    public void testSortAndPage() {
+        FilterQuery query = new FilterQuery(Collections.emptyList(), 
+                Arrays.asList(new FilterQuery.Sort("age", false), new FilterQuery.Sort("name", true)), 2, 3);
+        QueryResult<Person> result = dataSource.fetch(query);
+        assertEquals(persons.size(), result.getTotalCount());
+        // 52 Carla, 40 null, 31 Anna, 31 Nat, 25 anton...
+        assertEquals(Arrays.asList("Anna", "Nat", "anton"), 
+                result.getRows().stream().map(p -> p.name).collect(Collectors.toList()));
+
+        query = new FilterQuery(Collections.emptyList(), Collections.emptyList(), 6, 10);
+        assertEquals(2, dataSource.fetch(query).getRows().size());
+        query = new FilterQuery(Collections.emptyList(), Collections.emptyList(), 20, 10);
+        assertTrue(dataSource.fetch(query).getRows().isEmpty());
+    }
+
+    private <T> void assertSameRows(Predicate<T> predicate, String columnId, java.util.function.Function<Person, T> value) {
+        assertNotNull(predicate);
+        List<Person> expected = new ArrayList<>();
+        for (Person person : persons) {
+            if (predicate.test(value.apply(person))) {
+                expected.add(person);
+            }
+        }
+        FilterQuery.Filter filter = new FilterQuery.Filter(columnId, CriterionPredicate.getCriterion(predicate), predicate);
+        QueryResult<Person> result = dataSource.fetch(new FilterQuery(Collections.singletonList(filter), 
+                Collections.emptyList(), 0, Integer.MAX_VALUE));
+        assertEquals(filter.toString(), expected, result.getRows());
+        assertEquals(expected.size(), result.getTotalCount());
+    }
+}
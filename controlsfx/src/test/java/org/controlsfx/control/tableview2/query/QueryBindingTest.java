@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.tableview2.query;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.control.Pagination;
+import org.controlsfx.control.tableview2.FilteredTableColumn;
+import org.controlsfx.control.tableview2.FilteredTableView;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class QueryBindingTest {
+
+    private List<Integer> ages;
+    private FilteredTableView<Integer> tableView;
+    private FilteredTableColumn<Integer, Integer> ageColumn;
+    private Pagination pagination;
+    private QueryBinding<Integer> binding;
+
+    @BeforeClass
+    public static void setupClass() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        ages = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        InMemoryQueryDataSource<Integer> dataSource = new InMemoryQueryDataSource<>(ages);
+        dataSource.addColumn("age", age -> age);
+        FxToolkit.setupFixture(() -> {
+            tableView = new FilteredTableView<>();
+            ageColumn = new FilteredTableColumn<>("Age");
+            ageColumn.setId("age");
+            ageColumn.setCellValueFactory(p -> new ReadOnlyObjectWrapper<>(p.getValue()));
+            tableView.getColumns().setAll(Arrays.asList(ageColumn));
+            pagination = new Pagination();
+            // fetch on the calling thread
+            binding = new QueryBinding<>(tableView, dataSource, Runnable::run);
+            binding.setPageSize(10);
+        });
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return new ArrayList<>(IntStream.range(from, to).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testFilterResetsBidirectionallyBoundPage() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            pagination.pageCountProperty().bind(binding.pageCountProperty());
+            binding.pageProperty().bindBidirectional(pagination.currentPageIndexProperty());
+            assertEquals(100, pagination.getPageCount());
+
+            pagination.setCurrentPageIndex(3);
+            assertEquals(3, binding.getPage());
+            assertEquals(range(30, 40), tableView.getItems());
+
+            ageColumn.setPredicate(age -> age >= 500);
+            assertEquals(0, binding.getPage());
+            assertEquals(0, pagination.getCurrentPageIndex());
+            assertEquals(50, pagination.getPageCount());
+            assertEquals(range(500, 510), tableView.getItems());
+        });
+    }
+
+    @Test
+    public void testFilterKeepsUnidirectionallyBoundPage() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            pagination.pageCountProperty().bind(binding.pageCountProperty());
+            binding.pageProperty().bind(pagination.currentPageIndexProperty());
+            pagination.setCurrentPageIndex(3);
+            assertEquals(range(30, 40), tableView.getItems());
+
+            ageColumn.setPredicate(age -> age >= 500);
+            assertEquals(3, binding.getPage());
+            assertEquals(range(530, 540), tableView.getItems());
+            assertEquals(500, binding.getTotalCount());
+        });
+    }
+
+    @Test
+    public void testFilterResetsUnboundPage() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            binding.setPage(5);
+            assertEquals(range(50, 60), tableView.getItems());
+            ageColumn.setPredicate(age -> age % 2 == 0);
+            assertEquals(0, binding.getPage());
+            assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10, 12, 14, 16, 18), tableView.getItems());
+        });
+    }
+
+    @Test
+    public void testErrorStopsLoading() throws TimeoutException {
+        FxToolkit.setupFixture(() -> {
+            QueryDataSource<Integer> dataSource = query -> {
+                throw new Error("fetch failed");
+            };
+            // fetch on the calling thread, and drop the error as a pool thread would
+            QueryBinding<Integer> failing = new QueryBinding<>(new FilteredTableView<>(), dataSource, command -> {
+                try {
+                    command.run();
+                } catch (Error e) {
+                    // expected
+                }
+            });
+            failing.refresh();
+            assertFalse(failing.isLoading());
+            assertNull(failing.getException());
+        });
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2026 ControlsFX
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *     * Redistributions of source code must retain the above copyright
+ * notice, this list of conditions and the following disclaimer.
+ *     * Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *     * Neither the name of ControlsFX, any associated website, nor the
+ * names of its contributors may be used to endorse or promote products
+ * derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL CONTROLSFX BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.controlsfx.control.textfield;
+
+import impl.org.controlsfx.autocompletion.AutoCompletionTextFieldBinding;
+import javafx.scene.Scene;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.StackPane;
+import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AutoCompletionBindingTest {
+
+    private final List<ISuggestionRequest> requests = new CopyOnWriteArrayList<>();
+    private TextField textField;
+    private AutoCompletionBinding<String> binding;
+
+    @BeforeClass
+    public static void setupSpec() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    @Before
+    public void setup() throws TimeoutException {
+        FxToolkit.setupStage(stage -> {
+            textField = new TextField();
+            stage.setScene(new Scene(new StackPane(textField), 400, 300));
+            stage.show();
+            binding = new AutoCompletionTextFieldBinding<>(textField, this::suggest);
+        });
+    }
+
+    @After
+    public void after() throws TimeoutException {
+        FxToolkit.setupFixture(() -> binding.dispose());
+        FxToolkit.hideStage();
+    }
+
+    /*
+     * Counts the requests, and suggests the user text followed by "!"
+     */
+    private Collection<String> suggest(ISuggestionRequest request) {
+        requests.add(request);
+        return Collections.singletonList(request.getUserText() + "!");
+    }
+
+    @Test
+    public void testRapidInputChangesAreDebounced() throws Exception {
+        binding.setExecutor(Runnable::run);
+        binding.setDelay(200);
+        binding.setUserInput("a");
+        binding.setUserInput("ab");
+        binding.setUserInput("abc");
+
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> !requests.isEmpty());
+        // longer than the delay, to catch a late fetch
+        Thread.sleep(400);
+        assertEquals(1, requests.size());
+        assertEquals("abc", requests.get(0).getUserText());
+    }
+
+    @Test
+    public void testOutdatedRequestIsCancelled() {
+        binding.setExecutor(Runnable::run);
+        binding.setDelay(0);
+        binding.setUserInput("a");
+        binding.setUserInput("ab");
+
+        assertEquals(2, requests.size());
+        assertTrue(requests.get(0).isCancelled());
+        assertFalse(requests.get(1).isCancelled());
+    }
+
+    @Test
+    public void testOutdatedSuggestionsAreNotShown() throws TimeoutException {
+        Queue<Runnable> fetches = new ConcurrentLinkedQueue<>();
+        binding.setExecutor(fetches::add);
+        binding.setDelay(0);
+        FxToolkit.setupFixture(() -> {
+            binding.setUserInput("a");
+            // the provider returns before the user input changes again
+            fetches.poll().run();
+            binding.setUserInput("ab");
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        assertFalse(binding.getAutoCompletionPopup().isShowing());
+
+        FxToolkit.setupFixture(() -> fetches.poll().run());
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(binding.getAutoCompletionPopup().isShowing());
+        assertEquals(Collections.singletonList("ab!"), binding.getAutoCompletionPopup().getSuggestions());
+    }
+
+    @Test
+    public void testAsyncProviderErrorIsLogged() throws TimeoutException {
+        Exception failure = new Exception("back-end down");
+        AsyncSuggestionProvider<String> provider = request -> subscriber -> subscriber.onError(failure);
+        List<LogRecord> records = new CopyOnWriteArrayList<>();
+        Handler handler = new Handler() {
+            @Override public void publish(LogRecord record) {
+                records.add(record);
+            }
+            @Override public void flush() {
+            }
+            @Override public void close() {
+            }
+        };
+        Logger logger = Logger.getLogger(AutoCompletionBinding.class.getName());
+        logger.addHandler(handler);
+        try {
+            FxToolkit.setupFixture(() -> {
+                AutoCompletionBinding<String> asyncBinding = TextFields.bindAsyncAutoCompletion(textField, provider);
+                asyncBinding.setExecutor(Runnable::run);
+                asyncBinding.setDelay(0);
+                asyncBinding.setUserInput("a");
+                asyncBinding.dispose();
+            });
+        } finally {
+            logger.removeHandler(handler);
+        }
+        assertEquals(1, records.size());
+        assertSame(failure, records.get(0).getThrown());
+        assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    public void testDefaultExecutor() throws Exception {
+        binding.setExecutor(null);
+        binding.setDelay(0);
+        binding.setUserInput("a");
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> !requests.isEmpty());
+        assertEquals("a", requests.get(0).getUserText());
+    }
+}